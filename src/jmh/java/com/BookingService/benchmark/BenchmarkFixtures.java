@@ -0,0 +1,247 @@
+package com.BookingService.benchmark;
+
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.BookingService.dto.BookingDto;
+import com.BookingService.dto.Route;
+import com.BookingService.dto.Vehicle;
+import com.BookingService.entity.Booking;
+import com.BookingService.entity.BookingStatus;
+import com.BookingService.fare.FareEngine;
+import com.BookingService.fare.FareRule;
+import com.BookingService.fare.SurgeFareRule;
+import com.BookingService.fare.WeekendFareRule;
+import com.BookingService.mapper.BookingMapperImpl;
+import com.BookingService.feign.RouteServiceClient;
+import com.BookingService.feign.VehicleServiceClient;
+import com.BookingService.repository.BookingEventWriter;
+import com.BookingService.repository.BookingRepository;
+import com.BookingService.repository.CustomerSummaryWriter;
+import com.BookingService.repository.SeatInventoryRepository;
+import com.BookingService.service.BookingService;
+import com.BookingService.service.BookingVersionIndex;
+import com.BookingService.service.CatalogLookupService;
+import com.BookingService.service.CatalogSnapshotService;
+import com.BookingService.service.CustomerSummaryService;
+import com.BookingService.service.SeatInventoryService;
+
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Wires a BookingService by hand with in-process stubs in place of Feign, JPA and Spring,
+ * so benchmarks measure only our own code paths.
+ */
+final class BenchmarkFixtures {
+
+    static final String VEHICLE_NAME = "Volvo Sleeper";
+    static final int ROUTE_ID = 7;
+
+    private BenchmarkFixtures() {
+    }
+
+    static BookingService bookingService(List<Booking> storedBookings, Executor lookupExecutor) {
+        CatalogLookupService catalogLookupService = new CatalogLookupService();
+        ReflectionTestUtils.setField(catalogLookupService, "vehicleService", vehicleClient());
+        ReflectionTestUtils.setField(catalogLookupService, "routeService", routeClient());
+        ReflectionTestUtils.setField(catalogLookupService, "circuitBreakerRegistry", CircuitBreakerRegistry.ofDefaults());
+        ReflectionTestUtils.setField(catalogLookupService, "bulkheadRegistry", BulkheadRegistry.ofDefaults());
+        ReflectionTestUtils.setField(catalogLookupService, "meterRegistry", new SimpleMeterRegistry());
+        catalogLookupService.init();
+
+        // Never refreshed, so lookups keep exercising the remote path instead of the snapshot
+        CatalogSnapshotService catalogSnapshotService = new CatalogSnapshotService();
+
+        SeatInventoryService seatInventoryService = new SeatInventoryService();
+        ReflectionTestUtils.setField(seatInventoryService, "seatInventoryRepository", seatInventoryRepository());
+        ReflectionTestUtils.setField(seatInventoryService, "maxRetries", 1);
+
+        BookingService bookingService = new BookingService();
+        ReflectionTestUtils.setField(bookingService, "bookingRepository", bookingRepository(storedBookings));
+        ReflectionTestUtils.setField(bookingService, "catalogLookupService", catalogLookupService);
+        ReflectionTestUtils.setField(bookingService, "catalogSnapshotService", catalogSnapshotService);
+        ReflectionTestUtils.setField(bookingService, "seatInventoryService", seatInventoryService);
+        ReflectionTestUtils.setField(bookingService, "bookingVersionIndex", bookingVersionIndex());
+        ReflectionTestUtils.setField(bookingService, "customerSummaryService", customerSummaryService());
+        ReflectionTestUtils.setField(bookingService, "bookingEventWriter", new BookingEventWriter() {
+            @Override
+            public void recordCreated(Collection<Booking> bookings) {
+            }
+        });
+        ReflectionTestUtils.setField(bookingService, "fareEngine", fareEngine(catalogSnapshotService));
+        ReflectionTestUtils.setField(bookingService, "bookingMapper", new BookingMapperImpl());
+        ReflectionTestUtils.setField(bookingService, "transactionTemplate", transactionTemplate());
+        ReflectionTestUtils.setField(bookingService, "catalogLookupExecutor", lookupExecutor);
+        ReflectionTestUtils.setField(bookingService, "lookupTimeout", Duration.ofSeconds(5));
+        ReflectionTestUtils.setField(bookingService, "maxBatchSize", 500);
+        return bookingService;
+    }
+
+    static Booking newBookingRequest() {
+        Booking booking = new Booking();
+        booking.setUsername("benchmark");
+        booking.setVehicleName(VEHICLE_NAME);
+        booking.setRouteId(ROUTE_ID);
+        booking.setJourneyDate(LocalDate.now().plusDays(30));
+        booking.setBoardingPoint("Central Bus Stand");
+        booking.setDropPoint("City Mall");
+        booking.setContactNo("9876543210");
+        booking.setFare(1450.0);
+        booking.setNoOfPassengers(1);
+        booking.setCustomerId(42);
+        return booking;
+    }
+
+    static List<Booking> storedBookings(int count) {
+        List<Booking> bookings = new ArrayList<>(count);
+        LocalDate journeyDate = LocalDate.now().plusDays(10);
+        for (int i = 1; i <= count; i++) {
+            Booking booking = newBookingRequest();
+            booking.setBookingId((long) i);
+            booking.setVehicleNo("KA01AB1234");
+            booking.setSource("Bengaluru");
+            booking.setDestination("Chennai");
+            booking.setBookingDate(LocalDate.now());
+            booking.setJourneyDate(journeyDate.plusDays(i % 30));
+            booking.setBookingStatus(BookingStatus.UPCOMING);
+            bookings.add(booking);
+        }
+        return bookings;
+    }
+
+    // What Hibernate does per row for the BookingDto constructor expression
+    static BookingDto constructorExpressionRow(Booking booking) {
+        return new BookingDto(booking.getBookingId(), booking.getUsername(), booking.getVehicleNo(),
+                booking.getVehicleName(), booking.getBookingDate(), booking.getJourneyDate(), booking.getSource(),
+                booking.getDestination(), booking.getBoardingPoint(), booking.getDropPoint(), booking.getContactNo(),
+                booking.getFare(), booking.getNoOfPassengers(), booking.getBookingStatus());
+    }
+
+    private static BookingVersionIndex bookingVersionIndex() {
+        BookingVersionIndex index = new BookingVersionIndex();
+        ReflectionTestUtils.setField(index, "maximumSize", 10_000L);
+        ReflectionTestUtils.setField(index, "ttl", Duration.ofSeconds(30));
+        index.init();
+        return index;
+    }
+
+    // Both default rules switched on, so every quote pays for the full table lookup
+    static FareEngine fareEngine(CatalogSnapshotService catalogSnapshotService) {
+        WeekendFareRule weekend = new WeekendFareRule();
+        ReflectionTestUtils.setField(weekend, "weekendMultiplier", 1.15);
+        SurgeFareRule surge = new SurgeFareRule();
+        ReflectionTestUtils.setField(surge, "withinDays", 2);
+        ReflectionTestUtils.setField(surge, "surgeMultiplier", 1.25);
+
+        FareEngine fareEngine = new FareEngine();
+        ReflectionTestUtils.setField(fareEngine, "fareRules", List.<FareRule>of(weekend, surge));
+        ReflectionTestUtils.setField(fareEngine, "catalogSnapshotService", catalogSnapshotService);
+        ReflectionTestUtils.setField(fareEngine, "horizonDays", 366);
+        ReflectionTestUtils.setField(fareEngine, "maxQuotes", Integer.MAX_VALUE);
+        fareEngine.init();
+        return fareEngine;
+    }
+
+    private static CustomerSummaryService customerSummaryService() {
+        CustomerSummaryService service = new CustomerSummaryService();
+        ReflectionTestUtils.setField(service, "customerSummaryWriter", new CustomerSummaryWriter() {
+            @Override
+            public void recordCreated(Collection<Booking> bookings) {
+            }
+        });
+        ReflectionTestUtils.setField(service, "meterRegistry", new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(service, "maximumSize", 10_000L);
+        ReflectionTestUtils.setField(service, "ttl", Duration.ofSeconds(30));
+        service.init();
+        return service;
+    }
+
+    // Runs the callback directly, there is no transaction manager here
+    private static TransactionTemplate transactionTemplate() {
+        return new TransactionTemplate() {
+            @Override
+            public <T> T execute(TransactionCallback<T> action) {
+                return action.doInTransaction(null);
+            }
+        };
+    }
+
+    private static VehicleServiceClient vehicleClient() {
+        Vehicle vehicle = new Vehicle(1L, "KA01AB1234", VEHICLE_NAME, Integer.MAX_VALUE, "Sleeper", 2.5);
+        return new VehicleServiceClient() {
+            @Override
+            public Vehicle getVehicleByName(String vehicleName) {
+                return vehicle;
+            }
+
+            @Override
+            public List<Vehicle> getAllVehicles() {
+                return Collections.singletonList(vehicle);
+            }
+        };
+    }
+
+    private static RouteServiceClient routeClient() {
+        Route route = new Route(ROUTE_ID, "Bengaluru", "Chennai", 346.0f, 6.5f);
+        return new RouteServiceClient() {
+            @Override
+            public List<Route> getAllRoutes() {
+                return Collections.singletonList(route);
+            }
+
+            @Override
+            public Route getRouteById(int routeId) {
+                return route;
+            }
+        };
+    }
+
+    private static BookingRepository bookingRepository(List<Booking> storedBookings) {
+        AtomicLong ids = new AtomicLong();
+        return (BookingRepository) Proxy.newProxyInstance(BookingRepository.class.getClassLoader(),
+                new Class<?>[] { BookingRepository.class }, (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "save":
+                            Booking booking = (Booking) args[0];
+                            booking.setBookingId(ids.incrementAndGet());
+                            return booking;
+                        case "findAll":
+                            return storedBookings;
+                        case "findAllBookingDtos":
+                            return storedBookings.stream().map(BenchmarkFixtures::constructorExpressionRow)
+                                    .collect(Collectors.toList());
+                        default:
+                            throw new UnsupportedOperationException(method.getName());
+                    }
+                });
+    }
+
+    private static SeatInventoryRepository seatInventoryRepository() {
+        return (SeatInventoryRepository) Proxy.newProxyInstance(SeatInventoryRepository.class.getClassLoader(),
+                new Class<?>[] { SeatInventoryRepository.class }, (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "findById":
+                            return Optional.empty();
+                        case "save":
+                            return args[0];
+                        default:
+                            throw new UnsupportedOperationException(method.getName());
+                    }
+                });
+    }
+}
@@ -0,0 +1,240 @@
+package com.BookingService.benchmark;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Closed-loop HTTP load test for comparing the blocking booking endpoints with the
+ * non-blocking ones ({@code booking.non-blocking.enabled=true}) on a running instance.
+ *
+ * <p>{@code --concurrency} clients each keep one addBooking request in flight for
+ * {@code --duration}. Next to throughput and latency percentiles, the server's live threads,
+ * busy Tomcat threads and used heap are sampled from /actuator/metrics, and the peak increase
+ * over the idle baseline is divided by the concurrency to give threads and heap per
+ * connection. Journey dates are spread over {@code --days} days, and with {@code --vehicles N}
+ * bookings go round-robin to vehicles {@code <vehicle>-0} to {@code <vehicle>-(N-1)}, so trips
+ * neither sell out nor turn seat inventory updates into the bottleneck.
+ *
+ * <pre>
+ * mvn -Pbenchmarks test-compile exec:java -Dexec.classpathScope=test \
+ *     -Dexec.mainClass=com.BookingService.benchmark.BookingLoadTest \
+ *     -Dexec.args="--path /bookings/nonblocking/addBooking --concurrency 500 --duration 60s"
+ * </pre>
+ *
+ * Run it once per path with the same settings and compare the two reports.
+ */
+public class BookingLoadTest {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private final String baseUrl;
+    private final String path;
+    private final int concurrency;
+    private final Duration duration;
+    private final String vehicleName;
+    private final int routeId;
+    private final int vehicles;
+    private final int days;
+
+    private final HttpClient client;
+    private final LongAdder completed = new LongAdder();
+    private final Map<Integer, LongAdder> statuses = new ConcurrentHashMap<>();
+    private final Map<Integer, String> sampleErrorBodies = new ConcurrentHashMap<>();
+    private final LongAdder transportErrors = new LongAdder();
+    private final ConcurrentLinkedQueue<Long> latenciesMicros = new ConcurrentLinkedQueue<>();
+    private final AtomicLong sequence = new AtomicLong();
+    private volatile long deadline;
+
+    BookingLoadTest(Map<String, String> options) {
+        baseUrl = options.getOrDefault("base-url", "http://localhost:8086");
+        path = options.getOrDefault("path", "/bookings/addBooking");
+        concurrency = Integer.parseInt(options.getOrDefault("concurrency", "200"));
+        duration = parseDuration(options.getOrDefault("duration", "30s"));
+        vehicleName = options.getOrDefault("vehicle", "Volvo");
+        routeId = Integer.parseInt(options.getOrDefault("route", "1"));
+        vehicles = Integer.parseInt(options.getOrDefault("vehicles", "1"));
+        days = Integer.parseInt(options.getOrDefault("days", "300"));
+        client = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(Executors.newFixedThreadPool(Math.max(4, Runtime.getRuntime().availableProcessors())))
+                .build();
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = new HashMap<>();
+        for (int i = 0; i + 1 < args.length; i += 2) {
+            options.put(args[i].replaceFirst("^--", ""), args[i + 1]);
+        }
+        new BookingLoadTest(options).run();
+        System.exit(0);
+    }
+
+    void run() throws Exception {
+        ServerSample baseline = sampleServer();
+        List<ServerSample> samples = Collections.synchronizedList(new ArrayList<>());
+        ScheduledExecutorService sampler = Executors.newSingleThreadScheduledExecutor();
+        sampler.scheduleAtFixedRate(() -> samples.add(sampleServer()), 250, 250, TimeUnit.MILLISECONDS);
+
+        long start = System.nanoTime();
+        deadline = start + duration.toNanos();
+        List<CompletableFuture<Void>> clients = new ArrayList<>(concurrency);
+        for (int i = 0; i < concurrency; i++) {
+            clients.add(loop());
+        }
+        CompletableFuture.allOf(clients.toArray(new CompletableFuture[0])).join();
+        double elapsedSeconds = (System.nanoTime() - start) / 1e9;
+        sampler.shutdownNow();
+
+        report(baseline, samples, elapsedSeconds);
+    }
+
+    // One client: send, wait for the response, send again until the deadline
+    private CompletableFuture<Void> loop() {
+        if (System.nanoTime() >= deadline) {
+            return CompletableFuture.completedFuture(null);
+        }
+        long sent = System.nanoTime();
+        return client.sendAsync(bookingRequest(), HttpResponse.BodyHandlers.ofString())
+                .handle((response, failure) -> {
+                    if (failure != null) {
+                        transportErrors.increment();
+                    } else {
+                        statuses.computeIfAbsent(response.statusCode(), status -> new LongAdder()).increment();
+                        if (response.statusCode() >= 400) {
+                            sampleErrorBodies.putIfAbsent(response.statusCode(), response.body());
+                        }
+                        latenciesMicros.add((System.nanoTime() - sent) / 1000);
+                        completed.increment();
+                    }
+                    return null;
+                })
+                .thenCompose(ignored -> loop());
+    }
+
+    private HttpRequest bookingRequest() {
+        long n = sequence.incrementAndGet();
+        String body = "{\"username\":\"load-" + n + "\",\"customerId\":" + (n % 10_000)
+                + ",\"vehicleName\":\"" + vehicleName + (vehicles > 1 ? "-" + n % vehicles : "") + "\",\"routeId\":" + routeId
+                + ",\"journeyDate\":\"" + LocalDate.now().plusDays(1 + n % days) + "\""
+                + ",\"boardingPoint\":\"A\",\"dropPoint\":\"B\",\"contactNo\":\"9999999999\""
+                + ",\"fare\":100.0,\"noOfPassengers\":1}";
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(Duration.ofSeconds(30))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+    }
+
+    private ServerSample sampleServer() {
+        return new ServerSample(
+                metric("jvm.threads.live", null),
+                metric("tomcat.threads.busy", null),
+                metric("jvm.memory.used", "area:heap"));
+    }
+
+    private double metric(String name, String tag) {
+        String uri = baseUrl + "/actuator/metrics/" + name + (tag == null ? "" : "?tag=" + tag);
+        try {
+            HttpResponse<String> response = client.send(HttpRequest.newBuilder(URI.create(uri))
+                    .timeout(Duration.ofSeconds(2)).GET().build(), HttpResponse.BodyHandlers.ofString());
+            if (response.statusCode() != 200) {
+                return Double.NaN;
+            }
+            JsonNode measurements = MAPPER.readTree(response.body()).path("measurements");
+            return measurements.isArray() && measurements.size() > 0 ? measurements.get(0).path("value").asDouble() : Double.NaN;
+        } catch (Exception e) {
+            return Double.NaN;
+        }
+    }
+
+    private void report(ServerSample baseline, List<ServerSample> samples, double elapsedSeconds) {
+        List<Long> latencies = new ArrayList<>(latenciesMicros);
+        Collections.sort(latencies);
+        long requests = completed.sum();
+
+        System.out.printf("%nPath:            %s%n", path);
+        System.out.printf("Concurrency:     %d for %.1f s%n", concurrency, elapsedSeconds);
+        System.out.printf("Throughput:      %.1f req/s (%d responses, %d transport errors)%n",
+                requests / elapsedSeconds, requests, transportErrors.sum());
+        System.out.printf("Status codes:    %s%n", new TreeMap<>(statuses));
+        new TreeMap<>(sampleErrorBodies).forEach((status, body) -> System.out.printf("  %d e.g.:       %s%n", status,
+                body.length() > 200 ? body.substring(0, 200) : body));
+        System.out.printf("Latency (ms):    p50 %.1f  p95 %.1f  p99 %.1f  max %.1f%n",
+                percentile(latencies, 0.50), percentile(latencies, 0.95),
+                percentile(latencies, 0.99), percentile(latencies, 1.0));
+
+        double peakThreads = samples.stream().mapToDouble(ServerSample::getLiveThreads).filter(v -> !Double.isNaN(v)).max().orElse(Double.NaN);
+        double peakBusy = samples.stream().mapToDouble(ServerSample::getBusyTomcatThreads).filter(v -> !Double.isNaN(v)).max().orElse(Double.NaN);
+        double peakHeap = samples.stream().mapToDouble(ServerSample::getHeapUsed).filter(v -> !Double.isNaN(v)).max().orElse(Double.NaN);
+        System.out.printf("Server threads:  live %.0f -> peak %.0f (%.3f per connection), busy Tomcat peak %.0f%n",
+                baseline.getLiveThreads(), peakThreads, (peakThreads - baseline.getLiveThreads()) / concurrency, peakBusy);
+        System.out.printf("Server heap:     %.1f MB -> peak %.1f MB (%.1f KB per connection)%n",
+                baseline.getHeapUsed() / 1e6, peakHeap / 1e6, (peakHeap - baseline.getHeapUsed()) / 1e3 / concurrency);
+    }
+
+    private static double percentile(List<Long> sortedMicros, double quantile) {
+        if (sortedMicros.isEmpty()) {
+            return Double.NaN;
+        }
+        int index = (int) Math.min(sortedMicros.size() - 1, Math.ceil(quantile * sortedMicros.size()) - 1);
+        return sortedMicros.get(Math.max(index, 0)) / 1000.0;
+    }
+
+    private static Duration parseDuration(String value) {
+        if (value.endsWith("ms")) {
+            return Duration.ofMillis(Long.parseLong(value.substring(0, value.length() - 2)));
+        }
+        if (value.endsWith("s")) {
+            return Duration.ofSeconds(Long.parseLong(value.substring(0, value.length() - 1)));
+        }
+        if (value.endsWith("m")) {
+            return Duration.ofMinutes(Long.parseLong(value.substring(0, value.length() - 1)));
+        }
+        return Duration.parse(value);
+    }
+
+    private static final class ServerSample {
+        private final double liveThreads;
+        private final double busyTomcatThreads;
+        private final double heapUsed;
+
+        ServerSample(double liveThreads, double busyTomcatThreads, double heapUsed) {
+            this.liveThreads = liveThreads;
+            this.busyTomcatThreads = busyTomcatThreads;
+            this.heapUsed = heapUsed;
+        }
+
+        double getLiveThreads() {
+            return liveThreads;
+        }
+
+        double getBusyTomcatThreads() {
+            return busyTomcatThreads;
+        }
+
+        double getHeapUsed() {
+            return heapUsed;
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package com.BookingService.benchmark;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.BookingService.dto.BookingDto;
+import com.BookingService.entity.Booking;
+import com.BookingService.mapper.BookingMapper;
+import com.BookingService.mapper.BookingMapperImpl;
+import com.BookingService.service.BookingService;
+
+import lombok.Data;
+
+/**
+ * Booking to BookingDto mapping over an in-memory result list. Run with {@code -prof gc} and
+ * compare gc.alloc.rate.norm (bytes per operation) at rows=10000:
+ * <ul>
+ * <li>{@code legacySetterMapping}: the former hand-written mapping, String id and status</li>
+ * <li>{@code generatedMapper}: the MapStruct mapper used for entity streams and pages</li>
+ * <li>{@code viewAllBookings}: the constructor-expression path, one DTO per row and no entity</li>
+ * </ul>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Dlogback.configurationFile=logback-benchmark.xml")
+public class BookingMappingBenchmark {
+
+    @Param({ "100", "1000", "10000" })
+    private int rows;
+
+    private BookingService bookingService;
+    private List<Booking> bookings;
+    private final BookingMapper bookingMapper = new BookingMapperImpl();
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        bookings = BenchmarkFixtures.storedBookings(rows);
+        bookingService = BenchmarkFixtures.bookingService(bookings, Runnable::run);
+    }
+
+    @Benchmark
+    public List<BookingDto> viewAllBookings() {
+        return bookingService.viewAllBookings();
+    }
+
+    @Benchmark
+    public List<BookingDto> generatedMapper() {
+        List<BookingDto> dtos = new ArrayList<>(bookings.size());
+        for (Booking booking : bookings) {
+            dtos.add(bookingMapper.toDto(booking));
+        }
+        return dtos;
+    }
+
+    @Benchmark
+    public List<LegacyBookingDto> legacySetterMapping() {
+        List<LegacyBookingDto> dtos = new ArrayList<>(bookings.size());
+        for (Booking booking : bookings) {
+            LegacyBookingDto bookingDto = new LegacyBookingDto();
+            bookingDto.setBookingId(booking.getBookingId().toString());
+            bookingDto.setUsername(booking.getUsername().toString());
+            bookingDto.setVehicleNo(booking.getVehicleNo());
+            bookingDto.setVehicleName(booking.getVehicleName());
+            bookingDto.setSource(booking.getSource());
+            bookingDto.setDestination(booking.getDestination());
+            bookingDto.setJourneyDate(booking.getJourneyDate());
+            bookingDto.setBookingDate(booking.getBookingDate());
+            bookingDto.setBoardingPoint(booking.getBoardingPoint());
+            bookingDto.setDropPoint(booking.getDropPoint());
+            bookingDto.setContactNo(booking.getContactNo());
+            bookingDto.setFare(booking.getFare());
+            bookingDto.setNoOfPassengers(booking.getNoOfPassengers());
+            bookingDto.setBookingStatus(booking.getBookingStatus().getLabel());
+            dtos.add(bookingDto);
+        }
+        return dtos;
+    }
+
+    // Shape of BookingDto before the id became a Long and the status an enum
+    @Data
+    public static class LegacyBookingDto {
+        private String bookingId;
+        private String username;
+        private String vehicleNo;
+        private String vehicleName;
+        private LocalDate bookingDate;
+        private LocalDate journeyDate;
+        private String source;
+        private String destination;
+        private String boardingPoint;
+        private String dropPoint;
+        private String contactNo;
+        private Double fare;
+        private int noOfPassengers;
+        private String bookingStatus;
+    }
+}
@@ -0,0 +1,72 @@
+package com.BookingService.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.BookingService.dto.BookingDto;
+import com.BookingService.entity.Booking;
+import com.BookingService.service.BookingService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+/**
+ * Jackson serialization of the payloads returned by the booking endpoints, configured the way
+ * Spring Boot configures its ObjectMapper (ISO dates rather than timestamps).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Dlogback.configurationFile=logback-benchmark.xml")
+public class BookingSerializationBenchmark {
+
+    @Param({ "10", "100", "1000", "10000" })
+    private int rows;
+
+    private List<Booking> bookings;
+    private List<BookingDto> bookingDtos;
+    private ObjectWriter bookingListWriter;
+    private ObjectWriter bookingDtoListWriter;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        bookings = BenchmarkFixtures.storedBookings(rows);
+        BookingService bookingService = BenchmarkFixtures.bookingService(bookings, Runnable::run);
+        bookingDtos = bookings.stream().map(bookingService::toBookingDto).collect(Collectors.toList());
+
+        ObjectMapper objectMapper = new ObjectMapper()
+                .findAndRegisterModules()
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        bookingListWriter = objectMapper.writerFor(
+                objectMapper.getTypeFactory().constructCollectionType(List.class, Booking.class));
+        bookingDtoListWriter = objectMapper.writerFor(
+                objectMapper.getTypeFactory().constructCollectionType(List.class, BookingDto.class));
+    }
+
+    @Benchmark
+    public byte[] serializeBookings() throws JsonProcessingException {
+        return bookingListWriter.writeValueAsBytes(bookings);
+    }
+
+    @Benchmark
+    public byte[] serializeBookingDtos() throws JsonProcessingException {
+        return bookingDtoListWriter.writeValueAsBytes(bookingDtos);
+    }
+}
@@ -0,0 +1,64 @@
+package com.BookingService.benchmark;
+
+import java.util.Collections;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.BookingService.entity.Booking;
+import com.BookingService.service.BookingService;
+
+/**
+ * createBooking end to end with stubbed Feign clients and repositories. The "direct" executor
+ * runs both lookups on the caller thread; "pool" measures the cost of the concurrent dispatch.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Dlogback.configurationFile=logback-benchmark.xml")
+public class BookingServiceBenchmark {
+
+    @Param({ "direct", "pool" })
+    private String lookupExecutor;
+
+    private ExecutorService pool;
+    private BookingService bookingService;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        if ("pool".equals(lookupExecutor)) {
+            pool = Executors.newFixedThreadPool(4);
+            bookingService = BenchmarkFixtures.bookingService(Collections.emptyList(), pool);
+        } else {
+            bookingService = BenchmarkFixtures.bookingService(Collections.emptyList(), Runnable::run);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        if (pool != null) {
+            pool.shutdownNow();
+        }
+    }
+
+    @Benchmark
+    public Booking createBooking() {
+        return bookingService.createBooking(BenchmarkFixtures.newBookingRequest());
+    }
+}
@@ -0,0 +1,82 @@
+package com.BookingService.benchmark;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.BookingService.dto.CatalogSnapshot;
+import com.BookingService.dto.FareQuote;
+import com.BookingService.dto.FareQuoteRequest;
+import com.BookingService.dto.Route;
+import com.BookingService.dto.Vehicle;
+import com.BookingService.fare.FareEngine;
+import com.BookingService.service.CatalogSnapshotService;
+
+/**
+ * Batch fare quotes against a loaded catalog of 200 vehicles and 500 routes, as the search
+ * page sends them: every request picks a vehicle, route, journey date within 90 days and
+ * passenger count. Throughput is reported in batches per millisecond, so quotes per
+ * millisecond is the score times {@code quotes}; the target is thousands.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Dlogback.configurationFile=logback-benchmark.xml")
+public class FareEngineBenchmark {
+
+    private static final int VEHICLES = 200;
+    private static final int ROUTES = 500;
+
+    @Param({ "1", "100", "10000" })
+    private int quotes;
+
+    private FareEngine fareEngine;
+    private List<FareQuoteRequest> requests;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        List<Vehicle> vehicles = new ArrayList<>(VEHICLES);
+        for (int i = 0; i < VEHICLES; i++) {
+            vehicles.add(new Vehicle((long) i, "KA01AB" + (1000 + i), "Vehicle-" + i, 40, "Sleeper", 1.5 + i % 5 * 0.25));
+        }
+        List<Route> routes = new ArrayList<>(ROUTES);
+        for (int i = 0; i < ROUTES; i++) {
+            routes.add(new Route(i, "Source-" + i, "Destination-" + i, 50.0f + i, 1.0f + i / 60.0f));
+        }
+        CatalogSnapshot snapshot = new CatalogSnapshot(1, Instant.now(), vehicles, routes);
+        fareEngine = BenchmarkFixtures.fareEngine(new CatalogSnapshotService() {
+            @Override
+            public CatalogSnapshot getSnapshot() {
+                return snapshot;
+            }
+        });
+
+        LocalDate today = LocalDate.now();
+        requests = new ArrayList<>(quotes);
+        for (int i = 0; i < quotes; i++) {
+            requests.add(new FareQuoteRequest("Vehicle-" + i % VEHICLES, i % ROUTES, today.plusDays(i % 90), 1 + i % 4));
+        }
+    }
+
+    @Benchmark
+    public List<FareQuote> quote() {
+        return fareEngine.quote(requests);
+    }
+}
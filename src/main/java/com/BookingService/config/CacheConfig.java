@@ -0,0 +1,74 @@
+package com.BookingService.config;
+
+import java.time.Duration;
+import java.util.Arrays;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.support.NullValue;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.BookingService.service.CatalogLookupService;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    @Value("${booking.cache.catalog.maximum-size:1000}")
+    private long catalogMaximumSize;
+
+    @Value("${booking.cache.catalog.ttl:10m}")
+    private Duration catalogTtl;
+
+    @Value("${booking.cache.catalog.negative-ttl:30s}")
+    private Duration catalogNegativeTtl;
+
+    @Bean
+    public CacheManager cacheManager() {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        // Stats are recorded so the actuator binds hit/miss/eviction metrics for every cache
+        cacheManager.setCaffeine(Caffeine.newBuilder()
+                .maximumSize(catalogMaximumSize)
+                .expireAfter(new CatalogExpiry(catalogTtl, catalogNegativeTtl))
+                .recordStats());
+        cacheManager.setCacheNames(Arrays.asList(
+                CatalogLookupService.VEHICLES_CACHE,
+                CatalogLookupService.ROUTES_CACHE));
+        return cacheManager;
+    }
+
+    /**
+     * Expires "not found" entries (stored by Spring as {@link NullValue}) sooner than real ones,
+     * so a vehicle or route added downstream becomes visible without waiting for the full TTL.
+     */
+    static final class CatalogExpiry implements Expiry<Object, Object> {
+
+        private final long ttlNanos;
+        private final long negativeTtlNanos;
+
+        CatalogExpiry(Duration ttl, Duration negativeTtl) {
+            this.ttlNanos = ttl.toNanos();
+            this.negativeTtlNanos = negativeTtl.toNanos();
+        }
+
+        @Override
+        public long expireAfterCreate(Object key, Object value, long currentTime) {
+            return value == NullValue.INSTANCE ? negativeTtlNanos : ttlNanos;
+        }
+
+        @Override
+        public long expireAfterUpdate(Object key, Object value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(Object key, Object value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.BookingService.config;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+public class ExecutorConfig {
+
+    @Value("${booking.lookup.pool-size:16}")
+    private int lookupPoolSize;
+
+    @Value("${booking.lookup.queue-capacity:200}")
+    private int lookupQueueCapacity;
+
+    @Value("${booking.streaming.pool-size:4}")
+    private int streamingPoolSize;
+
+    /**
+     * Bounded pool used by createBooking to resolve vehicle and route concurrently.
+     * When the queue is full the lookup is rejected and the request gets 503: running
+     * it on the request thread instead would serialize the two lookups and bypass
+     * their timeout exactly when the catalog is slow.
+     */
+    @Bean(name = "catalogLookupExecutor")
+    public ThreadPoolTaskExecutor catalogLookupExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(lookupPoolSize);
+        executor.setMaxPoolSize(lookupPoolSize);
+        executor.setQueueCapacity(lookupQueueCapacity);
+        executor.setThreadNamePrefix("catalog-lookup-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * Runs the NDJSON booking export. Kept small on purpose: each export holds a
+     * database connection for its whole duration, so excess requests queue here.
+     */
+    @Bean(name = "bookingStreamExecutor")
+    public ThreadPoolTaskExecutor bookingStreamExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(streamingPoolSize);
+        executor.setMaxPoolSize(streamingPoolSize);
+        executor.setQueueCapacity(50);
+        executor.setThreadNamePrefix("booking-stream-");
+        executor.initialize();
+        return executor;
+    }
+}
@@ -0,0 +1,77 @@
+package com.BookingService.config;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadPoolExecutor;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cloud.client.loadbalancer.LoadBalanced;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import io.netty.channel.ChannelOption;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+/**
+ * Beans for the opt-in non-blocking booking path ({@code booking.non-blocking.enabled}).
+ */
+@Configuration
+@ConditionalOnProperty(name = "booking.non-blocking.enabled", havingValue = "true")
+public class NonBlockingConfig {
+
+    @Value("${booking.non-blocking.connect-timeout:500ms}")
+    private Duration connectTimeout;
+
+    @Value("${booking.non-blocking.read-timeout:1500ms}")
+    private Duration readTimeout;
+
+    @Value("${booking.non-blocking.max-connections:500}")
+    private int maxConnections;
+
+    @Value("${booking.non-blocking.persistence-pool-size:10}")
+    private int persistencePoolSize;
+
+    @Value("${booking.non-blocking.persistence-queue-capacity:1000}")
+    private int persistenceQueueCapacity;
+
+    /**
+     * WebClient builder resolving service ids (VEHICLESERVICE, ROUTESERVICE) through the load
+     * balancer, with the same timeouts as the Feign clients. The connection pool is sized for
+     * many concurrent lookups; Reactor Netty's default would queue them behind a few connections
+     * until the lookup timeout fires.
+     */
+    @Bean
+    @LoadBalanced
+    public WebClient.Builder loadBalancedWebClientBuilder() {
+        ConnectionProvider connections = ConnectionProvider.builder("catalog")
+                .maxConnections(maxConnections)
+                .pendingAcquireTimeout(readTimeout)
+                .build();
+        HttpClient httpClient = HttpClient.create(connections)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) connectTimeout.toMillis())
+                .responseTimeout(readTimeout);
+        return WebClient.builder().clientConnector(new ReactorClientHttpConnector(httpClient));
+    }
+
+    /**
+     * Runs the blocking JDBC part of non-blocking requests. Sized like the connection pool, since
+     * a thread without a connection would only wait for one. Rejects instead of running on the
+     * caller, because the caller is a Netty event loop that must never block.
+     */
+    @Bean(name = "bookingPersistenceExecutor")
+    public ThreadPoolTaskExecutor bookingPersistenceExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(persistencePoolSize);
+        executor.setMaxPoolSize(persistencePoolSize);
+        executor.setQueueCapacity(persistenceQueueCapacity);
+        executor.setThreadNamePrefix("booking-persistence-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.initialize();
+        return executor;
+    }
+}
@@ -0,0 +1,98 @@
+package com.BookingService.config;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import javax.persistence.EntityManagerFactory;
+import javax.sql.DataSource;
+
+import org.hibernate.boot.spi.SessionFactoryOptions;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.id.PostInsertIdentifierGenerator;
+import org.hibernate.persister.entity.EntityPersister;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+/**
+ * Checks at startup that JDBC insert batching is really in effect, since every way it can be
+ * switched off fails silently: IDENTITY (or another post-insert) id generation makes
+ * Hibernate insert row by row, a batch size below 2 or unordered inserts break batches up,
+ * and without {@code reWriteBatchedInserts} the PostgreSQL driver still sends one INSERT per
+ * row. Each problem is logged as a warning together with the pool settings in use.
+ */
+@Component
+public class PersistenceSelfCheck {
+
+    private static final Logger logger = LoggerFactory.getLogger(PersistenceSelfCheck.class);
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @Autowired
+    private DataSource dataSource;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        HikariDataSource pool = primaryPool();
+        if (pool != null) {
+            logger.info("Connection pool {}: maximum {} connections, minimum idle {}, connection timeout {} ms",
+                    pool.getPoolName(), pool.getMaximumPoolSize(), pool.getMinimumIdle(), pool.getConnectionTimeout());
+        }
+        List<String> problems = check();
+        if (problems.isEmpty()) {
+            logger.info("JDBC insert batching is enabled");
+        }
+        problems.forEach(problem -> logger.warn("JDBC insert batching disabled: {}", problem));
+    }
+
+    /** Everything that currently prevents insert batching; empty when batching is in effect. */
+    public List<String> check() {
+        List<String> problems = new ArrayList<>();
+        SessionFactoryImplementor sessionFactory = entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+
+        SessionFactoryOptions options = sessionFactory.getSessionFactoryOptions();
+        if (options.getJdbcBatchSize() < 2) {
+            problems.add("hibernate.jdbc.batch_size is " + options.getJdbcBatchSize());
+        }
+        if (!options.isOrderInsertsEnabled()) {
+            problems.add("hibernate.order_inserts is off, so mixed entity inserts split every batch");
+        }
+
+        for (Map.Entry<String, EntityPersister> entity : sessionFactory.getMetamodel().entityPersisters().entrySet()) {
+            if (entity.getValue().getIdentifierGenerator() instanceof PostInsertIdentifierGenerator) {
+                problems.add(entity.getKey() + " ids are generated by the database on insert (IDENTITY), "
+                        + "so its inserts are never batched; use a pooled sequence");
+            }
+        }
+
+        HikariDataSource pool = primaryPool();
+        if (pool != null) {
+            String url = pool.getJdbcUrl();
+            boolean rewrite = (url != null && url.contains("reWriteBatchedInserts=true"))
+                    || "true".equalsIgnoreCase(pool.getDataSourceProperties().getProperty("reWriteBatchedInserts"));
+            if (url != null && url.startsWith("jdbc:postgresql:") && !rewrite) {
+                problems.add("reWriteBatchedInserts is not set, so the driver sends batched inserts one by one");
+            }
+        }
+        return problems;
+    }
+
+    // The application data source is the pool itself, or wraps it when reads are routed to a replica
+    private HikariDataSource primaryPool() {
+        if (dataSource instanceof HikariDataSource) {
+            return (HikariDataSource) dataSource;
+        }
+        try {
+            return dataSource.isWrapperFor(HikariDataSource.class) ? dataSource.unwrap(HikariDataSource.class) : null;
+        } catch (SQLException e) {
+            return null;
+        }
+    }
+}
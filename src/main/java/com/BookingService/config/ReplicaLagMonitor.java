@@ -0,0 +1,134 @@
+package com.BookingService.config;
+
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Polls the read replica for its replication lag and decides whether reads may go to it. The
+ * replica is usable while it answers and lags at most {@code maxLag} behind the primary; a
+ * replica that is streaming from the primary and has replayed everything it received counts as
+ * zero lag, so an idle primary does not make it look stale. Until the first successful check,
+ * and after any failure, reads stay on the primary.
+ *
+ * <p>Checks run every {@code checkInterval} on the monitor's own thread rather than the shared
+ * {@code @Scheduled} one, so a long scheduled job (an archive copy writes exactly the WAL that
+ * makes the replica lag) cannot hold them up. A result older than {@value #STALE_AFTER_CHECKS}
+ * intervals no longer counts and reads go to the primary until the next check succeeds.
+ *
+ * <p>The replica user needs {@code pg_monitor} (or {@code pg_read_all_stats}) to see the WAL
+ * receiver status; without it the lag is always measured from the last replayed transaction,
+ * which errs towards the primary while the primary is idle.
+ *
+ * <p>Publishes {@code booking.datasource.replica.lag} (seconds) and
+ * {@code booking.datasource.replica.usable} (1 or 0).
+ */
+public class ReplicaLagMonitor implements AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReplicaLagMonitor.class);
+
+    // Caught up only counts while WAL is streaming in; a disconnected replica has replayed all it
+    // received too, and its lag then grows with the age of the last replayed transaction
+    private static final String LAG_SQL = "SELECT CASE WHEN NOT pg_is_in_recovery() THEN 0 "
+            + "WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() "
+            + "AND EXISTS (SELECT 1 FROM pg_stat_wal_receiver WHERE status = 'streaming') THEN 0 "
+            + "ELSE EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()) END";
+
+    private static final int STALE_AFTER_CHECKS = 3;
+
+    private final JdbcTemplate replica;
+    private final double maxLagSeconds;
+    private final Duration checkInterval;
+    private final long staleAfterNanos;
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "replica-lag-check");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private volatile double lagSeconds = Double.NaN;
+    private volatile boolean available;
+    private volatile long checkedAtNanos;
+    private boolean checked;
+
+    public ReplicaLagMonitor(JdbcTemplate replica, Duration maxLag, Duration checkInterval, MeterRegistry meterRegistry) {
+        this.replica = replica;
+        this.maxLagSeconds = maxLag.toMillis() / 1000.0;
+        this.checkInterval = checkInterval;
+        this.staleAfterNanos = checkInterval.multipliedBy(STALE_AFTER_CHECKS).toNanos();
+        meterRegistry.gauge("booking.datasource.replica.lag", this, monitor -> monitor.lagSeconds);
+        meterRegistry.gauge("booking.datasource.replica.usable", this, monitor -> monitor.isUsable() ? 1 : 0);
+    }
+
+    /** Starts checking, the first time right away. */
+    public void start() {
+        scheduler.scheduleWithFixedDelay(this::checkQuietly, 0, checkInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void close() {
+        scheduler.shutdownNow();
+    }
+
+    // An exception escaping a scheduled task would cancel all further checks
+    private void checkQuietly() {
+        try {
+            check();
+        } catch (RuntimeException e) {
+            available = false;
+            logger.warn("Read replica lag check failed, reads go to the primary: {}", e.getMessage());
+        }
+    }
+
+    public void check() {
+        boolean wasUsable = isUsable();
+        boolean firstCheck = !checked;
+        checked = true;
+        try {
+            Double lag = replica.queryForObject(LAG_SQL, Double.class);
+            // No replay timestamp yet means the lag is unknown
+            lagSeconds = lag == null ? Double.POSITIVE_INFINITY : lag;
+            checkedAtNanos = System.nanoTime();
+            available = true;
+        } catch (DataAccessException e) {
+            available = false;
+            if (wasUsable || firstCheck) {
+                logger.warn("Read replica unavailable, reads go to the primary: {}", e.getMessage());
+            }
+            return;
+        }
+        if ((wasUsable || firstCheck) && !isUsable()) {
+            logger.warn("Read replica lags {} s (tolerance {} s), reads go to the primary", lagSeconds, maxLagSeconds);
+        } else if (!wasUsable && isUsable()) {
+            logger.info("Read replica usable, lag {} s", lagSeconds);
+        }
+    }
+
+    /** Called when a replica connection could not be obtained; the next check re-enables it. */
+    public void markUnavailable() {
+        if (available) {
+            logger.warn("Read replica connection failed, reads go to the primary until the next check");
+        }
+        available = false;
+    }
+
+    public boolean isUsable() {
+        return available && lagSeconds <= maxLagSeconds && !isStale();
+    }
+
+    private boolean isStale() {
+        return System.nanoTime() - checkedAtNanos > staleAfterNanos;
+    }
+
+    public double getLagSeconds() {
+        return lagSeconds;
+    }
+}
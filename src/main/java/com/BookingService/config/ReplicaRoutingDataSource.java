@@ -0,0 +1,101 @@
+package com.BookingService.config;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+import javax.sql.DataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Hands out replica connections inside read-only transactions while {@link ReplicaLagMonitor}
+ * considers the replica usable, and primary connections otherwise. If a replica connection
+ * cannot be obtained, the caller gets a primary connection instead and the replica is taken
+ * out of rotation until its next lag check.
+ *
+ * <p>The routing decision is made when a connection is obtained, so this must sit behind a
+ * {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy}: the transaction
+ * manager asks for a connection before the transaction is marked read-only.
+ *
+ * <p>Publishes {@code booking.datasource.route} (connections handed out by route and reason).
+ */
+public class ReplicaRoutingDataSource extends AbstractDataSource {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReplicaRoutingDataSource.class);
+
+    private final DataSource primary;
+    private final DataSource replica;
+    private final ReplicaLagMonitor replicaLagMonitor;
+    private final Counter writes;
+    private final Counter replicaReads;
+    private final Counter notUsableReads;
+    private final Counter fallbackReads;
+
+    public ReplicaRoutingDataSource(DataSource primary, DataSource replica, ReplicaLagMonitor replicaLagMonitor,
+                                    MeterRegistry meterRegistry) {
+        this.primary = primary;
+        this.replica = replica;
+        this.replicaLagMonitor = replicaLagMonitor;
+        writes = meterRegistry.counter("booking.datasource.route", "route", "primary", "reason", "read_write");
+        replicaReads = meterRegistry.counter("booking.datasource.route", "route", "replica", "reason", "read_only");
+        notUsableReads = meterRegistry.counter("booking.datasource.route", "route", "primary", "reason", "replica_not_usable");
+        fallbackReads = meterRegistry.counter("booking.datasource.route", "route", "primary", "reason", "replica_unavailable");
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return route(DataSource::getConnection);
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return route(dataSource -> dataSource.getConnection(username, password));
+    }
+
+    private Connection route(ConnectionSource source) throws SQLException {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            writes.increment();
+            return source.open(primary);
+        }
+        if (!replicaLagMonitor.isUsable()) {
+            notUsableReads.increment();
+            return source.open(primary);
+        }
+        try {
+            Connection connection = source.open(replica);
+            replicaReads.increment();
+            return connection;
+        } catch (SQLException e) {
+            logger.warn("Could not get a replica connection, using the primary: {}", e.getMessage());
+            replicaLagMonitor.markUnavailable();
+            fallbackReads.increment();
+            return source.open(primary);
+        }
+    }
+
+    // Pool-level callers (metrics, PersistenceSelfCheck) see the primary pool
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T unwrap(Class<T> iface) throws SQLException {
+        if (iface.isInstance(this)) {
+            return (T) this;
+        }
+        return primary.unwrap(iface);
+    }
+
+    @Override
+    public boolean isWrapperFor(Class<?> iface) throws SQLException {
+        return iface.isInstance(this) || primary.isWrapperFor(iface);
+    }
+
+    @FunctionalInterface
+    private interface ConnectionSource {
+        Connection open(DataSource dataSource) throws SQLException;
+    }
+}
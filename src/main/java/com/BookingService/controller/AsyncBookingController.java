@@ -0,0 +1,41 @@
+package com.BookingService.controller;
+
+import java.net.URI;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.BookingService.dto.BookingIntakeStatus;
+import com.BookingService.entity.Booking;
+import com.BookingService.service.AsyncBookingIntakeService;
+
+@RestController
+@RequestMapping("/bookings/async")
+@CrossOrigin("*")
+@ConditionalOnProperty(name = "booking.async-intake.enabled", havingValue = "true")
+public class AsyncBookingController {
+
+    @Autowired
+    private AsyncBookingIntakeService asyncBookingIntakeService;
+
+    @PostMapping
+    public ResponseEntity<BookingIntakeStatus> submitBooking(@RequestBody Booking booking) {
+        BookingIntakeStatus status = asyncBookingIntakeService.submit(booking);
+        return ResponseEntity.accepted()
+                .location(URI.create("/bookings/async/" + status.getBookingId() + "/status"))
+                .body(status);
+    }
+
+    @GetMapping("/{bookingId}/status")
+    public BookingIntakeStatus getStatus(@PathVariable Long bookingId) {
+        return asyncBookingIntakeService.getStatus(bookingId);
+    }
+}
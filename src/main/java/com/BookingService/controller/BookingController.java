@@ -1,23 +1,56 @@
 package com.BookingService.controller;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.time.LocalDate;
 import java.util.List;
+import java.util.concurrent.Callable;
+
+import javax.servlet.http.HttpServletResponse;
+
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Slice;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.web.bind.annotation.CrossOrigin;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.async.WebAsyncTask;
 
+import com.BookingService.dto.BatchBookingResult;
 import com.BookingService.dto.BookingDto;
-import com.BookingService.dto.Route;
-import com.BookingService.dto.Vehicle;
+import com.BookingService.dto.BookingPage;
+import com.BookingService.dto.BookingSearchCount;
+import com.BookingService.dto.BookingSearchCriteria;
+import com.BookingService.dto.BookingSearchPage;
+import com.BookingService.dto.BookingSummaryView;
+import com.BookingService.dto.CustomerBookingSummary;
+import com.BookingService.dto.TripCancellationResult;
 import com.BookingService.entity.Booking;
-import com.BookingService.feign.RouteServiceClient;
-import com.BookingService.feign.VehicleServiceClient;
+import com.BookingService.entity.BookingStatus;
 import com.BookingService.service.BookingService;
+import com.BookingService.service.CatalogLookupService;
+import com.BookingService.service.CatalogResponseCache;
+import com.BookingService.service.CatalogResponseCache.CatalogPayload;
+import com.BookingService.service.IdempotencyService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 
 
 @RestController
@@ -29,19 +62,55 @@ public class BookingController {
     private BookingService bookingService;
 
     @Autowired
-    private VehicleServiceClient vehicleService;
+    private IdempotencyService idempotencyService;
+
+    @Autowired
+    private CatalogLookupService catalogLookupService;
+
+    @Autowired
+    private CatalogResponseCache catalogResponseCache;
+
+    @Autowired
+    private ObjectMapper objectMapper;
 
     @Autowired
-    private RouteServiceClient routeService;
+    @Qualifier("bookingStreamExecutor")
+    private ThreadPoolTaskExecutor bookingStreamExecutor;
+
+    @Value("${booking.streaming.timeout:10m}")
+    private Duration streamingTimeout;
 
     @PostMapping("/addBooking")
-    public Booking createBooking(@RequestBody Booking booking) {
+    public Booking createBooking(@RequestBody Booking booking,
+                                 @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey) {
+        if (idempotencyKey != null) {
+            return idempotencyService.createBooking(idempotencyKey, booking);
+        }
         return bookingService.createBooking(booking);
     }
 
+    @PostMapping("/batch")
+    public List<BatchBookingResult> createBookings(@RequestBody List<Booking> bookings) {
+        return bookingService.createBookings(bookings);
+    }
+
     @GetMapping("/viewBooking/{bookingId}")
-    public Booking getBookingById(@PathVariable Long bookingId) {
-        return bookingService.getBookingById(bookingId);
+    public ResponseEntity<Booking> getBookingById(@PathVariable Long bookingId,
+                                                  @RequestHeader HttpHeaders requestHeaders) {
+        // A version seen recently by this instance is enough to answer 304 without a query
+        Long knownVersion = bookingService.findKnownVersion(bookingId);
+        if (knownVersion != null) {
+            String eTag = ConditionalRequests.bookingETag(bookingId, knownVersion);
+            if (ConditionalRequests.isNotModified(requestHeaders, eTag, null)) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+            }
+        }
+        Booking booking = bookingService.getBookingById(bookingId);
+        String eTag = ConditionalRequests.bookingETag(bookingId, booking.getVersion());
+        if (ConditionalRequests.isNotModified(requestHeaders, eTag, null)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+        }
+        return ResponseEntity.ok().eTag(eTag).body(booking);
     }
     
 	
@@ -49,24 +118,177 @@ public class BookingController {
     public List<BookingDto> viewAllBookings() {
         return bookingService.viewAllBookings();
     }
+
+    @GetMapping("/viewAllBookings/page")
+    public BookingPage viewBookingsPage(@RequestParam(required = false) Long cursor,
+                                        @RequestParam(defaultValue = "50") int size) {
+        return bookingService.viewBookingsPage(cursor, size);
+    }
+
+    @GetMapping("/search")
+    public BookingSearchPage searchBookings(@RequestParam(required = false) Integer routeId,
+                                            @RequestParam(required = false) String vehicleNo,
+                                            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+                                            @RequestParam(required = false) String status,
+                                            @RequestParam(required = false) String cursor,
+                                            @RequestParam(defaultValue = "50") int size) {
+        return bookingService.searchBookings(searchCriteria(routeId, vehicleNo, from, to, status), cursor, size);
+    }
+
+    @GetMapping("/search/count")
+    public BookingSearchCount countBookings(@RequestParam(required = false) Integer routeId,
+                                            @RequestParam(required = false) String vehicleNo,
+                                            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+                                            @RequestParam(required = false) String status) {
+        return new BookingSearchCount(bookingService.countBookings(searchCriteria(routeId, vehicleNo, from, to, status)));
+    }
+
+    // Runs on the small export pool with its own timeout; other async handlers keep the MVC defaults
+    @GetMapping(value = "/viewAllBookings/stream", produces = "application/x-ndjson")
+    public WebAsyncTask<Void> streamAllBookings(HttpServletResponse response) {
+        ObjectWriter writer = objectMapper.writerFor(BookingDto.class);
+        response.setContentType("application/x-ndjson");
+        Callable<Void> export = () -> {
+            OutputStream outputStream = response.getOutputStream();
+            bookingService.streamAllBookings(bookingDto -> {
+                try {
+                    outputStream.write(writer.writeValueAsBytes(bookingDto));
+                    outputStream.write('\n');
+                } catch (JsonProcessingException e) {
+                    throw new IllegalStateException("Failed to serialize booking " + bookingDto.getBookingId(), e);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            outputStream.flush();
+            return null;
+        };
+        return new WebAsyncTask<>(streamingTimeout.toMillis(), bookingStreamExecutor, export);
+    }
+
     @DeleteMapping("/deleteBooking/{bookingId}")
     public String cancelBooking(@PathVariable Long bookingId) {
         bookingService.cancelBooking(bookingId);
         return "Booking cancelled successfully";
     }
 
+    @DeleteMapping("/trip/{vehicleNo}/{journeyDate}")
+    public TripCancellationResult cancelTrip(@PathVariable String vehicleNo,
+                                             @PathVariable @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate journeyDate) {
+        return bookingService.cancelTrip(vehicleNo, journeyDate);
+    }
+
    
     @GetMapping("/ViewAllVehicles")
-    public List<Vehicle> getAllVehicles() {
-        return vehicleService.getAllVehicles();
+    public ResponseEntity<?> getAllVehicles(@RequestHeader HttpHeaders requestHeaders) {
+        return catalogResponseCache.vehicles()
+                .<ResponseEntity<?>>map(payload -> catalogResponse(payload, requestHeaders))
+                .orElseGet(() -> ResponseEntity.ok(bookingService.getAllVehicles()));
     }
 
     @GetMapping("/ViewAllRoutes")
-	public List<Route> getAllRoutes(){
-		return routeService.getAllRoutes();
-	}
+    public ResponseEntity<?> getAllRoutes(@RequestHeader HttpHeaders requestHeaders) {
+        return catalogResponseCache.routes()
+                .<ResponseEntity<?>>map(payload -> catalogResponse(payload, requestHeaders))
+                .orElseGet(() -> ResponseEntity.ok(bookingService.getAllRoutes()));
+    }
     @GetMapping("/customer/{customerId}")
     public List<Booking> getBookingsByCustomerId(@PathVariable int customerId) {
         return bookingService.getBookingsByCustomerId(customerId);
     }
+
+    @GetMapping("/customer/{customerId}/summary")
+    public CustomerBookingSummary getCustomerSummary(@PathVariable int customerId) {
+        return bookingService.getCustomerSummary(customerId);
+    }
+
+    @GetMapping("/customer/{customerId}/page")
+    public Slice<BookingSummaryView> getBookingSummariesByCustomerId(@PathVariable int customerId,
+                                                                     @RequestParam(defaultValue = "0") int page,
+                                                                     @RequestParam(defaultValue = "20") int size) {
+        return bookingService.getBookingSummariesByCustomerId(customerId, page, size);
+    }
+
+    // Status accepts the label ("Upcoming") as well as the enum name
+    private static BookingSearchCriteria searchCriteria(Integer routeId, String vehicleNo, LocalDate from, LocalDate to,
+                                                        String status) {
+        return new BookingSearchCriteria(routeId, vehicleNo, from, to,
+                status == null ? null : BookingStatus.fromLabel(status));
+    }
+
+    // Serves the precomputed bytes; gzip is chosen whenever the client accepts it
+    private ResponseEntity<byte[]> catalogResponse(CatalogPayload payload, HttpHeaders requestHeaders) {
+        boolean gzip = acceptsGzip(requestHeaders.get(HttpHeaders.ACCEPT_ENCODING));
+        String eTag = gzip ? payload.getGzipETag() : payload.getETag();
+        if (ConditionalRequests.isNotModified(requestHeaders, eTag, payload.getLastModified())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(eTag)
+                    .lastModified(payload.getLastModified())
+                    .varyBy(HttpHeaders.ACCEPT_ENCODING)
+                    .build();
+        }
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .eTag(eTag)
+                .lastModified(payload.getLastModified())
+                .varyBy(HttpHeaders.ACCEPT_ENCODING)
+                .contentType(MediaType.APPLICATION_JSON);
+        if (gzip) {
+            response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+            return response.body(payload.getGzipJson());
+        }
+        return response.body(payload.getJson());
+    }
+
+    // Accept-Encoding with q-values (RFC 7231 5.3.4): gzip;q=0 refuses gzip, and * stands for codings not listed
+    private static boolean acceptsGzip(List<String> acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        Double gzipQuality = null;
+        Double wildcardQuality = null;
+        for (String header : acceptEncoding) {
+            for (String element : header.split(",")) {
+                String[] parts = element.split(";");
+                String coding = parts[0].trim().toLowerCase();
+                double quality = 1.0;
+                for (int i = 1; i < parts.length; i++) {
+                    String parameter = parts[i].trim();
+                    if (parameter.startsWith("q=") || parameter.startsWith("Q=")) {
+                        try {
+                            quality = Double.parseDouble(parameter.substring(2).trim());
+                        } catch (NumberFormatException e) {
+                            quality = 0;
+                        }
+                    }
+                }
+                if (coding.equals("gzip") || coding.equals("x-gzip")) {
+                    gzipQuality = quality;
+                } else if (coding.equals("*")) {
+                    wildcardQuality = quality;
+                }
+            }
+        }
+        Double quality = gzipQuality != null ? gzipQuality : wildcardQuality;
+        return quality != null && quality > 0;
+    }
+
+    @DeleteMapping("/cache/vehicles/{vehicleName}")
+    public String evictCachedVehicle(@PathVariable String vehicleName) {
+        catalogLookupService.evictVehicle(vehicleName);
+        return "Vehicle cache entry evicted";
+    }
+
+    @DeleteMapping("/cache/routes/{routeId}")
+    public String evictCachedRoute(@PathVariable int routeId) {
+        catalogLookupService.evictRoute(routeId);
+        return "Route cache entry evicted";
+    }
+
+    @DeleteMapping("/cache")
+    public String evictCatalogCache() {
+        catalogLookupService.evictAll();
+        return "Catalog cache cleared";
+    }
 }
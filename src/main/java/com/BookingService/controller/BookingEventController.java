@@ -0,0 +1,26 @@
+package com.BookingService.controller;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.BookingService.dto.BookingEventPage;
+import com.BookingService.service.BookingEventService;
+
+@RestController
+@RequestMapping("/bookings/events")
+@CrossOrigin("*")
+public class BookingEventController {
+
+    @Autowired
+    private BookingEventService bookingEventService;
+
+    @GetMapping
+    public BookingEventPage events(@RequestParam(required = false) Long after,
+                                   @RequestParam(defaultValue = "100") int size) {
+        return bookingEventService.getEvents(after, size);
+    }
+}
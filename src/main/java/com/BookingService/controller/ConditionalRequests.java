@@ -0,0 +1,44 @@
+package com.BookingService.controller;
+
+import java.time.Instant;
+import java.util.List;
+
+import org.springframework.http.HttpHeaders;
+
+/**
+ * If-None-Match / If-Modified-Since evaluation for GET handlers (RFC 7232). When the request
+ * carries If-None-Match, If-Modified-Since is ignored.
+ */
+final class ConditionalRequests {
+
+    private ConditionalRequests() {
+    }
+
+    static boolean isNotModified(HttpHeaders requestHeaders, String eTag, Instant lastModified) {
+        List<String> ifNoneMatch = requestHeaders.getIfNoneMatch();
+        if (!ifNoneMatch.isEmpty()) {
+            return ifNoneMatch.stream().anyMatch(candidate -> matches(candidate, eTag));
+        }
+        long ifModifiedSince = requestHeaders.getIfModifiedSince();
+        // HTTP dates have second precision
+        return lastModified != null && ifModifiedSince >= 0
+                && lastModified.getEpochSecond() * 1000 <= ifModifiedSince;
+    }
+
+    /** Strong ETag of a booking, derived from its row version. */
+    static String bookingETag(Long bookingId, Long version) {
+        return "\"" + bookingId + "-" + (version == null ? 0 : version) + "\"";
+    }
+
+    // If-None-Match uses weak comparison, so a W/ prefix on the client's copy is ignored
+    private static boolean matches(String candidate, String eTag) {
+        String tag = candidate.trim();
+        if ("*".equals(tag)) {
+            return true;
+        }
+        if (tag.startsWith("W/")) {
+            tag = tag.substring(2);
+        }
+        return tag.equals(eTag);
+    }
+}
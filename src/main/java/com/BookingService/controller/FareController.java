@@ -0,0 +1,28 @@
+package com.BookingService.controller;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.BookingService.dto.FareQuote;
+import com.BookingService.dto.FareQuoteRequest;
+import com.BookingService.fare.FareEngine;
+
+@RestController
+@RequestMapping("/bookings/fares")
+@CrossOrigin("*")
+public class FareController {
+
+    @Autowired
+    private FareEngine fareEngine;
+
+    @PostMapping("/quote")
+    public List<FareQuote> quote(@RequestBody List<FareQuoteRequest> requests) {
+        return fareEngine.quote(requests);
+    }
+}
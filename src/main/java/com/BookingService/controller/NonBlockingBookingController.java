@@ -0,0 +1,70 @@
+package com.BookingService.controller;
+
+import java.util.concurrent.CompletableFuture;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.BookingService.entity.Booking;
+import com.BookingService.service.BookingService;
+import com.BookingService.service.NonBlockingBookingService;
+
+/**
+ * The booking endpoints of {@link BookingController} with the same request and response
+ * bodies, served as servlet async requests: the Tomcat thread is released as soon as the
+ * handler returns its future and the response is written when the future completes.
+ */
+@RestController
+@RequestMapping("/bookings/nonblocking")
+@CrossOrigin("*")
+@ConditionalOnProperty(name = "booking.non-blocking.enabled", havingValue = "true")
+public class NonBlockingBookingController {
+
+    @Autowired
+    private NonBlockingBookingService nonBlockingBookingService;
+
+    @Autowired
+    private BookingService bookingService;
+
+    @PostMapping("/addBooking")
+    public CompletableFuture<Booking> createBooking(@RequestBody Booking booking,
+                                                    @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey) {
+        return nonBlockingBookingService.createBooking(booking, idempotencyKey);
+    }
+
+    @GetMapping("/viewBooking/{bookingId}")
+    public CompletableFuture<ResponseEntity<Booking>> getBookingById(@PathVariable Long bookingId,
+                                                                     @RequestHeader HttpHeaders requestHeaders) {
+        Long knownVersion = bookingService.findKnownVersion(bookingId);
+        if (knownVersion != null) {
+            String eTag = ConditionalRequests.bookingETag(bookingId, knownVersion);
+            if (ConditionalRequests.isNotModified(requestHeaders, eTag, null)) {
+                return CompletableFuture.completedFuture(ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build());
+            }
+        }
+        return nonBlockingBookingService.getBookingById(bookingId).thenApply(booking -> {
+            String eTag = ConditionalRequests.bookingETag(bookingId, booking.getVersion());
+            if (ConditionalRequests.isNotModified(requestHeaders, eTag, null)) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+            }
+            return ResponseEntity.ok().eTag(eTag).body(booking);
+        });
+    }
+
+    @DeleteMapping("/deleteBooking/{bookingId}")
+    public CompletableFuture<String> cancelBooking(@PathVariable Long bookingId) {
+        return nonBlockingBookingService.cancelBooking(bookingId).thenApply(done -> "Booking cancelled successfully");
+    }
+}
@@ -0,0 +1,28 @@
+package com.BookingService.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class BatchBookingResult {
+
+    public static final String CREATED = "CREATED";
+    public static final String FAILED = "FAILED";
+
+    // Position of the booking in the submitted batch
+    private int index;
+    private String status;
+    private Long bookingId;
+    private String message;
+
+    public static BatchBookingResult created(int index, Long bookingId) {
+        return new BatchBookingResult(index, CREATED, bookingId, null);
+    }
+
+    public static BatchBookingResult failed(int index, String message) {
+        return new BatchBookingResult(index, FAILED, null, message);
+    }
+}
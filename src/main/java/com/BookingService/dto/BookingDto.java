@@ -9,6 +9,9 @@ import javax.validation.constraints.NotNull;
 import javax.validation.constraints.Pattern;
 import javax.validation.constraints.Size;
 
+import com.BookingService.entity.BookingStatus;
+import com.fasterxml.jackson.annotation.JsonFormat;
+
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -18,8 +21,10 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor
 public class BookingDto {
 
-    @NotBlank(message = "Booking ID is mandatory")
-    private String bookingId;
+    // Serialized as a string, as before the field was a Long
+    @NotNull(message = "Booking ID is mandatory")
+    @JsonFormat(shape = JsonFormat.Shape.STRING)
+    private Long bookingId;
     @NotNull(message = "Please enter Name")
     private String username;
     @NotBlank(message = "Vehicle number is mandatory")
@@ -60,8 +65,7 @@ public class BookingDto {
     @Min(value = 1, message = "Number of passengers must be at least 1")
     private int noOfPassengers;
 
-    @NotBlank(message = "Booking status is mandatory")
-    @Size(max = 20, message = "Booking status should not exceed 20 characters")
-    private String bookingStatus;
+    @NotNull(message = "Booking status is mandatory")
+    private BookingStatus bookingStatus;
 
 }
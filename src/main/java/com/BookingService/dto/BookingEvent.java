@@ -0,0 +1,31 @@
+package com.BookingService.dto;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class BookingEvent {
+
+    // Position in the change feed: gap-free and increasing in publication order
+    private Long position;
+
+    // Unique per event; delivery is at-least-once, so consumers de-duplicate on it
+    private Long eventId;
+    private BookingEventType type;
+    private Long bookingId;
+    private Integer customerId;
+    private String vehicleNo;
+    private LocalDate journeyDate;
+    private Integer noOfPassengers;
+    private Double fare;
+
+    // Booking row version after the change
+    private Long version;
+    private LocalDateTime occurredAt;
+}
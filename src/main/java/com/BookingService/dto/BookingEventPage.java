@@ -0,0 +1,18 @@
+package com.BookingService.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class BookingEventPage {
+
+    private List<BookingEvent> events;
+
+    // Pass back as the after parameter to continue the feed; unchanged when no new events were published
+    private Long nextCursor;
+}
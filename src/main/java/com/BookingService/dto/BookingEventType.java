@@ -0,0 +1,36 @@
+package com.BookingService.dto;
+
+import com.fasterxml.jackson.annotation.JsonValue;
+
+/** Kind of change a {@link BookingEvent} records; stored as a SMALLINT code in booking_events. */
+public enum BookingEventType {
+
+    CREATED((short) 1, "BookingCreated"),
+    CANCELLED((short) 2, "BookingCancelled");
+
+    private static final BookingEventType[] BY_CODE = { null, CREATED, CANCELLED };
+
+    private final short code;
+    private final String label;
+
+    BookingEventType(short code, String label) {
+        this.code = code;
+        this.label = label;
+    }
+
+    public short getCode() {
+        return code;
+    }
+
+    @JsonValue
+    public String getLabel() {
+        return label;
+    }
+
+    public static BookingEventType fromCode(short code) {
+        if (code <= 0 || code >= BY_CODE.length) {
+            throw new IllegalArgumentException("Unknown booking event type code: " + code);
+        }
+        return BY_CODE[code];
+    }
+}
@@ -0,0 +1,18 @@
+package com.BookingService.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class BookingPage {
+
+    private List<BookingDto> bookings;
+
+    // Pass back as the cursor parameter to fetch the next page; null on the last page
+    private Long nextCursor;
+}
@@ -0,0 +1,13 @@
+package com.BookingService.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class BookingSearchCount {
+
+    private long count;
+}
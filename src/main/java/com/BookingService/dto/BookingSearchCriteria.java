@@ -0,0 +1,22 @@
+package com.BookingService.dto;
+
+import java.time.LocalDate;
+
+import com.BookingService.entity.BookingStatus;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/** Filters of a booking search; every filter left null matches all bookings. Date bounds are inclusive. */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class BookingSearchCriteria {
+
+    private Integer routeId;
+    private String vehicleNo;
+    private LocalDate journeyDateFrom;
+    private LocalDate journeyDateTo;
+    private BookingStatus bookingStatus;
+}
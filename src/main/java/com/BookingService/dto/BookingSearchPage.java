@@ -0,0 +1,19 @@
+package com.BookingService.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class BookingSearchPage {
+
+    // Ordered by journey date, then booking ID
+    private List<BookingDto> bookings;
+
+    // Pass back as the cursor parameter with the same filters to fetch the next page; null on the last page
+    private String nextCursor;
+}
@@ -0,0 +1,28 @@
+package com.BookingService.dto;
+
+import java.time.LocalDate;
+
+import com.BookingService.entity.BookingStatus;
+
+/**
+ * Closed projection of the columns shown on the customer bookings screen. Spring Data selects
+ * only these columns, which are all covered by idx_bookings_customer_journey.
+ */
+public interface BookingSummaryView {
+
+    Long getBookingId();
+
+    String getVehicleName();
+
+    String getSource();
+
+    String getDestination();
+
+    LocalDate getJourneyDate();
+
+    BookingStatus getBookingStatus();
+
+    Double getFare();
+
+    Integer getNoOfPassengers();
+}
@@ -0,0 +1,59 @@
+package com.BookingService.dto;
+
+import java.time.Instant;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import lombok.Getter;
+
+/**
+ * Immutable view of every vehicle and route known at {@link #getLoadedAt()}, indexed by vehicle
+ * name and route ID. Snapshots are replaced as a whole, never modified; the contained
+ * {@link Vehicle} and {@link Route} objects are shared and must be treated as read-only.
+ */
+@Getter
+public final class CatalogSnapshot {
+
+    public static final CatalogSnapshot EMPTY = new CatalogSnapshot(0, null, List.of(), List.of());
+
+    private final long version;
+    private final Instant loadedAt;
+    private final List<Vehicle> vehicles;
+    private final List<Route> routes;
+    private final Map<String, Vehicle> vehiclesByName;
+    private final Map<Integer, Route> routesById;
+
+    public CatalogSnapshot(long version, Instant loadedAt, List<Vehicle> vehicles, List<Route> routes) {
+        this.version = version;
+        this.loadedAt = loadedAt;
+        this.vehicles = List.copyOf(vehicles);
+        this.routes = List.copyOf(routes);
+
+        // First entry wins, matching what a by-name lookup returned before the snapshot existed
+        Map<String, Vehicle> byName = new LinkedHashMap<>();
+        for (Vehicle vehicle : this.vehicles) {
+            byName.putIfAbsent(vehicle.getVehicleName(), vehicle);
+        }
+        Map<Integer, Route> byId = new LinkedHashMap<>();
+        for (Route route : this.routes) {
+            byId.putIfAbsent(route.getRouteId(), route);
+        }
+        this.vehiclesByName = Collections.unmodifiableMap(byName);
+        this.routesById = Collections.unmodifiableMap(byId);
+    }
+
+    public boolean isLoaded() {
+        return loadedAt != null;
+    }
+
+    public Optional<Vehicle> findVehicle(String vehicleName) {
+        return Optional.ofNullable(vehiclesByName.get(vehicleName));
+    }
+
+    public Optional<Route> findRoute(int routeId) {
+        return Optional.ofNullable(routesById.get(routeId));
+    }
+}
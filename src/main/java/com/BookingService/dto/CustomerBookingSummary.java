@@ -0,0 +1,29 @@
+package com.BookingService.dto;
+
+import java.time.LocalDate;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Booking totals for one customer. {@code totalFare} covers bookings that are not cancelled;
+ * the next journey is the earliest upcoming booking, or {@code null} when there is none.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class CustomerBookingSummary {
+
+    private int customerId;
+    private int upcomingBookings;
+    private int completedBookings;
+    private int cancelledBookings;
+    private double totalFare;
+    private LocalDate nextJourneyDate;
+    private Long nextBookingId;
+
+    public static CustomerBookingSummary empty(int customerId) {
+        return new CustomerBookingSummary(customerId, 0, 0, 0, 0.0, null, null);
+    }
+}
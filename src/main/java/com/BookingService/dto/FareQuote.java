@@ -0,0 +1,36 @@
+package com.BookingService.dto;
+
+import java.time.LocalDate;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class FareQuote {
+
+    public static final String QUOTED = "QUOTED";
+    public static final String UNAVAILABLE = "UNAVAILABLE";
+
+    // Position of the request in the submitted list
+    private int index;
+    private String status;
+    private String vehicleName;
+    private Integer routeId;
+    private LocalDate journeyDate;
+    private int noOfPassengers;
+    private Double fare;
+    private String message;
+
+    public static FareQuote quoted(int index, FareQuoteRequest request, int noOfPassengers, double fare) {
+        return new FareQuote(index, QUOTED, request.getVehicleName(), request.getRouteId(),
+                request.getJourneyDate(), noOfPassengers, fare, null);
+    }
+
+    public static FareQuote unavailable(int index, FareQuoteRequest request, int noOfPassengers, String message) {
+        return new FareQuote(index, UNAVAILABLE, request.getVehicleName(), request.getRouteId(),
+                request.getJourneyDate(), noOfPassengers, null, message);
+    }
+}
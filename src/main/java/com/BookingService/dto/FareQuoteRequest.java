@@ -0,0 +1,18 @@
+package com.BookingService.dto;
+
+import java.time.LocalDate;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class FareQuoteRequest {
+
+    private String vehicleName;
+    private Integer routeId;
+    private LocalDate journeyDate;
+    private Integer noOfPassengers;
+}
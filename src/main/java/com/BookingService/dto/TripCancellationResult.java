@@ -0,0 +1,18 @@
+package com.BookingService.dto;
+
+import java.time.LocalDate;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class TripCancellationResult {
+
+    private String vehicleNo;
+    private LocalDate journeyDate;
+    private int cancelledBookings;
+    private int releasedSeats;
+}
@@ -7,7 +7,9 @@ import javax.persistence.Entity;
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
+import javax.persistence.SequenceGenerator;
 import javax.persistence.Table;
+import javax.persistence.Version;
 import javax.validation.constraints.Future;
 import javax.validation.constraints.NotBlank;
 import javax.validation.constraints.NotNull;
@@ -25,8 +27,10 @@ import lombok.NoArgsConstructor;
 @Table(name = "bookings")
 public class Booking {
 
+    // Pooled sequence: Hibernate reserves 50 ids per round trip, which also keeps JDBC insert batching enabled
     @Id
-    @GeneratedValue(strategy = GenerationType.AUTO)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "booking_seq")
+    @SequenceGenerator(name = "booking_seq", sequenceName = "booking_seq", allocationSize = 50)
     private Long bookingId;
     @NotNull(message = "Please enter Name")
     private String username;
@@ -81,10 +85,15 @@ public class Booking {
     @Column(name = "no_of_passengers")
     private Integer noOfPassengers;
 
-    @NotBlank(message = "Booking status is mandatory")
-    @Size(max = 20, message = "Booking status should not exceed 20 characters")
+    // Stored as a SMALLINT code through BookingStatusConverter
+    @NotNull(message = "Booking status is mandatory")
     @Column(name = "booking_status")
-    private String bookingStatus;
+    private BookingStatus bookingStatus;
 
     private int customerId;
+
+    // Bumped on every update; also used as the booking's HTTP ETag
+    @Version
+    @Column(name = "version")
+    private Long version;
 }
@@ -0,0 +1,51 @@
+package com.BookingService.entity;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonValue;
+
+/**
+ * Booking lifecycle state. Stored as a SMALLINT code (see {@link BookingStatusConverter}) and
+ * exposed in JSON by its label, which is the text the column used to hold.
+ */
+public enum BookingStatus {
+
+    UPCOMING((short) 1, "Upcoming"),
+    COMPLETED((short) 2, "Completed"),
+    CANCELLED((short) 3, "Cancelled");
+
+    private static final BookingStatus[] BY_CODE = { null, UPCOMING, COMPLETED, CANCELLED };
+
+    private final short code;
+    private final String label;
+
+    BookingStatus(short code, String label) {
+        this.code = code;
+        this.label = label;
+    }
+
+    public short getCode() {
+        return code;
+    }
+
+    @JsonValue
+    public String getLabel() {
+        return label;
+    }
+
+    public static BookingStatus fromCode(short code) {
+        if (code <= 0 || code >= BY_CODE.length) {
+            throw new IllegalArgumentException("Unknown booking status code: " + code);
+        }
+        return BY_CODE[code];
+    }
+
+    @JsonCreator
+    public static BookingStatus fromLabel(String label) {
+        for (BookingStatus status : values()) {
+            if (status.label.equalsIgnoreCase(label) || status.name().equalsIgnoreCase(label)) {
+                return status;
+            }
+        }
+        throw new IllegalArgumentException("Unknown booking status: " + label);
+    }
+}
@@ -0,0 +1,44 @@
+package com.BookingService.entity;
+
+import java.time.LocalDate;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.IdClass;
+import javax.persistence.Table;
+import javax.persistence.Version;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Durable seat counter for one trip (vehicle on a journey date). Updated with optimistic
+ * versioning so reservations never take row locks on the bookings table.
+ */
+@Entity
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Table(name = "seat_inventory")
+@IdClass(SeatInventoryId.class)
+public class SeatInventory {
+
+    @Id
+    @Column(name = "vehicle_no", length = 20)
+    private String vehicleNo;
+
+    @Id
+    @Column(name = "journey_date")
+    private LocalDate journeyDate;
+
+    @Column(name = "capacity")
+    private int capacity;
+
+    @Column(name = "reserved_seats")
+    private int reservedSeats;
+
+    @Version
+    private Long version;
+}
@@ -0,0 +1,19 @@
+package com.BookingService.entity;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class SeatInventoryId implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private String vehicleNo;
+    private LocalDate journeyDate;
+}
@@ -0,0 +1,8 @@
+package com.BookingService.exception;
+
+
+public class BookingEventsExpiredException extends RuntimeException {
+    public BookingEventsExpiredException(String message) {
+        super(message);
+    }
+}
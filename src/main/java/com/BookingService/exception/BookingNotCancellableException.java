@@ -0,0 +1,8 @@
+package com.BookingService.exception;
+
+
+public class BookingNotCancellableException extends RuntimeException {
+    public BookingNotCancellableException(String message) {
+        super(message);
+    }
+}
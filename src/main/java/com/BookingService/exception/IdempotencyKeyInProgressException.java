@@ -0,0 +1,8 @@
+package com.BookingService.exception;
+
+
+public class IdempotencyKeyInProgressException extends RuntimeException {
+    public IdempotencyKeyInProgressException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,8 @@
+package com.BookingService.exception;
+
+
+public class IdempotencyKeyMismatchException extends RuntimeException {
+    public IdempotencyKeyMismatchException(String message) {
+        super(message);
+    }
+}
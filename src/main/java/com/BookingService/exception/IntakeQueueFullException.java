@@ -0,0 +1,8 @@
+package com.BookingService.exception;
+
+
+public class IntakeQueueFullException extends RuntimeException {
+    public IntakeQueueFullException(String message) {
+        super(message);
+    }
+}
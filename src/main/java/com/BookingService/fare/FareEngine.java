@@ -0,0 +1,117 @@
+package com.BookingService.fare;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import javax.annotation.PostConstruct;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.BookingService.dto.CatalogSnapshot;
+import com.BookingService.dto.FareQuote;
+import com.BookingService.dto.FareQuoteRequest;
+import com.BookingService.dto.Route;
+import com.BookingService.dto.Vehicle;
+import com.BookingService.service.CatalogSnapshotService;
+
+/**
+ * Server-side fares: route distance x vehicle fare per km x passengers, times the combined
+ * multiplier of all {@link FareRule}s, rounded to two decimals. The rules are compiled into a
+ * {@link FareTable} at startup, so pricing a journey is arithmetic plus one array read.
+ * Quotes are answered from the catalog snapshot only and never call the catalog services.
+ */
+@Service
+public class FareEngine {
+
+    private static final Logger logger = LoggerFactory.getLogger(FareEngine.class);
+
+    @Autowired(required = false)
+    private List<FareRule> fareRules = List.of();
+    @Autowired
+    private CatalogSnapshotService catalogSnapshotService;
+
+    @Value("${booking.fare.horizon-days:366}")
+    private int horizonDays;
+    @Value("${booking.fare.max-quotes:10000}")
+    private int maxQuotes;
+
+    private FareTable fareTable;
+
+    @PostConstruct
+    public void init() {
+        fareTable = FareTable.compile(fareRules, horizonDays);
+        logger.info("Fare table compiled from rules {} over {} days",
+                fareRules.stream().map(FareRule::name).collect(Collectors.toList()), horizonDays);
+    }
+
+    /** Fare for a booking on an already resolved vehicle and route. */
+    public double computeFare(Vehicle vehicle, Route route, LocalDate journeyDate, int noOfPassengers) {
+        String problem = unpriceable(vehicle, route);
+        if (problem != null) {
+            throw new IllegalStateException(problem);
+        }
+        return fare(vehicle, route, journeyDate, noOfPassengers, LocalDate.now());
+    }
+
+    /**
+     * Quotes every request against the current catalog snapshot. Requests that cannot be priced
+     * (unknown vehicle or route, missing distance or rate) are reported individually.
+     */
+    public List<FareQuote> quote(List<FareQuoteRequest> requests) {
+        if (requests.size() > maxQuotes) {
+            throw new IllegalArgumentException("A quote request may contain at most " + maxQuotes + " items");
+        }
+        CatalogSnapshot snapshot = catalogSnapshotService.getSnapshot();
+        LocalDate today = LocalDate.now();
+        List<FareQuote> quotes = new ArrayList<>(requests.size());
+        for (int index = 0; index < requests.size(); index++) {
+            quotes.add(quote(index, requests.get(index), snapshot, today));
+        }
+        return quotes;
+    }
+
+    private FareQuote quote(int index, FareQuoteRequest request, CatalogSnapshot snapshot, LocalDate today) {
+        int passengers = request.getNoOfPassengers() == null ? 1 : request.getNoOfPassengers();
+        if (passengers < 1) {
+            return FareQuote.unavailable(index, request, passengers, "Number of passengers must be at least 1");
+        }
+        if (request.getJourneyDate() == null) {
+            return FareQuote.unavailable(index, request, passengers, "Journey date is required");
+        }
+        Vehicle vehicle = snapshot.getVehiclesByName().get(request.getVehicleName());
+        if (vehicle == null) {
+            return FareQuote.unavailable(index, request, passengers, "Vehicle not found for name :: " + request.getVehicleName());
+        }
+        Route route = request.getRouteId() == null ? null : snapshot.getRoutesById().get(request.getRouteId());
+        if (route == null) {
+            return FareQuote.unavailable(index, request, passengers, "Route not found for id :: " + request.getRouteId());
+        }
+        String problem = unpriceable(vehicle, route);
+        if (problem != null) {
+            return FareQuote.unavailable(index, request, passengers, problem);
+        }
+        return FareQuote.quoted(index, request, passengers, fare(vehicle, route, request.getJourneyDate(), passengers, today));
+    }
+
+    private double fare(Vehicle vehicle, Route route, LocalDate journeyDate, int noOfPassengers, LocalDate today) {
+        double base = route.getDistance() * vehicle.getFarePerKm() * noOfPassengers;
+        long daysAhead = journeyDate.toEpochDay() - today.toEpochDay();
+        return Math.round(base * fareTable.multiplier(journeyDate.getDayOfWeek(), daysAhead) * 100) / 100.0;
+    }
+
+    private static String unpriceable(Vehicle vehicle, Route route) {
+        if (route.getDistance() == null || route.getDistance() <= 0) {
+            return "Route distance unknown for id :: " + route.getRouteId();
+        }
+        if (vehicle.getFarePerKm() <= 0) {
+            return "Fare per km unknown for vehicle :: " + vehicle.getVehicleName();
+        }
+        return null;
+    }
+}
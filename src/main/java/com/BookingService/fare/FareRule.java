@@ -0,0 +1,16 @@
+package com.BookingService.fare;
+
+import java.time.DayOfWeek;
+
+/**
+ * A fare multiplier that depends only on the journey's day of week and how many days ahead of
+ * it the fare is quoted. Rules are evaluated once per cell when the {@link FareTable} is
+ * compiled, never per quote, so they may be as slow as they like but must not depend on
+ * anything else. Every {@code FareRule} bean is picked up by {@link FareEngine}.
+ */
+public interface FareRule {
+
+    String name();
+
+    double multiplier(DayOfWeek journeyDay, int daysAhead);
+}
@@ -0,0 +1,41 @@
+package com.BookingService.fare;
+
+import java.time.DayOfWeek;
+import java.util.List;
+
+/**
+ * Combined multiplier of all {@link FareRule}s for every journey day of week and every
+ * number of days ahead up to the horizon; anything further ahead uses the horizon's value.
+ * Looking up a multiplier is a single array read.
+ */
+final class FareTable {
+
+    private final int horizonDays;
+    private final double[] multipliers;
+
+    private FareTable(int horizonDays, double[] multipliers) {
+        this.horizonDays = horizonDays;
+        this.multipliers = multipliers;
+    }
+
+    static FareTable compile(List<FareRule> rules, int horizonDays) {
+        int width = horizonDays + 1;
+        double[] multipliers = new double[DayOfWeek.values().length * width];
+        for (DayOfWeek day : DayOfWeek.values()) {
+            for (int daysAhead = 0; daysAhead <= horizonDays; daysAhead++) {
+                double multiplier = 1.0;
+                for (FareRule rule : rules) {
+                    multiplier *= rule.multiplier(day, daysAhead);
+                }
+                multipliers[(day.getValue() - 1) * width + daysAhead] = multiplier;
+            }
+        }
+        return new FareTable(horizonDays, multipliers);
+    }
+
+    // Journeys already in the past are priced like same-day journeys
+    double multiplier(DayOfWeek journeyDay, long daysAhead) {
+        int column = (int) Math.max(0, Math.min(daysAhead, horizonDays));
+        return multipliers[(journeyDay.getValue() - 1) * (horizonDays + 1) + column];
+    }
+}
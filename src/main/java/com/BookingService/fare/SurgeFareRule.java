@@ -0,0 +1,31 @@
+package com.BookingService.fare;
+
+import java.time.DayOfWeek;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Applies {@code booking.fare.surge.multiplier} to journeys booked at most
+ * {@code booking.fare.surge.within-days} days ahead, when demand for the remaining seats is
+ * highest.
+ */
+@Component
+public class SurgeFareRule implements FareRule {
+
+    @Value("${booking.fare.surge.within-days:1}")
+    private int withinDays;
+
+    @Value("${booking.fare.surge.multiplier:1.0}")
+    private double surgeMultiplier;
+
+    @Override
+    public String name() {
+        return "surge";
+    }
+
+    @Override
+    public double multiplier(DayOfWeek journeyDay, int daysAhead) {
+        return daysAhead <= withinDays ? surgeMultiplier : 1.0;
+    }
+}
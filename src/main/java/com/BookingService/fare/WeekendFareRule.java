@@ -0,0 +1,24 @@
+package com.BookingService.fare;
+
+import java.time.DayOfWeek;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/** Applies {@code booking.fare.weekend-multiplier} to journeys on Saturday and Sunday. */
+@Component
+public class WeekendFareRule implements FareRule {
+
+    @Value("${booking.fare.weekend-multiplier:1.0}")
+    private double weekendMultiplier;
+
+    @Override
+    public String name() {
+        return "weekend";
+    }
+
+    @Override
+    public double multiplier(DayOfWeek journeyDay, int daysAhead) {
+        return journeyDay == DayOfWeek.SATURDAY || journeyDay == DayOfWeek.SUNDAY ? weekendMultiplier : 1.0;
+    }
+}
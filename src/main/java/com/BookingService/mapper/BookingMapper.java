@@ -0,0 +1,17 @@
+package com.BookingService.mapper;
+
+import org.mapstruct.Mapper;
+import org.mapstruct.ReportingPolicy;
+
+import com.BookingService.dto.BookingDto;
+import com.BookingService.entity.Booking;
+
+/**
+ * Booking to BookingDto copy, generated at compile time as plain getter/setter calls. Every
+ * BookingDto property must have a Booking source, otherwise the build fails.
+ */
+@Mapper(componentModel = "spring", unmappedTargetPolicy = ReportingPolicy.ERROR)
+public interface BookingMapper {
+
+    BookingDto toDto(Booking booking);
+}
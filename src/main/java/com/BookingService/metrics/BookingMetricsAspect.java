@@ -0,0 +1,92 @@
+package com.BookingService.metrics;
+
+import java.util.List;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.AfterReturning;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import com.BookingService.dto.BatchBookingResult;
+import com.BookingService.dto.TripCancellationResult;
+import com.BookingService.entity.Booking;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Latency timers (with percentile histograms) for every BookingService method and every
+ * Feign client call, plus counters for bookings created by status and bookings cancelled.
+ * Controller endpoints are timed by Spring Boot as http.server.requests and repository calls
+ * as spring.data.repository.invocations.
+ */
+@Aspect
+@Component
+public class BookingMetricsAspect {
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Around("execution(public * com.BookingService.service.BookingService.*(..))")
+    public Object timeBookingService(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time(joinPoint, "booking.service", "BookingService");
+    }
+
+    @Around("execution(* com.BookingService.feign.*.*(..))")
+    public Object timeFeignClient(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time(joinPoint, "booking.feign.client", joinPoint.getSignature().getDeclaringType().getSimpleName());
+    }
+
+    @AfterReturning(pointcut = "execution(* com.BookingService.service.BookingService.createBooking(..)) "
+            + "|| execution(* com.BookingService.service.BookingService.createIdempotentBooking(..))",
+            returning = "booking")
+    public void countCreatedBooking(Booking booking) {
+        countCreated(booking);
+    }
+
+    @AfterReturning(pointcut = "execution(* com.BookingService.service.BookingService.createBookings(..)) && args(bookings, ..)",
+            returning = "results")
+    public void countCreatedBookings(List<Booking> bookings, List<BatchBookingResult> results) {
+        for (BatchBookingResult result : results) {
+            if (BatchBookingResult.CREATED.equals(result.getStatus())) {
+                countCreated(bookings.get(result.getIndex()));
+            }
+        }
+    }
+
+    @AfterReturning("execution(* com.BookingService.service.BookingService.cancelBooking(..))")
+    public void countCancelledBooking() {
+        meterRegistry.counter("booking.cancelled").increment();
+    }
+
+    @AfterReturning(pointcut = "execution(* com.BookingService.service.BookingService.cancelTrip(..))",
+            returning = "result")
+    public void countCancelledTrip(TripCancellationResult result) {
+        meterRegistry.counter("booking.cancelled").increment(result.getCancelledBookings());
+    }
+
+    private void countCreated(Booking booking) {
+        String status = booking.getBookingStatus() == null ? "none" : booking.getBookingStatus().getLabel();
+        meterRegistry.counter("booking.created", "status", status).increment();
+    }
+
+    private Object time(ProceedingJoinPoint joinPoint, String metricName, String component) throws Throwable {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String exception = "none";
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable e) {
+            exception = e.getClass().getSimpleName();
+            throw e;
+        } finally {
+            sample.stop(Timer.builder(metricName)
+                    .tag("class", component)
+                    .tag("method", joinPoint.getSignature().getName())
+                    .tag("exception", exception)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry));
+        }
+    }
+}
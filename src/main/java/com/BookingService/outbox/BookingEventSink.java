@@ -0,0 +1,16 @@
+package com.BookingService.outbox;
+
+import java.util.List;
+
+import com.BookingService.dto.BookingEvent;
+
+/**
+ * Destination of published booking events, chosen with {@code booking.outbox.sink}.
+ * {@link BookingOutboxPublisher} calls it with each batch in feed order, inside the transaction
+ * that numbers the batch: an exception rolls the batch back and it is offered again on the
+ * next run, so a sink sees every event at least once and must tolerate repeats by event id.
+ */
+public interface BookingEventSink {
+
+    void publish(List<BookingEvent> events);
+}
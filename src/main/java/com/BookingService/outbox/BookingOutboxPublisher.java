@@ -0,0 +1,93 @@
+package com.BookingService.outbox;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.BookingService.dto.BookingEvent;
+import com.BookingService.repository.BookingEventWriter;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Drains the {@code booking_events} outbox. Each run publishes batches of up to
+ * {@code batch-size} committed events, oldest first, until the outbox is empty or
+ * {@code max-batches-per-run} batches went out. A batch gets its feed positions and goes to the
+ * {@link BookingEventSink} in one transaction, so it reaches the change feed only once the sink
+ * took it; a failing sink stops the run and the batch is retried on the next one. Only one
+ * instance publishes at a time (see {@link BookingEventWriter#publishNext(int)}).
+ *
+ * <p>Publishes {@code booking.outbox.published}, {@code booking.outbox.failures} and the
+ * {@code booking.outbox.batch} timer.
+ */
+@Component
+@ConditionalOnProperty(name = "booking.outbox.enabled", havingValue = "true", matchIfMissing = true)
+public class BookingOutboxPublisher {
+
+    private static final Logger logger = LoggerFactory.getLogger(BookingOutboxPublisher.class);
+
+    @Autowired
+    private BookingEventWriter bookingEventWriter;
+    @Autowired
+    private BookingEventSink bookingEventSink;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${booking.outbox.batch-size:500}")
+    private int batchSize;
+    @Value("${booking.outbox.max-batches-per-run:20}")
+    private int maxBatchesPerRun;
+    @Value("${booking.outbox.retention:7d}")
+    private Duration retention;
+
+    @Scheduled(fixedDelayString = "${booking.outbox.publish-interval:PT1S}")
+    public void run() {
+        try {
+            publishPending();
+        } catch (RuntimeException e) {
+            meterRegistry.counter("booking.outbox.failures").increment();
+            logger.warn("Publishing booking events failed, retrying on the next run: {}", e.getMessage());
+        }
+    }
+
+    /** Publishes pending events in feed order; returns how many were published. */
+    public synchronized int publishPending() {
+        int published = 0;
+        for (int batch = 0; batch < maxBatchesPerRun; batch++) {
+            List<BookingEvent> events = meterRegistry.timer("booking.outbox.batch").record(() ->
+                    transactionTemplate.execute(status -> {
+                        List<BookingEvent> next = bookingEventWriter.publishNext(batchSize);
+                        if (!next.isEmpty()) {
+                            bookingEventSink.publish(next);
+                        }
+                        return next;
+                    }));
+            published += events.size();
+            meterRegistry.counter("booking.outbox.published").increment(events.size());
+            if (events.size() < batchSize) {
+                break;
+            }
+        }
+        if (published > 0) {
+            logger.debug("Published {} booking events", published);
+        }
+        return published;
+    }
+
+    @Scheduled(cron = "${booking.outbox.cleanup-cron:0 45 3 * * *}")
+    public void deleteExpiredEvents() {
+        int deleted = bookingEventWriter.deletePublishedBefore(LocalDateTime.now().minus(retention));
+        logger.info("Deleted {} booking events published more than {} ago", deleted, retention);
+    }
+}
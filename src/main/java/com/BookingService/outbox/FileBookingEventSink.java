@@ -0,0 +1,47 @@
+package com.BookingService.outbox;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import com.BookingService.dto.BookingEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Appends published events to {@code booking.outbox.file.path}, one JSON object per line, and
+ * flushes each batch before the publisher commits it. Meant for local runs: after a crash
+ * between the append and the commit the batch is appended again.
+ */
+@Component
+@ConditionalOnProperty(name = "booking.outbox.sink", havingValue = "file")
+public class FileBookingEventSink implements BookingEventSink {
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Value("${booking.outbox.file.path:booking-events.ndjson}")
+    private Path path;
+
+    @Override
+    public synchronized void publish(List<BookingEvent> events) {
+        try (BufferedWriter writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+            for (BookingEvent event : events) {
+                writer.write(objectMapper.writeValueAsString(event));
+                writer.newLine();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not append booking events to " + path, e);
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.BookingService.outbox;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import com.BookingService.dto.BookingEvent;
+
+/**
+ * Keeps the most recent {@code capacity} published events in memory, for local runs and
+ * tests. The default sink; consumers outside the process read the change feed instead.
+ */
+@Component
+@ConditionalOnProperty(name = "booking.outbox.sink", havingValue = "memory", matchIfMissing = true)
+public class InMemoryBookingEventSink implements BookingEventSink {
+
+    @Value("${booking.outbox.memory.capacity:10000}")
+    private int capacity;
+
+    private final Deque<BookingEvent> events = new ArrayDeque<>();
+
+    @Override
+    public synchronized void publish(List<BookingEvent> batch) {
+        for (BookingEvent event : batch) {
+            if (events.size() >= capacity) {
+                events.removeFirst();
+            }
+            events.addLast(event);
+        }
+    }
+
+    /** The retained events, oldest first. */
+    public synchronized List<BookingEvent> getEvents() {
+        return new ArrayList<>(events);
+    }
+}
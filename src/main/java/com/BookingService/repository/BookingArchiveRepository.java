@@ -0,0 +1,80 @@
+package com.BookingService.repository;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.projection.ProjectionFactory;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import com.BookingService.dto.BookingSummaryView;
+import com.BookingService.entity.Booking;
+import com.BookingService.entity.BookingStatus;
+
+/**
+ * Reads bookings of archived months from {@code bookings_archive}. Archived bookings are
+ * completed or cancelled and never change again; they are returned as detached
+ * {@link Booking}s that are not managed by any persistence context.
+ */
+@Repository
+public class BookingArchiveRepository {
+
+    private static final String SELECT_SQL = "SELECT booking_id, username, vehicle_no, vehicle_name, route_id, "
+            + "source, destination, booking_date, journey_date, boarding_point, drop_point, contact_no, fare, "
+            + "no_of_passengers, booking_status, customer_id, version FROM bookings_archive a";
+
+    // A month being archived is in both tables until its partition is dropped; the live row wins
+    private static final String NOT_LIVE = " AND NOT EXISTS (SELECT 1 FROM bookings b "
+            + "WHERE b.booking_id = a.booking_id AND b.journey_date = a.journey_date)";
+
+    private static final ProjectionFactory PROJECTIONS = new SpelAwareProxyProjectionFactory();
+
+    private static final RowMapper<Booking> BOOKING = (rs, rowNum) -> {
+        Booking booking = new Booking();
+        booking.setBookingId(rs.getLong("booking_id"));
+        booking.setUsername(rs.getString("username"));
+        booking.setVehicleNo(rs.getString("vehicle_no"));
+        booking.setVehicleName(rs.getString("vehicle_name"));
+        booking.setRouteId(rs.getInt("route_id"));
+        booking.setSource(rs.getString("source"));
+        booking.setDestination(rs.getString("destination"));
+        booking.setBookingDate(rs.getObject("booking_date", LocalDate.class));
+        booking.setJourneyDate(rs.getObject("journey_date", LocalDate.class));
+        booking.setBoardingPoint(rs.getString("boarding_point"));
+        booking.setDropPoint(rs.getString("drop_point"));
+        booking.setContactNo(rs.getString("contact_no"));
+        booking.setFare(rs.getDouble("fare"));
+        booking.setNoOfPassengers(rs.getInt("no_of_passengers"));
+        booking.setBookingStatus(BookingStatus.fromCode(rs.getShort("booking_status")));
+        booking.setCustomerId(rs.getInt("customer_id"));
+        booking.setVersion(rs.getLong("version"));
+        return booking;
+    };
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    public Optional<Booking> findById(Long bookingId) {
+        return jdbcTemplate.query(SELECT_SQL + " WHERE booking_id = ?", BOOKING, bookingId).stream().findFirst();
+    }
+
+    public List<Booking> findByCustomerId(int customerId) {
+        return jdbcTemplate.query(SELECT_SQL + " WHERE customer_id = ?" + NOT_LIVE, BOOKING, customerId);
+    }
+
+    /**
+     * Up to {@code limit} of the customer's archived bookings, newest journey first, skipping
+     * the first {@code offset}; the same order as the customer bookings screen.
+     */
+    public List<BookingSummaryView> findSummariesByCustomerId(int customerId, long offset, int limit) {
+        return jdbcTemplate.query(SELECT_SQL + " WHERE customer_id = ?" + NOT_LIVE + " ORDER BY journey_date DESC, booking_id DESC "
+                        + "OFFSET ? LIMIT ?", BOOKING, customerId, offset, limit).stream()
+                .map(booking -> PROJECTIONS.createProjection(BookingSummaryView.class, booking))
+                .collect(Collectors.toList());
+    }
+}
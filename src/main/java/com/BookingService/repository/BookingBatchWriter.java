@@ -0,0 +1,58 @@
+package com.BookingService.repository;
+
+import java.sql.Date;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.BookingService.entity.Booking;
+
+/**
+ * Plain JDBC batch insert for bookings whose ids were already reserved through
+ * {@link BookingIdAllocator}. Going through JPA would turn each pre-assigned id into a merge
+ * (a select before every insert).
+ */
+@Repository
+public class BookingBatchWriter {
+
+    private static final String INSERT_SQL = "INSERT INTO bookings (booking_id, username, vehicle_no, vehicle_name, "
+            + "route_id, source, destination, booking_date, journey_date, boarding_point, drop_point, contact_no, "
+            + "fare, no_of_passengers, booking_status, customer_id, version) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, 0)";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Transactional
+    public List<Booking> insert(List<Booking> bookings) {
+        jdbcTemplate.batchUpdate(INSERT_SQL, bookings, bookings.size(), (ps, booking) -> {
+            ps.setLong(1, booking.getBookingId());
+            ps.setString(2, booking.getUsername());
+            ps.setString(3, booking.getVehicleNo());
+            ps.setString(4, booking.getVehicleName());
+            ps.setInt(5, booking.getRouteId());
+            ps.setString(6, booking.getSource());
+            ps.setString(7, booking.getDestination());
+            ps.setObject(8, toSqlDate(booking.getBookingDate()), Types.DATE);
+            ps.setObject(9, toSqlDate(booking.getJourneyDate()), Types.DATE);
+            ps.setString(10, booking.getBoardingPoint());
+            ps.setString(11, booking.getDropPoint());
+            ps.setString(12, booking.getContactNo());
+            ps.setObject(13, booking.getFare(), Types.DOUBLE);
+            ps.setObject(14, booking.getNoOfPassengers(), Types.INTEGER);
+            ps.setObject(15, booking.getBookingStatus() == null ? null : booking.getBookingStatus().getCode(), Types.SMALLINT);
+            ps.setInt(16, booking.getCustomerId());
+        });
+        bookings.forEach(booking -> booking.setVersion(0L));
+        return bookings;
+    }
+
+    private static Date toSqlDate(LocalDate date) {
+        return date == null ? null : Date.valueOf(date);
+    }
+}
@@ -0,0 +1,96 @@
+package com.BookingService.repository;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import com.BookingService.entity.BookingStatus;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Set-based cancellation. Each cancel is a single conditional UPDATE that only touches rows
+ * still upcoming and bumps the row version, so a concurrent cancel or modification can never
+ * be overwritten. The same statement releases the seats in {@code seat_inventory}, adjusts the
+ * customer summaries and records the cancellation events, so a committed cancel has always
+ * given its seats back. RETURNING hands back the cancelled rows without a second read.
+ */
+@Repository
+public class BookingCancellationWriter {
+
+    private static final String CANCELLED_COLUMNS =
+            "booking_id, customer_id, vehicle_no, journey_date, no_of_passengers, fare, version";
+
+    // One update per trip; a missing passenger count held one seat, trips without a row hold none
+    private static final String RELEASE_SEATS_SQL = "UPDATE seat_inventory s "
+            + "SET reserved_seats = GREATEST(s.reserved_seats - r.seats, 0), version = COALESCE(s.version, 0) + 1 "
+            + "FROM (SELECT vehicle_no, journey_date, "
+            + "sum(CASE WHEN no_of_passengers IS NULL THEN 1 ELSE GREATEST(no_of_passengers, 0) END) AS seats "
+            + "FROM cancelled GROUP BY vehicle_no, journey_date) r "
+            + "WHERE s.vehicle_no = r.vehicle_no AND s.journey_date = r.journey_date";
+
+    private static final String CANCEL_BOOKING_SQL = "WITH cancelled AS (UPDATE bookings "
+            + "SET booking_status = " + BookingStatus.CANCELLED.getCode() + ", version = version + 1 "
+            + "WHERE booking_id = ? AND booking_status = " + BookingStatus.UPCOMING.getCode() + " "
+            + "RETURNING " + CANCELLED_COLUMNS + "), "
+            + "seats AS (" + RELEASE_SEATS_SQL + "), "
+            + "summary AS (" + CustomerSummaryWriter.afterCancellation("cancelled") + "), "
+            + "events AS (" + BookingEventWriter.afterCancellation("cancelled") + ") "
+            + "SELECT " + CANCELLED_COLUMNS + " FROM cancelled";
+
+    private static final String CANCEL_TRIP_SQL = "WITH cancelled AS (UPDATE bookings "
+            + "SET booking_status = " + BookingStatus.CANCELLED.getCode() + ", version = version + 1 "
+            + "WHERE vehicle_no = ? AND journey_date = ? AND booking_status = " + BookingStatus.UPCOMING.getCode() + " "
+            + "RETURNING " + CANCELLED_COLUMNS + "), "
+            + "seats AS (" + RELEASE_SEATS_SQL + "), "
+            + "summary AS (" + CustomerSummaryWriter.afterCancellation("cancelled") + "), "
+            + "events AS (" + BookingEventWriter.afterCancellation("cancelled") + ") "
+            + "SELECT " + CANCELLED_COLUMNS + " FROM cancelled";
+
+    private static final String FIND_STATUS_SQL = "SELECT booking_status FROM bookings WHERE booking_id = ? "
+            + "UNION ALL SELECT booking_status FROM bookings_archive WHERE booking_id = ? LIMIT 1";
+
+    private static final RowMapper<CancelledBooking> CANCELLED_BOOKING = (rs, rowNum) -> new CancelledBooking(
+            rs.getLong("booking_id"),
+            rs.getInt("customer_id"),
+            rs.getString("vehicle_no"),
+            rs.getObject("journey_date", LocalDate.class),
+            rs.getInt("no_of_passengers"),
+            rs.getLong("version"));
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    /** Cancels the booking if it is still upcoming; empty when it is missing or in another status. */
+    public Optional<CancelledBooking> cancelIfUpcoming(Long bookingId) {
+        return jdbcTemplate.query(CANCEL_BOOKING_SQL, CANCELLED_BOOKING, bookingId).stream().findFirst();
+    }
+
+    /** Cancels every upcoming booking on one vehicle for one journey date. */
+    public List<CancelledBooking> cancelTrip(String vehicleNo, LocalDate journeyDate) {
+        return jdbcTemplate.query(CANCEL_TRIP_SQL, CANCELLED_BOOKING, vehicleNo, journeyDate);
+    }
+
+    /** Current status of the booking, archived or not, or empty when it does not exist. */
+    public Optional<BookingStatus> findStatus(Long bookingId) {
+        List<Short> codes = jdbcTemplate.queryForList(FIND_STATUS_SQL, Short.class, bookingId, bookingId);
+        return codes.isEmpty() ? Optional.empty() : Optional.of(BookingStatus.fromCode(codes.get(0)));
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class CancelledBooking {
+        private final Long bookingId;
+        private final int customerId;
+        private final String vehicleNo;
+        private final LocalDate journeyDate;
+        private final int noOfPassengers;
+        private final Long version;
+    }
+}
@@ -0,0 +1,124 @@
+package com.BookingService.repository;
+
+import java.sql.Date;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import com.BookingService.dto.BookingEvent;
+import com.BookingService.dto.BookingEventType;
+import com.BookingService.entity.Booking;
+
+/**
+ * Transactional outbox for booking changes. Created bookings are recorded by
+ * {@link #recordCreated(Collection)} in the transaction that inserted them, and cancellations
+ * by the statement that cancels them (see {@link #afterCancellation(String)}), so an event
+ * exists exactly when its change committed.
+ *
+ * <p>Committed events are numbered by {@link #publishNext(int)}, which hands out feed positions
+ * in event order under a transaction-level advisory lock; {@link #findPublishedAfter} serves
+ * the numbered events as the change feed.
+ */
+@Repository
+public class BookingEventWriter {
+
+    private static final String EVENT_COLUMNS = "event_type, booking_id, customer_id, vehicle_no, journey_date, "
+            + "no_of_passengers, fare, version";
+
+    private static final String INSERT_SQL = "INSERT INTO booking_events (" + EVENT_COLUMNS + ", occurred_at) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, now())";
+
+    private static final String LOCK_SQL = "SELECT pg_try_advisory_xact_lock(hashtext('booking-events-publisher'))";
+
+    // Positions continue from the highest one handed out, in event_id order within the batch
+    private static final String PUBLISH_SQL = "WITH batch AS (SELECT event_id, row_number() OVER (ORDER BY event_id) AS n "
+            + "FROM booking_events WHERE feed_position IS NULL ORDER BY event_id LIMIT ?), "
+            + "last AS (SELECT COALESCE(max(feed_position), 0) AS position FROM booking_events) "
+            + "UPDATE booking_events e SET feed_position = last.position + batch.n, published_at = now() "
+            + "FROM batch, last WHERE e.event_id = batch.event_id "
+            + "RETURNING e.feed_position, e.event_id, e." + EVENT_COLUMNS.replace(", ", ", e.") + ", e.occurred_at";
+
+    private static final String FIND_AFTER_SQL = "SELECT feed_position, event_id, " + EVENT_COLUMNS + ", occurred_at "
+            + "FROM booking_events WHERE feed_position > ? ORDER BY feed_position LIMIT ?";
+
+    // The newest published event is kept so positions never restart
+    private static final String DELETE_SQL = "DELETE FROM booking_events WHERE published_at < ? "
+            + "AND feed_position < (SELECT max(feed_position) FROM booking_events)";
+
+    private static final RowMapper<BookingEvent> BOOKING_EVENT = (rs, rowNum) -> new BookingEvent(
+            rs.getLong("feed_position"),
+            rs.getLong("event_id"),
+            BookingEventType.fromCode(rs.getShort("event_type")),
+            rs.getLong("booking_id"),
+            rs.getInt("customer_id"),
+            rs.getString("vehicle_no"),
+            rs.getObject("journey_date", LocalDate.class),
+            rs.getInt("no_of_passengers"),
+            rs.getDouble("fare"),
+            rs.getLong("version"),
+            rs.getObject("occurred_at", LocalDateTime.class));
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    /** Records a created event per booking. Must run in the transaction that inserted them. */
+    public void recordCreated(Collection<Booking> bookings) {
+        if (bookings.isEmpty()) {
+            return;
+        }
+        List<Booking> rows = new ArrayList<>(bookings);
+        jdbcTemplate.batchUpdate(INSERT_SQL, rows, rows.size(), (ps, booking) -> {
+            ps.setShort(1, BookingEventType.CREATED.getCode());
+            ps.setLong(2, booking.getBookingId());
+            ps.setInt(3, booking.getCustomerId());
+            ps.setString(4, booking.getVehicleNo());
+            ps.setObject(5, Date.valueOf(booking.getJourneyDate()), Types.DATE);
+            ps.setInt(6, booking.getNoOfPassengers() == null ? 0 : booking.getNoOfPassengers());
+            ps.setDouble(7, booking.getFare() == null ? 0 : booking.getFare());
+            ps.setLong(8, booking.getVersion() == null ? 0 : booking.getVersion());
+        });
+    }
+
+    /**
+     * Event insert for bookings cancelled by the data-modifying CTE {@code cte}, which must
+     * return the booking columns of {@code booking_events} with the version after the cancel.
+     */
+    static String afterCancellation(String cte) {
+        return "INSERT INTO booking_events (" + EVENT_COLUMNS + ", occurred_at) "
+                + "SELECT " + BookingEventType.CANCELLED.getCode() + ", booking_id, customer_id, vehicle_no, journey_date, "
+                + "no_of_passengers, fare, version, now() FROM " + cte + " ORDER BY booking_id";
+    }
+
+    /**
+     * Assigns feed positions to up to {@code limit} committed events, oldest first, and returns
+     * them in feed order. Empty when another instance is publishing. Must run in a transaction;
+     * the positions become visible, and the advisory lock is released, when it commits.
+     */
+    public List<BookingEvent> publishNext(int limit) {
+        if (!Boolean.TRUE.equals(jdbcTemplate.queryForObject(LOCK_SQL, Boolean.class))) {
+            return List.of();
+        }
+        List<BookingEvent> events = new ArrayList<>(jdbcTemplate.query(PUBLISH_SQL, BOOKING_EVENT, limit));
+        events.sort(Comparator.comparing(BookingEvent::getPosition));
+        return events;
+    }
+
+    /** Published events after feed position {@code after}, in feed order. */
+    public List<BookingEvent> findPublishedAfter(long after, int limit) {
+        return jdbcTemplate.query(FIND_AFTER_SQL, BOOKING_EVENT, after, limit);
+    }
+
+    /** Deletes events published before {@code cutoff}; returns how many were deleted. */
+    public int deletePublishedBefore(LocalDateTime cutoff) {
+        return jdbcTemplate.update(DELETE_SQL, cutoff);
+    }
+}
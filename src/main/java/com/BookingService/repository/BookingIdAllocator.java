@@ -0,0 +1,32 @@
+package com.BookingService.repository;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Hands out booking ids ahead of the insert, from the same booking_seq that Hibernate uses.
+ * Each nextval reserves the block (value - 49 .. value], exactly like Hibernate's pooled
+ * optimizer, so both allocators can draw from the sequence without overlapping.
+ */
+@Component
+public class BookingIdAllocator {
+
+    // Must match allocationSize of the booking_seq generator on Booking.bookingId
+    private static final int BLOCK_SIZE = 50;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private long nextId;
+    private long blockEnd = -1;
+
+    public synchronized long nextId() {
+        if (nextId > blockEnd) {
+            Long blockHigh = jdbcTemplate.queryForObject("select nextval('booking_seq')", Long.class);
+            blockEnd = blockHigh;
+            nextId = Math.max(1, blockHigh - BLOCK_SIZE + 1);
+        }
+        return nextId++;
+    }
+}
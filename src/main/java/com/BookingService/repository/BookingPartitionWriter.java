@@ -0,0 +1,184 @@
+package com.BookingService.repository;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.BookingService.entity.BookingStatus;
+
+/**
+ * Partition maintenance for {@code bookings}, which is range-partitioned by journey date into
+ * monthly partitions named {@code bookings_pYYYY_MM} plus {@code bookings_default} (see V10).
+ * Every operation runs in its own transaction under a transaction-level advisory lock, so
+ * instances running maintenance at the same time skip instead of waiting on each other.
+ *
+ * <p>Archiving a month takes three short transactions (copy, detach, drop) rather than one, so
+ * no lock on {@code bookings} is held while a month of rows is copied. Each step can be re-run
+ * after a failure; until the last one the month's bookings are in both tables, and archive
+ * reads skip those still in {@code bookings}.
+ */
+@Repository
+public class BookingPartitionWriter {
+
+    private static final Pattern PARTITION_NAME = Pattern.compile("bookings_p(\\d{4})_(\\d{2})");
+    private static final DateTimeFormatter PARTITION_SUFFIX = DateTimeFormatter.ofPattern("yyyy_MM");
+
+    private static final String LOCK_SQL = "SELECT pg_try_advisory_xact_lock(hashtext('bookings-partition-maintenance'))";
+
+    private static final String PARTITIONS_SQL = "SELECT c.relname FROM pg_inherits i "
+            + "JOIN pg_class c ON c.oid = i.inhrelid WHERE i.inhparent = 'bookings'::regclass";
+
+    private static final String ARCHIVED_COLUMNS = "booking_id, username, vehicle_no, vehicle_name, route_id, "
+            + "source, destination, booking_date, journey_date, boarding_point, drop_point, contact_no, fare, "
+            + "no_of_passengers, booking_status, customer_id, version";
+
+    private static final String ARCHIVE_REFRESH = Arrays.stream(ARCHIVED_COLUMNS.split(", "))
+            .filter(column -> !column.equals("booking_id"))
+            .map(column -> column + " = EXCLUDED." + column)
+            .collect(Collectors.joining(", "));
+
+    private static final String DETACHED_SQL = "SELECT relname FROM pg_class WHERE relkind = 'r' "
+            + "AND NOT relispartition AND relname LIKE 'bookings\\_p%'";
+
+    private static final String ATTACHED_SQL = "SELECT COALESCE((SELECT relispartition FROM pg_class "
+            + "WHERE oid = to_regclass(?)), false)";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    /** Months that have a partition, in ascending order. */
+    public List<YearMonth> findPartitionMonths() {
+        return toMonths(jdbcTemplate.queryForList(PARTITIONS_SQL, String.class));
+    }
+
+    private static List<YearMonth> toMonths(List<String> tables) {
+        return tables.stream()
+                .map(PARTITION_NAME::matcher)
+                .filter(Matcher::matches)
+                .map(name -> YearMonth.of(Integer.parseInt(name.group(1)), Integer.parseInt(name.group(2))))
+                .sorted()
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Creates the partition for {@code month}, moving its bookings out of the default partition
+     * first. Returns false when the partition exists or another instance holds the lock.
+     */
+    @Transactional
+    public boolean createPartition(YearMonth month) {
+        String partition = partitionName(month);
+        if (!tryLock() || exists(partition)) {
+            return false;
+        }
+        LocalDate from = month.atDay(1);
+        LocalDate to = month.plusMonths(1).atDay(1);
+        jdbcTemplate.execute("CREATE TABLE " + partition + " (LIKE bookings INCLUDING DEFAULTS INCLUDING CONSTRAINTS)");
+        jdbcTemplate.update("WITH moved AS (DELETE FROM bookings_default WHERE journey_date >= ? AND journey_date < ? "
+                + "RETURNING *) INSERT INTO " + partition + " SELECT * FROM moved", from, to);
+        jdbcTemplate.execute("ALTER TABLE bookings ATTACH PARTITION " + partition
+                + " FOR VALUES FROM ('" + from + "') TO ('" + to + "')");
+        return true;
+    }
+
+    /**
+     * First archive step: copies the partition for {@code month} into {@code bookings_archive}
+     * while it stays attached, so its bookings remain readable throughout. Returns the number of
+     * bookings copied, or empty when the partition still holds upcoming bookings, is not attached
+     * or another instance holds the lock.
+     *
+     * <p>Only reads the partition, so bookings of other months, and cancellations that cannot
+     * prune by journey date, are never blocked by the copy. A booking changed after the copy is
+     * picked up again by {@link #dropDetachedPartition(YearMonth)}.
+     */
+    @Transactional
+    public OptionalLong copyToArchive(YearMonth month) {
+        String partition = partitionName(month);
+        if (!tryLock() || !isAttached(partition)) {
+            return OptionalLong.empty();
+        }
+        Boolean upcoming = jdbcTemplate.queryForObject("SELECT EXISTS (SELECT 1 FROM " + partition
+                + " WHERE booking_status = " + BookingStatus.UPCOMING.getCode() + ")", Boolean.class);
+        if (Boolean.TRUE.equals(upcoming)) {
+            return OptionalLong.empty();
+        }
+        return OptionalLong.of(jdbcTemplate.update(upsertIntoArchive(partition)));
+    }
+
+    /**
+     * Second archive step: detaches the copied partition. DETACH takes an exclusive lock on
+     * {@code bookings} but only changes the catalog, and it waits at most {@code lockTimeout}
+     * for running transactions, so reads and writes queue behind it only that long. Fails with
+     * a lock timeout when bookings stay busy; the step is retried on the next run. Returns false
+     * when the partition is not attached or another instance holds the lock.
+     */
+    @Transactional
+    public boolean detachPartition(YearMonth month, Duration lockTimeout) {
+        String partition = partitionName(month);
+        if (!tryLock() || !isAttached(partition)) {
+            return false;
+        }
+        jdbcTemplate.execute("SET LOCAL lock_timeout = " + lockTimeout.toMillis());
+        jdbcTemplate.execute("ALTER TABLE bookings DETACH PARTITION " + partition);
+        return true;
+    }
+
+    /**
+     * Last archive step: brings the archive in line with the detached partition, which no
+     * statement on {@code bookings} can reach any more, then drops it. Returns the number of
+     * archived bookings that were added or refreshed, or empty when there is no detached
+     * partition for {@code month} or another instance holds the lock.
+     */
+    @Transactional
+    public OptionalLong dropDetachedPartition(YearMonth month) {
+        String partition = partitionName(month);
+        if (!tryLock() || !exists(partition) || isAttached(partition)) {
+            return OptionalLong.empty();
+        }
+        int refreshed = jdbcTemplate.update(upsertIntoArchive(partition));
+        refreshed += jdbcTemplate.update("DELETE FROM bookings_archive a WHERE a.journey_date >= ? AND a.journey_date < ? "
+                + "AND NOT EXISTS (SELECT 1 FROM " + partition + " p WHERE p.booking_id = a.booking_id)",
+                month.atDay(1), month.plusMonths(1).atDay(1));
+        jdbcTemplate.execute("DROP TABLE " + partition);
+        return OptionalLong.of(refreshed);
+    }
+
+    /** Months whose partition was detached but not yet dropped, in ascending order. */
+    public List<YearMonth> findDetachedMonths() {
+        return toMonths(jdbcTemplate.queryForList(DETACHED_SQL, String.class));
+    }
+
+    // Rows already archived are only rewritten when the booking changed since
+    private static String upsertIntoArchive(String partition) {
+        return "INSERT INTO bookings_archive AS a (" + ARCHIVED_COLUMNS + ") SELECT " + ARCHIVED_COLUMNS
+                + " FROM " + partition + " ON CONFLICT (booking_id) DO UPDATE SET " + ARCHIVE_REFRESH
+                + ", archived_at = now() WHERE a.version < EXCLUDED.version";
+    }
+
+    static String partitionName(YearMonth month) {
+        return "bookings_p" + month.format(PARTITION_SUFFIX);
+    }
+
+    private boolean tryLock() {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(LOCK_SQL, Boolean.class));
+    }
+
+    private boolean isAttached(String table) {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(ATTACHED_SQL, Boolean.class, table));
+    }
+
+    private boolean exists(String table) {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject("SELECT to_regclass(?) IS NOT NULL", Boolean.class, table));
+    }
+}
@@ -2,14 +2,45 @@ package com.BookingService.repository;
 
 
 
+import static org.hibernate.annotations.QueryHints.FETCH_SIZE;
+import static org.hibernate.annotations.QueryHints.READ_ONLY;
+
 import java.util.List;
+import java.util.stream.Stream;
+
+import javax.persistence.QueryHint;
 
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 
+import com.BookingService.dto.BookingDto;
+import com.BookingService.dto.BookingSummaryView;
 import com.BookingService.dto.Vehicle;
 import com.BookingService.entity.Booking;
 
 public interface BookingRepository extends JpaRepository<Booking, Long> {
     List<Booking> findByVehicleNo(String vehicleNo);
     List<Booking> findByCustomerId(int customerId);
+    long countByCustomerId(int customerId);
+
+    Slice<BookingSummaryView> findByCustomerIdOrderByJourneyDateDescBookingIdDesc(int customerId, Pageable pageable);
+
+    // Keyset page: seeks past the last seen id instead of using an OFFSET scan
+    List<Booking> findByBookingIdGreaterThanOrderByBookingIdAsc(Long bookingId, Pageable pageable);
+
+    // Constructor expression: DTOs are built straight from the result set, no entities are loaded
+    @Query("select new com.BookingService.dto.BookingDto(b.bookingId, b.username, b.vehicleNo, b.vehicleName, "
+            + "b.bookingDate, b.journeyDate, b.source, b.destination, b.boardingPoint, b.dropPoint, b.contactNo, "
+            + "b.fare, b.noOfPassengers, b.bookingStatus) from Booking b order by b.bookingId")
+    List<BookingDto> findAllBookingDtos();
+
+    @QueryHints({
+        @QueryHint(name = FETCH_SIZE, value = "500"),
+        @QueryHint(name = READ_ONLY, value = "true")
+    })
+    @Query("select b from Booking b order by b.bookingId")
+    Stream<Booking> streamAllOrderByBookingId();
 }
@@ -0,0 +1,99 @@
+package com.BookingService.repository;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import com.BookingService.dto.BookingDto;
+import com.BookingService.dto.BookingSearchCriteria;
+import com.BookingService.entity.BookingStatus;
+
+/**
+ * Booking search with any combination of route, vehicle, journey date range and status.
+ * Pages are keyset pages in (journey_date, booking_id) order, so every page starts with an
+ * index seek on idx_bookings_route_journey, idx_bookings_vehicle_journey or
+ * idx_bookings_journey_date, whichever filter is most selective, and no page ever scans the
+ * rows before it. Rows are mapped straight to {@link BookingDto}, no entities are loaded.
+ */
+@Repository
+public class BookingSearchRepository {
+
+    private static final String SELECT_SQL = "SELECT booking_id, username, vehicle_no, vehicle_name, booking_date, "
+            + "journey_date, source, destination, boarding_point, drop_point, contact_no, fare, no_of_passengers, "
+            + "booking_status FROM bookings";
+
+    private static final RowMapper<BookingDto> BOOKING_DTO = (rs, rowNum) -> new BookingDto(
+            rs.getLong("booking_id"),
+            rs.getString("username"),
+            rs.getString("vehicle_no"),
+            rs.getString("vehicle_name"),
+            rs.getObject("booking_date", LocalDate.class),
+            rs.getObject("journey_date", LocalDate.class),
+            rs.getString("source"),
+            rs.getString("destination"),
+            rs.getString("boarding_point"),
+            rs.getString("drop_point"),
+            rs.getString("contact_no"),
+            rs.getDouble("fare"),
+            rs.getInt("no_of_passengers"),
+            BookingStatus.fromCode(rs.getShort("booking_status")));
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    /**
+     * Up to {@code limit} matching bookings after the given position in (journey date, booking
+     * ID) order; from the start when {@code afterJourneyDate} is null.
+     */
+    public List<BookingDto> search(BookingSearchCriteria criteria, LocalDate afterJourneyDate, Long afterBookingId,
+                                   int limit) {
+        List<Object> args = new ArrayList<>();
+        String where = where(criteria, args);
+        StringBuilder sql = new StringBuilder(SELECT_SQL).append(where);
+        if (afterJourneyDate != null) {
+            sql.append(where.isEmpty() ? " WHERE " : " AND ").append("(journey_date, booking_id) > (?, ?)");
+            args.add(afterJourneyDate);
+            args.add(afterBookingId);
+        }
+        sql.append(" ORDER BY journey_date, booking_id LIMIT ?");
+        args.add(limit);
+        return jdbcTemplate.query(sql.toString(), BOOKING_DTO, args.toArray());
+    }
+
+    public long count(BookingSearchCriteria criteria) {
+        List<Object> args = new ArrayList<>();
+        Long count = jdbcTemplate.queryForObject("SELECT count(*) FROM bookings" + where(criteria, args),
+                Long.class, args.toArray());
+        return count == null ? 0 : count;
+    }
+
+    private static String where(BookingSearchCriteria criteria, List<Object> args) {
+        List<String> conditions = new ArrayList<>();
+        if (criteria.getRouteId() != null) {
+            conditions.add("route_id = ?");
+            args.add(criteria.getRouteId());
+        }
+        if (criteria.getVehicleNo() != null) {
+            conditions.add("vehicle_no = ?");
+            args.add(criteria.getVehicleNo());
+        }
+        if (criteria.getJourneyDateFrom() != null) {
+            conditions.add("journey_date >= ?");
+            args.add(criteria.getJourneyDateFrom());
+        }
+        if (criteria.getJourneyDateTo() != null) {
+            conditions.add("journey_date <= ?");
+            args.add(criteria.getJourneyDateTo());
+        }
+        if (criteria.getBookingStatus() != null) {
+            conditions.add("booking_status = ?");
+            args.add(criteria.getBookingStatus().getCode());
+        }
+        return conditions.isEmpty() ? "" : " WHERE " + String.join(" AND ", conditions);
+    }
+}
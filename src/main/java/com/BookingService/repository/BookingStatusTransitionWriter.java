@@ -0,0 +1,89 @@
+package com.BookingService.repository;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.BookingService.entity.BookingStatus;
+
+/**
+ * Set-based Upcoming to Completed transition over a journey date window, driven by the
+ * partial index on upcoming bookings. Each chunk is a single UPDATE that commits on its own,
+ * so locks are held only for one chunk, and adjusts the affected customer summaries in the
+ * same statement. The outer status check is re-evaluated against rows changed concurrently,
+ * so a booking cancelled in the meantime is left alone.
+ */
+@Repository
+public class BookingStatusTransitionWriter {
+
+    private static final String COMPLETE_CHUNK_SQL = "WITH completed AS (UPDATE bookings "
+            + "SET booking_status = " + BookingStatus.COMPLETED.getCode() + ", version = version + 1 "
+            + "WHERE booking_status = " + BookingStatus.UPCOMING.getCode() + " AND booking_id IN ("
+            + "SELECT booking_id FROM bookings "
+            + "WHERE booking_status = " + BookingStatus.UPCOMING.getCode() + " AND journey_date > ? AND journey_date < ? "
+            + "ORDER BY journey_date, booking_id LIMIT ?) "
+            + "RETURNING booking_id, customer_id), "
+            + "summary AS (" + CustomerSummaryWriter.afterCompletion("completed") + ") "
+            + "SELECT booking_id FROM completed";
+
+    private static final String COMPLETE_CHUNK_UNBOUNDED_SQL = "WITH completed AS (UPDATE bookings "
+            + "SET booking_status = " + BookingStatus.COMPLETED.getCode() + ", version = version + 1 "
+            + "WHERE booking_status = " + BookingStatus.UPCOMING.getCode() + " AND booking_id IN ("
+            + "SELECT booking_id FROM bookings "
+            + "WHERE booking_status = " + BookingStatus.UPCOMING.getCode() + " AND journey_date < ? "
+            + "ORDER BY journey_date, booking_id LIMIT ?) "
+            + "RETURNING booking_id, customer_id), "
+            + "summary AS (" + CustomerSummaryWriter.afterCompletion("completed") + ") "
+            + "SELECT booking_id FROM completed";
+
+    private static final String HAS_UPCOMING_SQL = "SELECT EXISTS (SELECT 1 FROM bookings "
+            + "WHERE booking_status = " + BookingStatus.UPCOMING.getCode() + " AND journey_date > ? AND journey_date < ?)";
+
+    private static final String HAS_UPCOMING_UNBOUNDED_SQL = "SELECT EXISTS (SELECT 1 FROM bookings "
+            + "WHERE booking_status = " + BookingStatus.UPCOMING.getCode() + " AND journey_date < ?)";
+
+    // Never moves the watermark backwards, so an instance running behind cannot undo another's progress
+    private static final String ADVANCE_WATERMARK_SQL = "INSERT INTO booking_status_watermark "
+            + "(job_name, last_journey_date, updated_at) VALUES (?, ?, now()) "
+            + "ON CONFLICT (job_name) DO UPDATE SET last_journey_date = EXCLUDED.last_journey_date, updated_at = now() "
+            + "WHERE booking_status_watermark.last_journey_date IS NULL "
+            + "OR booking_status_watermark.last_journey_date < EXCLUDED.last_journey_date";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    /** Latest journey date fully transitioned by the job, or empty before its first complete run. */
+    public Optional<LocalDate> findWatermark(String jobName) {
+        List<LocalDate> dates = jdbcTemplate.query(
+                "SELECT last_journey_date FROM booking_status_watermark WHERE job_name = ?",
+                (rs, rowNum) -> rs.getObject("last_journey_date", LocalDate.class), jobName);
+        return dates.isEmpty() ? Optional.empty() : Optional.ofNullable(dates.get(0));
+    }
+
+    /**
+     * Completes up to {@code limit} upcoming bookings with a journey date after {@code after}
+     * (any date when null) and before {@code before}. Returns the ids of the updated bookings.
+     */
+    public List<Long> completeChunk(LocalDate after, LocalDate before, int limit) {
+        if (after == null) {
+            return jdbcTemplate.queryForList(COMPLETE_CHUNK_UNBOUNDED_SQL, Long.class, before, limit, before);
+        }
+        return jdbcTemplate.queryForList(COMPLETE_CHUNK_SQL, Long.class, after, before, limit, before);
+    }
+
+    /** Whether any booking in the same window is still upcoming. */
+    public boolean hasUpcoming(LocalDate after, LocalDate before) {
+        Boolean exists = after == null
+                ? jdbcTemplate.queryForObject(HAS_UPCOMING_UNBOUNDED_SQL, Boolean.class, before)
+                : jdbcTemplate.queryForObject(HAS_UPCOMING_SQL, Boolean.class, after, before);
+        return Boolean.TRUE.equals(exists);
+    }
+
+    public void advanceWatermark(String jobName, LocalDate lastJourneyDate) {
+        jdbcTemplate.update(ADVANCE_WATERMARK_SQL, jobName, lastJourneyDate);
+    }
+}
@@ -0,0 +1,159 @@
+package com.BookingService.repository;
+
+import java.sql.Date;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.BookingService.dto.CustomerBookingSummary;
+import com.BookingService.entity.Booking;
+import com.BookingService.entity.BookingStatus;
+
+/**
+ * Keeps {@code customer_booking_summary} in step with the bookings table. New bookings are
+ * added as per-customer deltas; cancellations and status transitions update the summary
+ * inside the same statement as the bookings (see {@link #afterCancellation(String)} and
+ * {@link #afterCompletion(String)}), so a summary never disagrees with committed rows.
+ */
+@Repository
+public class CustomerSummaryWriter {
+
+    private static final String FIND_SQL = "SELECT customer_id, upcoming_count, completed_count, cancelled_count, "
+            + "total_fare, next_journey_date, next_booking_id FROM customer_booking_summary WHERE customer_id = ?";
+
+    // A new next journey wins when it is earlier, or when the stored one is already in the past
+    private static final String EARLIER_NEXT_JOURNEY = "EXCLUDED.next_journey_date IS NOT NULL "
+            + "AND (s.next_journey_date IS NULL OR s.next_journey_date < CURRENT_DATE "
+            + "OR (EXCLUDED.next_journey_date, EXCLUDED.next_booking_id) < (s.next_journey_date, s.next_booking_id))";
+
+    private static final String ADD_CREATED_SQL = "INSERT INTO customer_booking_summary AS s "
+            + "(customer_id, upcoming_count, completed_count, cancelled_count, total_fare, "
+            + "next_journey_date, next_booking_id, updated_at) VALUES (?, ?, ?, 0, ?, ?, ?, now()) "
+            + "ON CONFLICT (customer_id) DO UPDATE SET "
+            + "upcoming_count = s.upcoming_count + EXCLUDED.upcoming_count, "
+            + "completed_count = s.completed_count + EXCLUDED.completed_count, "
+            + "total_fare = s.total_fare + EXCLUDED.total_fare, "
+            + "next_journey_date = CASE WHEN " + EARLIER_NEXT_JOURNEY + " THEN EXCLUDED.next_journey_date ELSE s.next_journey_date END, "
+            + "next_booking_id = CASE WHEN " + EARLIER_NEXT_JOURNEY + " THEN EXCLUDED.next_booking_id ELSE s.next_booking_id END, "
+            + "updated_at = now()";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    public Optional<CustomerBookingSummary> find(int customerId) {
+        return jdbcTemplate.query(FIND_SQL, (rs, rowNum) -> new CustomerBookingSummary(
+                rs.getInt("customer_id"),
+                rs.getInt("upcoming_count"),
+                rs.getInt("completed_count"),
+                rs.getInt("cancelled_count"),
+                rs.getDouble("total_fare"),
+                rs.getObject("next_journey_date", LocalDate.class),
+                rs.getObject("next_booking_id", Long.class)), customerId).stream().findFirst();
+    }
+
+    /**
+     * Adds newly inserted bookings to their customers' summaries, one upsert per customer. Must
+     * run in the transaction that inserted them.
+     */
+    public void recordCreated(Collection<Booking> bookings) {
+        // Ascending customer order keeps lock order stable between concurrent batches
+        Map<Integer, CustomerDelta> deltas = new TreeMap<>();
+        for (Booking booking : bookings) {
+            deltas.computeIfAbsent(booking.getCustomerId(), CustomerDelta::new).add(booking);
+        }
+        if (deltas.isEmpty()) {
+            return;
+        }
+        List<CustomerDelta> rows = new ArrayList<>(deltas.values());
+        jdbcTemplate.batchUpdate(ADD_CREATED_SQL, rows, rows.size(), (ps, delta) -> {
+            ps.setInt(1, delta.customerId);
+            ps.setInt(2, delta.upcoming);
+            ps.setInt(3, delta.completed);
+            ps.setDouble(4, delta.fare);
+            ps.setObject(5, delta.next == null ? null : Date.valueOf(delta.next.getJourneyDate()), Types.DATE);
+            ps.setObject(6, delta.next == null ? null : delta.next.getBookingId(), Types.BIGINT);
+        });
+    }
+
+    /**
+     * Summary update for bookings cancelled by the data-modifying CTE {@code cte}, which must
+     * return {@code booking_id}, {@code customer_id} and {@code fare}. The next journey is looked
+     * up again only for customers whose next booking was among them.
+     */
+    static String afterCancellation(String cte) {
+        return "UPDATE customer_booking_summary s SET "
+                + "upcoming_count = s.upcoming_count - c.bookings, "
+                + "cancelled_count = s.cancelled_count + c.bookings, "
+                + "total_fare = s.total_fare - c.fare, "
+                + "next_journey_date = CASE WHEN s.next_booking_id IN (SELECT booking_id FROM " + cte + ") "
+                + "THEN next_journey.journey_date ELSE s.next_journey_date END, "
+                + "next_booking_id = CASE WHEN s.next_booking_id IN (SELECT booking_id FROM " + cte + ") "
+                + "THEN next_journey.booking_id ELSE s.next_booking_id END, "
+                + "updated_at = now() "
+                + "FROM (SELECT customer_id, count(*) AS bookings, sum(fare) AS fare FROM " + cte + " GROUP BY customer_id) c "
+                + "LEFT JOIN LATERAL (" + nextUpcoming("c.customer_id", "CURRENT_DATE", cte) + ") next_journey ON true "
+                + "WHERE s.customer_id = c.customer_id";
+    }
+
+    /**
+     * Summary update for bookings moved to Completed by the data-modifying CTE {@code cte},
+     * which must return {@code booking_id} and {@code customer_id}. Takes one statement
+     * parameter: the date from which journeys count as upcoming.
+     */
+    static String afterCompletion(String cte) {
+        return "UPDATE customer_booking_summary s SET "
+                + "upcoming_count = s.upcoming_count - c.bookings, "
+                + "completed_count = s.completed_count + c.bookings, "
+                + "next_journey_date = next_journey.journey_date, "
+                + "next_booking_id = next_journey.booking_id, "
+                + "updated_at = now() "
+                + "FROM (SELECT customer_id, count(*) AS bookings FROM " + cte + " GROUP BY customer_id) c "
+                + "LEFT JOIN LATERAL (" + nextUpcoming("c.customer_id", "?", cte) + ") next_journey ON true "
+                + "WHERE s.customer_id = c.customer_id";
+    }
+
+    // The statement still sees the bookings as they were before the CTE changed them, hence the exclusion
+    private static String nextUpcoming(String customerId, String fromDate, String cte) {
+        return "SELECT b.journey_date, b.booking_id FROM bookings b "
+                + "WHERE b.customer_id = " + customerId + " AND b.booking_status = " + BookingStatus.UPCOMING.getCode() + " "
+                + "AND b.journey_date >= " + fromDate + " AND b.booking_id NOT IN (SELECT booking_id FROM " + cte + ") "
+                + "ORDER BY b.journey_date, b.booking_id LIMIT 1";
+    }
+
+    private static final class CustomerDelta {
+        private static final Comparator<Booking> JOURNEY_ORDER =
+                Comparator.comparing(Booking::getJourneyDate).thenComparing(Booking::getBookingId);
+
+        private final int customerId;
+        private int upcoming;
+        private int completed;
+        private double fare;
+        private Booking next;
+
+        CustomerDelta(int customerId) {
+            this.customerId = customerId;
+        }
+
+        void add(Booking booking) {
+            fare += booking.getFare() == null ? 0 : booking.getFare();
+            if (booking.getBookingStatus() == BookingStatus.UPCOMING) {
+                upcoming++;
+                if (next == null || JOURNEY_ORDER.compare(booking, next) < 0) {
+                    next = booking;
+                }
+            } else if (booking.getBookingStatus() == BookingStatus.COMPLETED) {
+                completed++;
+            }
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.BookingService.repository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Stores which booking each {@code Idempotency-Key} produced. {@link #record} runs in the
+ * booking's transaction; a second insert of the same key waits for the first transaction and
+ * then fails with a {@link org.springframework.dao.DuplicateKeyException}, or succeeds if the
+ * first one rolled back.
+ */
+@Repository
+public class IdempotencyKeyWriter {
+
+    private static final String INSERT_SQL = "INSERT INTO booking_idempotency_keys "
+            + "(idempotency_key, request_fingerprint, booking_id, created_at) VALUES (?, ?, ?, now())";
+
+    private static final String FIND_SQL = "SELECT request_fingerprint, booking_id FROM booking_idempotency_keys "
+            + "WHERE idempotency_key = ?";
+
+    private static final String DELETE_SQL = "DELETE FROM booking_idempotency_keys WHERE created_at < ?";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    public void record(String idempotencyKey, String requestFingerprint, long bookingId) {
+        jdbcTemplate.update(INSERT_SQL, idempotencyKey, requestFingerprint, bookingId);
+    }
+
+    public Optional<StoredKey> find(String idempotencyKey) {
+        return jdbcTemplate.query(FIND_SQL, (rs, rowNum) -> new StoredKey(
+                rs.getString("request_fingerprint"),
+                rs.getLong("booking_id")), idempotencyKey).stream().findFirst();
+    }
+
+    /** Deletes keys created before {@code cutoff}; returns how many were deleted. */
+    public int deleteCreatedBefore(LocalDateTime cutoff) {
+        return jdbcTemplate.update(DELETE_SQL, cutoff);
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class StoredKey {
+        private final String requestFingerprint;
+        private final long bookingId;
+    }
+}
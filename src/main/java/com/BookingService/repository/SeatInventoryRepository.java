@@ -0,0 +1,24 @@
+package com.BookingService.repository;
+
+import java.time.LocalDate;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.BookingService.entity.BookingStatus;
+import com.BookingService.entity.SeatInventory;
+import com.BookingService.entity.SeatInventoryId;
+
+public interface SeatInventoryRepository extends JpaRepository<SeatInventory, SeatInventoryId> {
+
+    /**
+     * Seats held by the trip's bookings in the given status, counted the way bookings reserve
+     * them: a missing passenger count is one seat.
+     */
+    @Query("select coalesce(sum(case when b.noOfPassengers is null then 1 "
+            + "when b.noOfPassengers > 0 then b.noOfPassengers else 0 end), 0) from Booking b "
+            + "where b.vehicleNo = :vehicleNo and b.journeyDate = :journeyDate and b.bookingStatus = :status")
+    long sumBookedSeats(@Param("vehicleNo") String vehicleNo, @Param("journeyDate") LocalDate journeyDate,
+                        @Param("status") BookingStatus status);
+}
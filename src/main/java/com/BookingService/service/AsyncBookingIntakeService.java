@@ -0,0 +1,216 @@
+package com.BookingService.service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import com.BookingService.dto.BatchBookingResult;
+import com.BookingService.dto.BookingIntakeStatus;
+import com.BookingService.entity.Booking;
+import com.BookingService.exception.IntakeQueueFullException;
+import com.BookingService.exception.ResourceNotFoundException;
+import com.BookingService.repository.BookingBatchWriter;
+import com.BookingService.repository.BookingIdAllocator;
+import com.BookingService.repository.BookingRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Write-behind booking intake. A request is validated locally, given an id from
+ * {@link BookingIdAllocator} and queued; workers drain the queue in groups and run each group
+ * through {@link BookingService#createBookings(List, java.util.function.Function)}, inserting
+ * the survivors with one JDBC batch per group. Callers poll {@link #getStatus(Long)}.
+ *
+ * <p>The queue is bounded: when it is full, intake fails fast with
+ * {@link IntakeQueueFullException} instead of buffering without limit. On shutdown, intake
+ * stops and the workers flush whatever is still queued.
+ */
+@Service
+@ConditionalOnProperty(name = "booking.async-intake.enabled", havingValue = "true")
+public class AsyncBookingIntakeService {
+
+    private static final Logger logger = LoggerFactory.getLogger(AsyncBookingIntakeService.class);
+
+    @Autowired
+    private BookingService bookingService;
+    @Autowired
+    private BookingIdAllocator bookingIdAllocator;
+    @Autowired
+    private BookingBatchWriter bookingBatchWriter;
+    @Autowired
+    private BookingRepository bookingRepository;
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${booking.async-intake.queue-capacity:10000}")
+    private int queueCapacity;
+    @Value("${booking.async-intake.workers:2}")
+    private int workers;
+    @Value("${booking.async-intake.batch-size:100}")
+    private int batchSize;
+    @Value("${booking.async-intake.enqueue-timeout:50ms}")
+    private Duration enqueueTimeout;
+    @Value("${booking.async-intake.status-ttl:1h}")
+    private Duration statusTtl;
+    @Value("${booking.async-intake.shutdown-timeout:30s}")
+    private Duration shutdownTimeout;
+
+    private BlockingQueue<Booking> queue;
+    private Cache<Long, BookingIntakeStatus> statuses;
+    private ExecutorService workerPool;
+    private volatile boolean accepting;
+    private final ReadWriteLock intakeLock = new ReentrantReadWriteLock();
+
+    @PostConstruct
+    public void start() {
+        queue = new ArrayBlockingQueue<>(queueCapacity);
+        statuses = Caffeine.newBuilder().expireAfterWrite(statusTtl).build();
+        meterRegistry.gauge("booking.intake.queue.size", queue, BlockingQueue::size);
+
+        AtomicInteger threadCount = new AtomicInteger();
+        workerPool = Executors.newFixedThreadPool(workers, runnable -> {
+            Thread thread = new Thread(runnable, "booking-intake-" + threadCount.incrementAndGet());
+            thread.setDaemon(false);
+            return thread;
+        });
+        accepting = true;
+        for (int i = 0; i < workers; i++) {
+            workerPool.execute(this::drainQueue);
+        }
+        logger.info("Async booking intake started with {} workers and queue capacity {}", workers, queueCapacity);
+    }
+
+    public BookingIntakeStatus submit(Booking booking) {
+        if (!accepting) {
+            throw shuttingDown();
+        }
+        validate(booking);
+        booking.setBookingId(bookingIdAllocator.nextId());
+
+        BookingIntakeStatus status = new BookingIntakeStatus(booking.getBookingId(), BookingIntakeStatus.QUEUED, null);
+        boolean queued;
+        // Held across the check and the offer, so shutdown cannot slip in between
+        intakeLock.readLock().lock();
+        try {
+            if (!accepting) {
+                throw shuttingDown();
+            }
+            statuses.put(booking.getBookingId(), status);
+            queued = queue.offer(booking, enqueueTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            queued = false;
+        } finally {
+            intakeLock.readLock().unlock();
+        }
+        if (!queued) {
+            statuses.invalidate(booking.getBookingId());
+            throw new IntakeQueueFullException("Booking intake queue is full, retry later");
+        }
+        logger.info("Queued booking {} for vehicle name: {}", booking.getBookingId(), booking.getVehicleName());
+        return status;
+    }
+
+    public BookingIntakeStatus getStatus(Long bookingId) {
+        BookingIntakeStatus status = statuses.getIfPresent(bookingId);
+        if (status != null) {
+            return status;
+        }
+        // Status entries expire; a booking that made it to the table is still reported
+        if (bookingRepository.existsById(bookingId)) {
+            return new BookingIntakeStatus(bookingId, BookingIntakeStatus.CREATED, null);
+        }
+        throw new ResourceNotFoundException("No queued booking found for this id :: " + bookingId);
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        // Waits for submissions past their accepting check, so the workers' last drain sees them
+        intakeLock.writeLock().lock();
+        try {
+            accepting = false;
+        } finally {
+            intakeLock.writeLock().unlock();
+        }
+        workerPool.shutdown();
+        if (!workerPool.awaitTermination(shutdownTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+            logger.error("Async booking intake did not flush within {}, {} bookings left in queue",
+                    shutdownTimeout, queue.size());
+            workerPool.shutdownNow();
+        }
+    }
+
+    private static IntakeQueueFullException shuttingDown() {
+        return new IntakeQueueFullException("Booking intake is shutting down, retry later");
+    }
+
+    private void validate(Booking booking) {
+        if (booking.getVehicleName() == null || booking.getVehicleName().isBlank()) {
+            throw new IllegalArgumentException("Vehicle name is required");
+        }
+        if (booking.getJourneyDate() == null) {
+            throw new IllegalArgumentException("Journey date is required");
+        }
+        if (booking.getNoOfPassengers() != null && booking.getNoOfPassengers() < 1) {
+            throw new IllegalArgumentException("Number of passengers must be at least 1");
+        }
+    }
+
+    private void drainQueue() {
+        List<Booking> batch = new ArrayList<>(batchSize);
+        while (accepting || !queue.isEmpty()) {
+            try {
+                Booking first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                writeBatch(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void writeBatch(List<Booking> batch) {
+        try {
+            List<BatchBookingResult> results = bookingService.createBookings(batch, bookingBatchWriter::insert);
+            for (BatchBookingResult result : results) {
+                Long bookingId = batch.get(result.getIndex()).getBookingId();
+                String status = BatchBookingResult.CREATED.equals(result.getStatus())
+                        ? BookingIntakeStatus.CREATED : BookingIntakeStatus.FAILED;
+                statuses.put(bookingId, new BookingIntakeStatus(bookingId, status, result.getMessage()));
+            }
+        } catch (RuntimeException e) {
+            logger.error("Failed to write batch of {} queued bookings", batch.size(), e);
+            for (Booking booking : batch) {
+                statuses.put(booking.getBookingId(),
+                        new BookingIntakeStatus(booking.getBookingId(), BookingIntakeStatus.FAILED, e.getMessage()));
+            }
+        }
+    }
+}
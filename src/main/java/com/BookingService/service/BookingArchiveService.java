@@ -0,0 +1,116 @@
+package com.BookingService.service;
+
+import java.time.Duration;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.OptionalLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.BookingService.repository.BookingPartitionWriter;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Keeps the partitioned {@code bookings} table down to recent and future journeys. Each run
+ * creates the monthly partitions up to {@code months-ahead} months from now, then moves months
+ * older than {@code retain-months} into {@code bookings_archive}, oldest first. A month that
+ * still has upcoming bookings stops the run, so archived bookings are always older than every
+ * booking left in {@code bookings}; reads that fall back to the archive rely on that order.
+ * A month is archived in three steps (see {@link BookingPartitionWriter}); only the detach
+ * locks {@code bookings}, for at most {@code detach-lock-timeout}.
+ */
+@Service
+@ConditionalOnProperty(name = "booking.archive.enabled", havingValue = "true", matchIfMissing = true)
+public class BookingArchiveService {
+
+    private static final Logger logger = LoggerFactory.getLogger(BookingArchiveService.class);
+
+    @Autowired
+    private BookingPartitionWriter bookingPartitionWriter;
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${booking.archive.retain-months:12}")
+    private int retainMonths;
+    @Value("${booking.archive.months-ahead:12}")
+    private int monthsAhead;
+
+    @Value("${booking.archive.detach-lock-timeout:5s}")
+    private Duration detachLockTimeout;
+
+    @Scheduled(cron = "${booking.archive.cron:0 0 4 * * *}")
+    public void run() {
+        try {
+            maintain(YearMonth.now());
+        } catch (RuntimeException e) {
+            logger.error("Booking partition maintenance failed: {}", e.getMessage(), e);
+        }
+    }
+
+    /** Creates missing partitions and archives old months as of {@code current}; returns the bookings archived. */
+    public synchronized long maintain(YearMonth current) {
+        List<YearMonth> partitions = bookingPartitionWriter.findPartitionMonths();
+        for (YearMonth month = current; !month.isAfter(current.plusMonths(monthsAhead)); month = month.plusMonths(1)) {
+            if (!partitions.contains(month) && bookingPartitionWriter.createPartition(month)) {
+                meterRegistry.counter("booking.archive.partitions", "action", "created").increment();
+                logger.info("Created bookings partition for {}", month);
+            }
+        }
+
+        // Months left half-archived by an earlier run are finished first
+        for (YearMonth month : bookingPartitionWriter.findDetachedMonths()) {
+            if (bookingPartitionWriter.dropDetachedPartition(month).isPresent()) {
+                logger.info("Dropped detached bookings partition for {}", month);
+            }
+        }
+
+        YearMonth cutoff = current.minusMonths(retainMonths);
+        long archivedBookings = 0;
+        for (YearMonth month : partitions) {
+            if (!month.isBefore(cutoff)) {
+                break;
+            }
+            OptionalLong archived = archiveMonth(month);
+            if (archived.isEmpty()) {
+                break;
+            }
+            archivedBookings += archived.getAsLong();
+            meterRegistry.counter("booking.archive.partitions", "action", "archived").increment();
+            logger.info("Archived {} bookings for {}", archived.getAsLong(), month);
+        }
+        meterRegistry.counter("booking.archive.bookings").increment(archivedBookings);
+        return archivedBookings;
+    }
+
+    /**
+     * Copies the month into the archive, detaches its partition and drops it; returns the
+     * bookings archived, or empty when the month cannot be archived now.
+     */
+    public OptionalLong archiveMonth(YearMonth month) {
+        OptionalLong copied = bookingPartitionWriter.copyToArchive(month);
+        if (copied.isEmpty()) {
+            logger.warn("Bookings for {} not archived: upcoming bookings remain or another instance is archiving",
+                    month);
+            return copied;
+        }
+        try {
+            if (!bookingPartitionWriter.detachPartition(month, detachLockTimeout)) {
+                return OptionalLong.empty();
+            }
+        } catch (DataAccessException e) {
+            // The copy stays in place; the next run detaches the partition
+            logger.warn("Could not detach the bookings partition for {}: {}", month, e.getMessage());
+            return OptionalLong.empty();
+        }
+        bookingPartitionWriter.dropDetachedPartition(month);
+        return copied;
+    }
+}
@@ -0,0 +1,41 @@
+package com.BookingService.service;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.BookingService.dto.BookingEvent;
+import com.BookingService.dto.BookingEventPage;
+import com.BookingService.exception.BookingEventsExpiredException;
+import com.BookingService.repository.BookingEventWriter;
+
+/**
+ * The booking change feed: published outbox events in feed order, read with a cursor instead
+ * of scanning {@code bookings}. Feed positions have no gaps, so a page that does not start
+ * right after the cursor means the events in between were deleted after
+ * {@code booking.outbox.retention}; the consumer is told so rather than silently skipping them.
+ */
+@Service
+public class BookingEventService {
+
+    private static final int MAX_PAGE_SIZE = 1000;
+
+    @Autowired
+    private BookingEventWriter bookingEventWriter;
+
+    /** Events after feed position {@code after}, or from the oldest retained event when it is null. */
+    @Transactional(readOnly = true)
+    public BookingEventPage getEvents(Long after, int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        long cursor = after == null ? 0 : after;
+        List<BookingEvent> events = bookingEventWriter.findPublishedAfter(cursor, pageSize);
+        if (after != null && !events.isEmpty() && events.get(0).getPosition() > after + 1) {
+            throw new BookingEventsExpiredException("Booking events after position " + after
+                    + " are no longer retained, the oldest available is " + events.get(0).getPosition());
+        }
+        long nextCursor = events.isEmpty() ? cursor : events.get(events.size() - 1).getPosition();
+        return new BookingEventPage(events, nextCursor);
+    }
+}
@@ -1,54 +1,285 @@
 package com.BookingService.service;
 
+import java.time.Duration;
 import java.time.LocalDate;
 
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import com.BookingService.dto.BatchBookingResult;
 import com.BookingService.dto.BookingDto;
+import com.BookingService.dto.BookingPage;
+import com.BookingService.dto.BookingSearchCriteria;
+import com.BookingService.dto.BookingSearchPage;
+import com.BookingService.dto.BookingSummaryView;
+import com.BookingService.dto.CatalogSnapshot;
+import com.BookingService.dto.CustomerBookingSummary;
 import com.BookingService.dto.Route;
+import com.BookingService.dto.TripCancellationResult;
 import com.BookingService.dto.Vehicle;
 import com.BookingService.entity.Booking;
+import com.BookingService.entity.BookingStatus;
+import com.BookingService.exception.BookingNotCancellableException;
 import com.BookingService.exception.ResourceNotFoundException;
-import com.BookingService.feign.RouteServiceClient;
-import com.BookingService.feign.VehicleServiceClient;
+import com.BookingService.fare.FareEngine;
+import com.BookingService.mapper.BookingMapper;
+import com.BookingService.repository.BookingArchiveRepository;
+import com.BookingService.repository.BookingCancellationWriter;
+import com.BookingService.repository.BookingCancellationWriter.CancelledBooking;
+import com.BookingService.repository.BookingEventWriter;
 import com.BookingService.repository.BookingRepository;
+import com.BookingService.repository.BookingSearchRepository;
+import com.BookingService.repository.IdempotencyKeyWriter;
 
 @Service
 public class BookingService {
 
     private static final Logger logger = LoggerFactory.getLogger(BookingService.class);
+    private static final int MAX_PAGE_SIZE = 500;
 
     @Autowired
     private BookingRepository bookingRepository;
     @Autowired
-    private VehicleServiceClient vehicleService;
+    private CatalogLookupService catalogLookupService;
+    @Autowired
+    private CatalogSnapshotService catalogSnapshotService;
+    @Autowired
+    private SeatInventoryService seatInventoryService;
+    @Autowired
+    private BookingVersionIndex bookingVersionIndex;
+    @Autowired
+    private BookingCancellationWriter bookingCancellationWriter;
+    @Autowired
+    private BookingSearchRepository bookingSearchRepository;
+    @Autowired
+    private BookingArchiveRepository bookingArchiveRepository;
+    @Autowired
+    private CustomerSummaryService customerSummaryService;
+    @Autowired
+    private IdempotencyKeyWriter idempotencyKeyWriter;
+    @Autowired
+    private BookingEventWriter bookingEventWriter;
+    @Autowired
+    private FareEngine fareEngine;
+    @Autowired
+    private BookingMapper bookingMapper;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
     @Autowired
-    private RouteServiceClient routeService;
+    @Qualifier("catalogLookupExecutor")
+    private Executor catalogLookupExecutor;
+    @Value("${booking.lookup.timeout:2s}")
+    private Duration lookupTimeout;
+    @Value("${booking.batch.max-size:500}")
+    private int maxBatchSize;
+    @PersistenceContext
+    private EntityManager entityManager;
     public Booking createBooking(Booking booking) {
+        return resolveAndSave(booking, null, null);
+    }
+
+    /**
+     * Same as {@link #createBooking(Booking)}, but also records {@code idempotencyKey} in the
+     * booking's transaction (see {@link IdempotencyKeyWriter}). If another request already
+     * committed a booking under the key, nothing is saved, the seats are released and a
+     * {@link org.springframework.dao.DuplicateKeyException} is thrown.
+     */
+    public Booking createIdempotentBooking(Booking booking, String idempotencyKey, String requestFingerprint) {
+        return resolveAndSave(booking, idempotencyKey, requestFingerprint);
+    }
+
+    private Booking resolveAndSave(Booking booking, String idempotencyKey, String requestFingerprint) {
         logger.info("Creating booking for vehicle name: {}", booking.getVehicleName());
 
-        // Retrieve vehicle details using vehicle name
-        Vehicle vehicle = vehicleService.getVehicleByName(booking.getVehicleName());
-        if (vehicle == null) {
-            logger.error("Vehicle not found for name: {}", booking.getVehicleName());
-            throw new ResourceNotFoundException("Vehicle not found for name :: " + booking.getVehicleName());
+        // Vehicle and route lookups are independent, so resolve both at once
+        String vehicleName = booking.getVehicleName();
+        int routeId = booking.getRouteId();
+        CompletableFuture<Vehicle> vehicleLookup = lookupVehicle(vehicleName);
+        CompletableFuture<Route> routeLookup = lookupRoute(routeId);
+
+        Vehicle vehicle = awaitLookup(vehicleLookup, "Vehicle lookup timed out for name :: " + vehicleName);
+        Route route = awaitLookup(routeLookup, "Route lookup timed out for id :: " + routeId);
+        return saveBooking(booking, vehicle, route, idempotencyKey, requestFingerprint);
+    }
+
+    /**
+     * Creates a booking whose vehicle and route were already resolved by the caller, e.g. by
+     * the non-blocking path. Reserves seats and saves on the calling thread.
+     */
+    public Booking createBooking(Booking booking, Vehicle vehicle, Route route) {
+        return saveBooking(booking, vehicle, route, null, null);
+    }
+
+    /**
+     * {@link #createIdempotentBooking(Booking, String, String)} for a booking whose vehicle and
+     * route were already resolved by the caller.
+     */
+    public Booking createIdempotentBooking(Booking booking, Vehicle vehicle, Route route, String idempotencyKey,
+                                           String requestFingerprint) {
+        return saveBooking(booking, vehicle, route, idempotencyKey, requestFingerprint);
+    }
+
+    private Booking saveBooking(Booking booking, Vehicle vehicle, Route route, String idempotencyKey,
+                                String requestFingerprint) {
+        prepareBooking(booking, vehicle, route);
+        boolean seatsReserved = reserveSeats(booking, vehicle);
+
+        // Save booking together with its customer summary, outbox event and idempotency key
+        Booking savedBooking;
+        try {
+            savedBooking = transactionTemplate.execute(status -> {
+                Booking saved = bookingRepository.save(booking);
+                customerSummaryService.recordCreated(List.of(saved));
+                bookingEventWriter.recordCreated(List.of(saved));
+                if (idempotencyKey != null) {
+                    idempotencyKeyWriter.record(idempotencyKey, requestFingerprint, saved.getBookingId());
+                }
+                return saved;
+            });
+        } catch (RuntimeException e) {
+            if (seatsReserved) {
+                releaseSeats(booking);
+            }
+            throw e;
         }
-        booking.setVehicleNo(vehicle.getVehicleNo());
-        booking.setVehicleName(vehicle.getVehicleName()); // Optionally set the vehicle name
+        logger.info("Booking created successfully with ID: {}", savedBooking.getBookingId());
+        return savedBooking;
+    }
+
+    /**
+     * Creates a group of bookings in one call. Each distinct vehicle name and route ID is looked
+     * up once for the whole batch, and all valid bookings are inserted in a single transaction
+     * so Hibernate can send them as JDBC batches; their customer summaries are updated in the
+     * same transaction. Items that fail validation are reported individually and do not stop
+     * the rest of the batch.
+     */
+    public List<BatchBookingResult> createBookings(List<Booking> bookings) {
+        return createBookings(bookings, bookingRepository::saveAll);
+    }
 
-        // Retrieve route details using route ID
-        Route route = routeService.getRouteById(booking.getRouteId());
-        if (route == null) {
-            logger.error("Route not found for ID: {}", booking.getRouteId());
-            throw new ResourceNotFoundException("Route not found for id :: " + booking.getRouteId());
+    /**
+     * Same as {@link #createBookings(List)}, but the bookings that pass validation and seat
+     * reservation are written by the given persister, e.g. a JDBC writer for pre-assigned ids.
+     */
+    public List<BatchBookingResult> createBookings(List<Booking> bookings,
+                                                   Function<List<Booking>, List<Booking>> persister) {
+        if (bookings.size() > maxBatchSize) {
+            throw new IllegalArgumentException("A batch may contain at most " + maxBatchSize + " bookings");
         }
+        logger.info("Creating batch of {} bookings", bookings.size());
+
+        Map<String, CompletableFuture<Vehicle>> vehicleLookups = new HashMap<>();
+        Map<Integer, CompletableFuture<Route>> routeLookups = new HashMap<>();
+        for (Booking booking : bookings) {
+            vehicleLookups.computeIfAbsent(booking.getVehicleName(), this::lookupVehicle);
+            routeLookups.computeIfAbsent(booking.getRouteId(), this::lookupRoute);
+        }
+
+        BatchBookingResult[] results = new BatchBookingResult[bookings.size()];
+        List<Booking> validBookings = new ArrayList<>();
+        List<Integer> validIndexes = new ArrayList<>();
+        List<Booking> reservedBookings = new ArrayList<>();
+        for (int index = 0; index < bookings.size(); index++) {
+            Booking booking = bookings.get(index);
+            try {
+                Vehicle vehicle = awaitLookup(vehicleLookups.get(booking.getVehicleName()),
+                        "Vehicle lookup timed out for name :: " + booking.getVehicleName());
+                Route route = awaitLookup(routeLookups.get(booking.getRouteId()),
+                        "Route lookup timed out for id :: " + booking.getRouteId());
+                prepareBooking(booking, vehicle, route);
+                if (reserveSeats(booking, vehicle)) {
+                    reservedBookings.add(booking);
+                }
+                validBookings.add(booking);
+                validIndexes.add(index);
+            } catch (RuntimeException e) {
+                logger.warn("Batch item {} rejected: {}", index, e.getMessage());
+                results[index] = BatchBookingResult.failed(index, e.getMessage());
+            }
+        }
+
+        List<Booking> savedBookings;
+        try {
+            savedBookings = transactionTemplate.execute(status -> {
+                List<Booking> saved = persister.apply(validBookings);
+                customerSummaryService.recordCreated(saved);
+                bookingEventWriter.recordCreated(saved);
+                return saved;
+            });
+        } catch (RuntimeException e) {
+            reservedBookings.forEach(this::releaseSeats);
+            throw e;
+        }
+        for (int i = 0; i < savedBookings.size(); i++) {
+            int index = validIndexes.get(i);
+            results[index] = BatchBookingResult.created(index, savedBookings.get(i).getBookingId());
+        }
+        logger.info("Batch completed: {} created, {} rejected", savedBookings.size(),
+                bookings.size() - savedBookings.size());
+        return Arrays.asList(results);
+    }
+
+    // The catalog snapshot answers most lookups; only names it does not know yet go remote
+    private CompletableFuture<Vehicle> lookupVehicle(String vehicleName) {
+        Optional<Vehicle> known = catalogSnapshotService.findVehicle(vehicleName);
+        if (known.isPresent()) {
+            return CompletableFuture.completedFuture(known.get());
+        }
+        return CompletableFuture.supplyAsync(() ->
+            catalogLookupService.findVehicleByName(vehicleName)
+                .orElseThrow(() -> {
+                    logger.error("Vehicle not found for name: {}", vehicleName);
+                    return new ResourceNotFoundException("Vehicle not found for name :: " + vehicleName);
+                }), catalogLookupExecutor)
+            .orTimeout(lookupTimeout.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    private CompletableFuture<Route> lookupRoute(int routeId) {
+        Optional<Route> known = catalogSnapshotService.findRoute(routeId);
+        if (known.isPresent()) {
+            return CompletableFuture.completedFuture(known.get());
+        }
+        return CompletableFuture.supplyAsync(() ->
+            catalogLookupService.findRouteById(routeId)
+                .orElseThrow(() -> {
+                    logger.error("Route not found for ID: {}", routeId);
+                    return new ResourceNotFoundException("Route not found for id :: " + routeId);
+                }), catalogLookupExecutor)
+            .orTimeout(lookupTimeout.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    private void prepareBooking(Booking booking, Vehicle vehicle, Route route) {
+        booking.setVehicleNo(vehicle.getVehicleNo());
+        booking.setVehicleName(vehicle.getVehicleName()); // Optionally set the vehicle name
         booking.setSource(route.getSource());
         booking.setDestination(route.getDestination());
 
@@ -59,76 +290,204 @@ public class BookingService {
         if (booking.getJourneyDate() == null) {
             throw new IllegalArgumentException("Journey date is required");
         }
+        if (seatCount(booking) < 1) {
+            throw new IllegalArgumentException("Number of passengers must be at least 1");
+        }
 
-        // Set booking status based on journey date
+        // Initial status only; BookingStatusTransitionService completes upcoming bookings once
+        // their journey date has passed
         if (booking.getJourneyDate().isBefore(LocalDate.now())) {
-            booking.setBookingStatus("Completed");
+            booking.setBookingStatus(BookingStatus.COMPLETED);
         } else {
-            booking.setBookingStatus("Upcoming");
+            booking.setBookingStatus(BookingStatus.UPCOMING);
         }
 
-        // Save booking
-        Booking savedBooking = bookingRepository.save(booking);
-        logger.info("Booking created successfully with ID: {}", savedBooking.getBookingId());
-        return savedBooking;
+        // The fare sent by the client is ignored; it is priced from the catalog data instead
+        booking.setFare(fareEngine.computeFare(vehicle, route, booking.getJourneyDate(), seatCount(booking)));
     }
 
+    // Seats are only held for trips that have not happened yet
+    private boolean reserveSeats(Booking booking, Vehicle vehicle) {
+        if (booking.getBookingStatus() != BookingStatus.UPCOMING) {
+            return false;
+        }
+        seatInventoryService.reserve(booking.getVehicleNo(), booking.getJourneyDate(),
+                vehicle.getSeatingCapacity(), seatCount(booking));
+        return true;
+    }
+
+    private void releaseSeats(Booking booking) {
+        seatInventoryService.release(booking.getVehicleNo(), booking.getJourneyDate(), seatCount(booking));
+    }
 
+    private int seatCount(Booking booking) {
+        return booking.getNoOfPassengers() == null ? 1 : booking.getNoOfPassengers();
+    }
+
+    private <T> T awaitLookup(CompletableFuture<T> lookup, String timeoutMessage) {
+        try {
+            return lookup.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof TimeoutException) {
+                logger.error(timeoutMessage);
+                throw new IllegalStateException(timeoutMessage, cause);
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw e;
+        }
+    }
+
+    /** Finds the booking in the live table, or in the archive once its month has been archived. */
     public Booking getBookingById(Long bookingId) {
         logger.info("Fetching booking by ID: {}", bookingId);
-        return bookingRepository.findById(bookingId)
+        Booking booking = bookingRepository.findById(bookingId)
+            .or(() -> bookingArchiveRepository.findById(bookingId))
             .orElseThrow(() -> {
                 logger.error("Booking not found for ID: {}", bookingId);
                 return new ResourceNotFoundException("Booking not found for this id :: " + bookingId);
             });
+        bookingVersionIndex.put(bookingId, booking.getVersion());
+        return booking;
     }
 
+    /**
+     * Row version of the booking as last seen by this instance, or {@code null} when unknown.
+     * Answers conditional GETs without loading the booking.
+     */
+    public Long findKnownVersion(Long bookingId) {
+        return bookingVersionIndex.get(bookingId);
+    }
+
+    /**
+     * Cancels an upcoming booking with one conditional UPDATE instead of load-modify-save; the
+     * same statement releases its seats (see {@link BookingCancellationWriter}). Only when
+     * nothing was updated is the row read again, to tell a missing booking from one that can no
+     * longer be cancelled.
+     */
     public void cancelBooking(Long bookingId) {
         logger.info("Cancelling booking with ID: {}", bookingId);
-        Booking booking = bookingRepository.findById(bookingId)
-            .orElseThrow(() -> {
-                logger.error("Booking not found for ID: {}", bookingId);
-                return new ResourceNotFoundException("Booking not found for this id :: " + bookingId);
-            });
-        booking.setBookingStatus("Cancelled");
-        bookingRepository.save(booking);
+        CancelledBooking cancelled = bookingCancellationWriter.cancelIfUpcoming(bookingId)
+            .orElseThrow(() -> notCancellable(bookingId));
+        bookingVersionIndex.put(bookingId, cancelled.getVersion());
+        customerSummaryService.evictAfterCommit(cancelled.getCustomerId());
+        seatInventoryService.seatsReleased(cancelled.getVehicleNo(), cancelled.getJourneyDate(), cancelled.getNoOfPassengers());
         logger.info("Booking cancelled successfully for ID: {}", bookingId);
     }
 
+    /** Cancels every upcoming booking on a vehicle for one journey date in a single statement. */
+    public TripCancellationResult cancelTrip(String vehicleNo, LocalDate journeyDate) {
+        logger.info("Cancelling trip of vehicle {} on {}", vehicleNo, journeyDate);
+        List<CancelledBooking> cancelled = bookingCancellationWriter.cancelTrip(vehicleNo, journeyDate);
+        int releasedSeats = 0;
+        for (CancelledBooking booking : cancelled) {
+            bookingVersionIndex.put(booking.getBookingId(), booking.getVersion());
+            customerSummaryService.evictAfterCommit(booking.getCustomerId());
+            releasedSeats += booking.getNoOfPassengers();
+        }
+        seatInventoryService.seatsReleased(vehicleNo, journeyDate, releasedSeats);
+        logger.info("Cancelled {} bookings on vehicle {} for {}", cancelled.size(), vehicleNo, journeyDate);
+        return new TripCancellationResult(vehicleNo, journeyDate, cancelled.size(), releasedSeats);
+    }
+
+    private RuntimeException notCancellable(Long bookingId) {
+        Optional<BookingStatus> status = bookingCancellationWriter.findStatus(bookingId);
+        if (status.isEmpty()) {
+            logger.error("Booking not found for ID: {}", bookingId);
+            return new ResourceNotFoundException("Booking not found for this id :: " + bookingId);
+        }
+        logger.warn("Booking {} not cancelled, status is {}", bookingId, status.get());
+        if (status.get() == BookingStatus.CANCELLED) {
+            return new BookingNotCancellableException("Booking is already cancelled :: " + bookingId);
+        }
+        return new BookingNotCancellableException("Booking with status " + status.get().getLabel()
+                + " cannot be cancelled :: " + bookingId);
+    }
+
 	
+    @Transactional(readOnly = true)
     public List<BookingDto> viewAllBookings() {
         logger.info("Fetching all bookings");
 
-        List<Booking> bookings = bookingRepository.findAll();
+        List<BookingDto> bookings = bookingRepository.findAllBookingDtos();
         if (bookings.isEmpty()) {
             logger.warn("No bookings found.");
-           
-        }
-
-        return bookings.stream().map(booking -> {
-            BookingDto bookingDto = new BookingDto();
-            bookingDto.setBookingId(booking.getBookingId().toString());
-            bookingDto.setUsername(booking.getUsername().toString());
-            bookingDto.setVehicleNo(booking.getVehicleNo());
-            bookingDto.setVehicleName(booking.getVehicleName());
-            bookingDto.setSource(booking.getSource());
-            bookingDto.setDestination(booking.getDestination());
-            bookingDto.setJourneyDate(booking.getJourneyDate());
-            bookingDto.setBookingDate(booking.getBookingDate());
-            bookingDto.setBoardingPoint(booking.getBoardingPoint());
-            bookingDto.setDropPoint(booking.getDropPoint());
-            bookingDto.setContactNo(booking.getContactNo());
-            bookingDto.setFare(booking.getFare());
-            bookingDto.setNoOfPassengers(booking.getNoOfPassengers());
-            bookingDto.setBookingStatus(booking.getBookingStatus());
-            return bookingDto;
-        }).collect(Collectors.toList());
+        }
+        return bookings;
+    }
+
+    @Transactional(readOnly = true)
+    public BookingPage viewBookingsPage(Long cursor, int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        long afterId = cursor == null ? 0L : cursor;
+        logger.info("Fetching {} bookings after ID: {}", pageSize, afterId);
+
+        List<Booking> bookings = bookingRepository.findByBookingIdGreaterThanOrderByBookingIdAsc(
+                afterId, PageRequest.of(0, pageSize));
+        List<BookingDto> bookingDtos = bookings.stream().map(this::toBookingDto).collect(Collectors.toList());
+        Long nextCursor = bookings.size() < pageSize ? null : bookings.get(bookings.size() - 1).getBookingId();
+        return new BookingPage(bookingDtos, nextCursor);
+    }
+
+    /**
+     * One keyset page of bookings matching the criteria, in journey date then booking ID order.
+     * The cursor is the {@code nextCursor} of the previous page, or null for the first page.
+     */
+    @Transactional(readOnly = true)
+    public BookingSearchPage searchBookings(BookingSearchCriteria criteria, String cursor, int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        LocalDate afterJourneyDate = null;
+        Long afterBookingId = null;
+        if (cursor != null) {
+            int separator = cursor.indexOf('_');
+            try {
+                afterJourneyDate = LocalDate.parse(cursor.substring(0, Math.max(separator, 0)));
+                afterBookingId = Long.valueOf(cursor.substring(separator + 1));
+            } catch (RuntimeException e) {
+                throw new IllegalArgumentException("Invalid search cursor :: " + cursor);
+            }
+        }
+        logger.info("Searching bookings {} ({} after {})", criteria, pageSize, cursor);
+
+        List<BookingDto> bookings = bookingSearchRepository.search(criteria, afterJourneyDate, afterBookingId, pageSize);
+        BookingDto last = bookings.size() < pageSize ? null : bookings.get(bookings.size() - 1);
+        String nextCursor = last == null ? null : last.getJourneyDate() + "_" + last.getBookingId();
+        return new BookingSearchPage(bookings, nextCursor);
+    }
+
+    /** Number of bookings matching the criteria, counted by the database. */
+    @Transactional(readOnly = true)
+    public long countBookings(BookingSearchCriteria criteria) {
+        logger.info("Counting bookings {}", criteria);
+        return bookingSearchRepository.count(criteria);
+    }
+
+    /**
+     * Streams every booking through the consumer in ID order. Rows are fetched in chunks and
+     * detached once mapped, so memory stays bounded regardless of table size.
+     */
+    @Transactional(readOnly = true)
+    public void streamAllBookings(Consumer<BookingDto> consumer) {
+        logger.info("Streaming all bookings");
+        try (Stream<Booking> bookings = bookingRepository.streamAllOrderByBookingId()) {
+            bookings.forEach(booking -> {
+                consumer.accept(toBookingDto(booking));
+                entityManager.detach(booking);
+            });
+        }
+    }
+
+    public BookingDto toBookingDto(Booking booking) {
+        return bookingMapper.toDto(booking);
     }
 
 
     public List<Vehicle> getAllVehicles() {
         logger.info("Fetching all vehicles");
-        List<Vehicle> vehicles = vehicleService.getAllVehicles();
+        CatalogSnapshot snapshot = catalogSnapshotService.getSnapshot();
+        List<Vehicle> vehicles = snapshot.isLoaded() ? snapshot.getVehicles() : catalogLookupService.findAllVehicles();
         if (vehicles.isEmpty()) {
             logger.warn("No vehicles found.");
         }
@@ -137,16 +496,56 @@ public class BookingService {
    
     public List<Route> getAllRoutes() {
         logger.info("Fetching all routes");
-        List<Route> routes = routeService.getAllRoutes(); // Assuming routeService is used for fetching routes
+        CatalogSnapshot snapshot = catalogSnapshotService.getSnapshot();
+        List<Route> routes = snapshot.isLoaded() ? snapshot.getRoutes() : catalogLookupService.findAllRoutes();
         if (routes.isEmpty()) {
             logger.warn("No routes found.");
-            throw new ResourceNotFoundException("No routes found");
         }
         return routes;
     }
 
+    /** All of the customer's bookings, archived ones included. */
+    @Transactional(readOnly = true)
     public List<Booking> getBookingsByCustomerId(int customerId) {
-        return bookingRepository.findByCustomerId(customerId);
+        List<Booking> bookings = bookingRepository.findByCustomerId(customerId);
+        List<Booking> archived = bookingArchiveRepository.findByCustomerId(customerId);
+        if (archived.isEmpty()) {
+            return bookings;
+        }
+        List<Booking> all = new ArrayList<>(bookings.size() + archived.size());
+        all.addAll(bookings);
+        all.addAll(archived);
+        return all;
+    }
+
+    /** Maintained booking totals for the customer, without reading their bookings. */
+    public CustomerBookingSummary getCustomerSummary(int customerId) {
+        return customerSummaryService.getSummary(customerId);
+    }
+
+    @Transactional(readOnly = true)
+    public Slice<BookingSummaryView> getBookingSummariesByCustomerId(int customerId, int page, int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        logger.info("Fetching booking summaries for customer {} (page {}, size {})", customerId, page, pageSize);
+        PageRequest pageRequest = PageRequest.of(Math.max(page, 0), pageSize);
+        Slice<BookingSummaryView> recent = bookingRepository.findByCustomerIdOrderByJourneyDateDescBookingIdDesc(
+                customerId, pageRequest);
+        if (recent.hasNext()) {
+            return recent;
+        }
+
+        // Archived bookings are older than all others, so they continue the list where the live ones end
+        long archiveOffset = recent.hasContent() ? 0
+                : pageRequest.getOffset() - bookingRepository.countByCustomerId(customerId);
+        int remaining = pageSize - recent.getNumberOfElements();
+        List<BookingSummaryView> archived = bookingArchiveRepository.findSummariesByCustomerId(
+                customerId, Math.max(archiveOffset, 0), remaining + 1);
+        if (archived.isEmpty()) {
+            return recent;
+        }
+        List<BookingSummaryView> content = new ArrayList<>(recent.getContent());
+        content.addAll(archived.subList(0, Math.min(remaining, archived.size())));
+        return new SliceImpl<>(content, pageRequest, archived.size() > remaining);
     }
 }
 
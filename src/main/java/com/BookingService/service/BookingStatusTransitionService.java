@@ -0,0 +1,95 @@
+package com.BookingService.service;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.BookingService.repository.BookingStatusTransitionWriter;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Moves upcoming bookings to Completed once their journey date has passed, so the stored
+ * status stays current without readers comparing dates themselves.
+ *
+ * <p>Each run only looks at journey dates after the persisted watermark and before today, in
+ * chunks of {@code booking.status-transition.chunk-size}. The watermark is advanced to
+ * yesterday once that window has no upcoming bookings left; if some remain (for example a
+ * chunk raced with a cancellation), the next run retries the same window. Once caught up, a
+ * run costs a single watermark read until the date changes. Several instances may run the job
+ * at the same time: the updates are idempotent and the watermark only moves forward.
+ */
+@Service
+@ConditionalOnProperty(name = "booking.status-transition.enabled", havingValue = "true", matchIfMissing = true)
+public class BookingStatusTransitionService {
+
+    public static final String JOB_NAME = "upcoming-to-completed";
+
+    private static final Logger logger = LoggerFactory.getLogger(BookingStatusTransitionService.class);
+
+    @Autowired
+    private BookingStatusTransitionWriter bookingStatusTransitionWriter;
+    @Autowired
+    private BookingVersionIndex bookingVersionIndex;
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${booking.status-transition.chunk-size:1000}")
+    private int chunkSize;
+
+    @Scheduled(initialDelayString = "${booking.status-transition.initial-delay:PT1M}",
+               fixedDelayString = "${booking.status-transition.interval:PT15M}")
+    public void run() {
+        try {
+            transitionBefore(LocalDate.now());
+        } catch (RuntimeException e) {
+            logger.error("Booking status transition failed: {}", e.getMessage(), e);
+        }
+    }
+
+    /** Completes upcoming bookings with a journey date before {@code today}; returns how many were moved. */
+    public synchronized long transitionBefore(LocalDate today) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "failed";
+        long transitioned = 0;
+        try {
+            LocalDate watermark = bookingStatusTransitionWriter.findWatermark(JOB_NAME).orElse(null);
+            LocalDate target = today.minusDays(1);
+            if (watermark != null && !watermark.isBefore(target)) {
+                outcome = "up_to_date";
+                return 0;
+            }
+
+            List<Long> completed;
+            do {
+                completed = bookingStatusTransitionWriter.completeChunk(watermark, today, chunkSize);
+                // Row versions changed, so cached versions must not answer conditional GETs
+                completed.forEach(bookingVersionIndex::evict);
+                transitioned += completed.size();
+            } while (completed.size() == chunkSize);
+
+            if (bookingStatusTransitionWriter.hasUpcoming(watermark, today)) {
+                outcome = "partial";
+                logger.warn("Status transition left upcoming bookings before {}, watermark stays at {}",
+                        today, watermark);
+            } else {
+                bookingStatusTransitionWriter.advanceWatermark(JOB_NAME, target);
+                outcome = "completed";
+            }
+            logger.info("Status transition moved {} bookings to Completed (journey dates {} to {})",
+                    transitioned, watermark == null ? "start" : watermark.plusDays(1), target);
+            return transitioned;
+        } finally {
+            meterRegistry.summary("booking.status.transition.rows", "outcome", outcome).record(transitioned);
+            sample.stop(meterRegistry.timer("booking.status.transition.duration", "outcome", outcome));
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.BookingService.service;
+
+import java.time.Duration;
+
+import javax.annotation.PostConstruct;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * Last row version this instance has read or written per booking, so a conditional GET can be
+ * answered with 304 without a database round trip. Writes made by other instances are only
+ * noticed once an entry expires, which bounds how long a stale 304 can be served.
+ */
+@Component
+public class BookingVersionIndex {
+
+    @Value("${booking.http.version-index.maximum-size:100000}")
+    private long maximumSize;
+
+    @Value("${booking.http.version-index.ttl:30s}")
+    private Duration ttl;
+
+    private Cache<Long, Long> versions;
+
+    @PostConstruct
+    public void init() {
+        versions = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .build();
+    }
+
+    public Long get(Long bookingId) {
+        return versions.getIfPresent(bookingId);
+    }
+
+    public void put(Long bookingId, Long version) {
+        if (bookingId != null && version != null) {
+            versions.put(bookingId, version);
+        }
+    }
+
+    public void evict(Long bookingId) {
+        versions.invalidate(bookingId);
+    }
+}
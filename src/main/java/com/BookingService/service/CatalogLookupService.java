@@ -0,0 +1,221 @@
+package com.BookingService.service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import javax.annotation.PostConstruct;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Service;
+
+import com.BookingService.dto.Route;
+import com.BookingService.dto.Vehicle;
+import com.BookingService.feign.RouteServiceClient;
+import com.BookingService.feign.VehicleServiceClient;
+
+import feign.FeignException;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Cached front for the vehicle and route Feign clients. An empty result is cached as well
+ * (with a shorter TTL, see {@code CacheConfig}) so repeated lookups of unknown keys stay local.
+ *
+ * <p>Every remote call goes through a per-service bulkhead and circuit breaker (configured
+ * under {@code resilience4j.*} as {@value #VEHICLE_SERVICE} and {@value #ROUTE_SERVICE}).
+ * Successful responses are also kept as last known good data; when a call is rejected or
+ * fails, that data is served instead, and the failure is only rethrown when nothing is known.
+ * A served fallback is not cached, so the next lookup asks downstream again and fresh data is
+ * back as soon as the service recovers.
+ *
+ * <p>Concurrent cache misses for the same vehicle name or route ID are coalesced through a
+ * {@link SingleFlight}, so a burst of identical lookups sends one request downstream. Callers
+ * that join an in-flight request take no bulkhead permit of their own.
+ */
+@Service
+public class CatalogLookupService {
+
+    public static final String VEHICLES_CACHE = "vehiclesByName";
+    public static final String ROUTES_CACHE = "routesById";
+
+    public static final String VEHICLE_SERVICE = "vehicleService";
+    public static final String ROUTE_SERVICE = "routeService";
+
+    private static final Logger logger = LoggerFactory.getLogger(CatalogLookupService.class);
+
+    @Autowired
+    private VehicleServiceClient vehicleService;
+    @Autowired
+    private RouteServiceClient routeService;
+    @Autowired
+    private CircuitBreakerRegistry circuitBreakerRegistry;
+    @Autowired
+    private BulkheadRegistry bulkheadRegistry;
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private final Map<String, Vehicle> lastKnownVehicles = new ConcurrentHashMap<>();
+    private final Map<Integer, Route> lastKnownRoutes = new ConcurrentHashMap<>();
+    private volatile List<Vehicle> lastKnownVehicleList;
+    private volatile List<Route> lastKnownRouteList;
+
+    private SingleFlight<String, Vehicle> vehicleFlights;
+    private SingleFlight<Integer, Route> routeFlights;
+
+    @PostConstruct
+    public void init() {
+        vehicleFlights = new SingleFlight<>(VEHICLE_SERVICE, "feign", meterRegistry);
+        routeFlights = new SingleFlight<>(ROUTE_SERVICE, "feign", meterRegistry);
+    }
+
+    // Set by a lookup that answered from last known data, and read by the @Cacheable unless
+    // condition on the same thread right after it returns
+    private static final ThreadLocal<Boolean> SERVED_FALLBACK = ThreadLocal.withInitial(() -> false);
+
+    @Cacheable(cacheNames = VEHICLES_CACHE, key = "#vehicleName", unless = "#root.target.takeServedFallback()")
+    public Optional<Vehicle> findVehicleByName(String vehicleName) {
+        logger.info("Vehicle cache miss, fetching vehicle by name: {}", vehicleName);
+        SERVED_FALLBACK.remove();
+        try {
+            Vehicle vehicle = vehicleFlights.execute(vehicleName,
+                    () -> callDownstream(VEHICLE_SERVICE, () -> vehicleService.getVehicleByName(vehicleName)));
+            rememberVehicle(vehicleName, vehicle);
+            return Optional.ofNullable(vehicle);
+        } catch (FeignException.NotFound e) {
+            rememberVehicle(vehicleName, null);
+            return Optional.empty();
+        } catch (RuntimeException e) {
+            Vehicle lastKnown = vehicleFallback(vehicleName, e);
+            SERVED_FALLBACK.set(true);
+            return Optional.of(lastKnown);
+        }
+    }
+
+    @Cacheable(cacheNames = ROUTES_CACHE, key = "#routeId", unless = "#root.target.takeServedFallback()")
+    public Optional<Route> findRouteById(int routeId) {
+        logger.info("Route cache miss, fetching route by ID: {}", routeId);
+        SERVED_FALLBACK.remove();
+        try {
+            Route route = routeFlights.execute(routeId,
+                    () -> callDownstream(ROUTE_SERVICE, () -> routeService.getRouteById(routeId)));
+            rememberRoute(routeId, route);
+            return Optional.ofNullable(route);
+        } catch (FeignException.NotFound e) {
+            rememberRoute(routeId, null);
+            return Optional.empty();
+        } catch (RuntimeException e) {
+            Route lastKnown = routeFallback(routeId, e);
+            SERVED_FALLBACK.set(true);
+            return Optional.of(lastKnown);
+        }
+    }
+
+    public List<Vehicle> findAllVehicles() {
+        try {
+            List<Vehicle> vehicles = callDownstream(VEHICLE_SERVICE, vehicleService::getAllVehicles);
+            lastKnownVehicleList = vehicles;
+            return vehicles;
+        } catch (RuntimeException e) {
+            return fallback(VEHICLE_SERVICE, lastKnownVehicleList, e);
+        }
+    }
+
+    public List<Route> findAllRoutes() {
+        try {
+            List<Route> routes = callDownstream(ROUTE_SERVICE, routeService::getAllRoutes);
+            lastKnownRouteList = routes;
+            return routes;
+        } catch (RuntimeException e) {
+            return fallback(ROUTE_SERVICE, lastKnownRouteList, e);
+        }
+    }
+
+    /**
+     * Records the outcome of a vehicle lookup as last known data: a vehicle is kept, a
+     * {@code null} (not found downstream) drops what was known. Also used by
+     * {@link NonBlockingCatalogClient}, so both lookup paths share one fallback.
+     */
+    public void rememberVehicle(String vehicleName, Vehicle vehicle) {
+        if (vehicle != null) {
+            lastKnownVehicles.put(vehicleName, vehicle);
+        } else {
+            lastKnownVehicles.remove(vehicleName);
+        }
+    }
+
+    public void rememberRoute(int routeId, Route route) {
+        if (route != null) {
+            lastKnownRoutes.put(routeId, route);
+        } else {
+            lastKnownRoutes.remove(routeId);
+        }
+    }
+
+    /** Last known vehicle after a failed lookup; rethrows {@code failure} when none is known. */
+    public Vehicle vehicleFallback(String vehicleName, RuntimeException failure) {
+        return fallback(VEHICLE_SERVICE, lastKnownVehicles.get(vehicleName), failure);
+    }
+
+    /** Last known route after a failed lookup; rethrows {@code failure} when none is known. */
+    public Route routeFallback(int routeId, RuntimeException failure) {
+        return fallback(ROUTE_SERVICE, lastKnownRoutes.get(routeId), failure);
+    }
+
+    /**
+     * Whether the lookup that just returned on this thread served last known data; clears the
+     * flag. Used by the {@code unless} conditions above to keep fallbacks out of the cache.
+     */
+    public boolean takeServedFallback() {
+        boolean served = SERVED_FALLBACK.get();
+        SERVED_FALLBACK.remove();
+        return served;
+    }
+
+    @CacheEvict(cacheNames = VEHICLES_CACHE, key = "#vehicleName")
+    public void evictVehicle(String vehicleName) {
+        logger.info("Evicting cached vehicle: {}", vehicleName);
+    }
+
+    @CacheEvict(cacheNames = ROUTES_CACHE, key = "#routeId")
+    public void evictRoute(int routeId) {
+        logger.info("Evicting cached route: {}", routeId);
+    }
+
+    @CacheEvict(cacheNames = { VEHICLES_CACHE, ROUTES_CACHE }, allEntries = true)
+    public void evictAll() {
+        logger.info("Evicting all cached vehicles and routes");
+    }
+
+    // The bulkhead sits outside the breaker so a saturated bulkhead is not counted as a
+    // downstream failure
+    private <T> T callDownstream(String service, Supplier<T> call) {
+        CircuitBreaker circuitBreaker = circuitBreakerRegistry.circuitBreaker(service);
+        Bulkhead bulkhead = bulkheadRegistry.bulkhead(service);
+        return Bulkhead.decorateSupplier(bulkhead, CircuitBreaker.decorateSupplier(circuitBreaker, call)).get();
+    }
+
+    private <T> T fallback(String service, T lastKnown, RuntimeException failure) {
+        String reason = failure instanceof CallNotPermittedException ? "circuit_open"
+                : failure instanceof BulkheadFullException ? "bulkhead_full" : "error";
+        meterRegistry.counter("booking.catalog.fallback", "service", service, "reason", reason,
+                "served", String.valueOf(lastKnown != null)).increment();
+        if (lastKnown == null) {
+            logger.error("Call to {} failed ({}) and no last known data is available", service, reason);
+            throw failure;
+        }
+        logger.warn("Call to {} failed ({}), serving last known data", service, reason);
+        return lastKnown;
+    }
+}
@@ -0,0 +1,142 @@
+package com.BookingService.service;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.zip.GZIPOutputStream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import com.BookingService.dto.CatalogSnapshot;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.Getter;
+
+/**
+ * Serialized vehicle and route lists for the current {@link CatalogSnapshot}, as plain and
+ * gzipped JSON. Both are built once per snapshot version, on the first request that needs them,
+ * and served as-is until the snapshot changes.
+ *
+ * <p>ETags are derived from a hash of the JSON, so every instance behind the load balancer
+ * gives the same content the same ETag, whatever its local snapshot version. Last-Modified
+ * only moves when a list's content does.
+ */
+@Component
+public class CatalogResponseCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(CatalogResponseCache.class);
+
+    @Autowired
+    private CatalogSnapshotService catalogSnapshotService;
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private final AtomicReference<Payloads> payloads = new AtomicReference<>();
+
+    /** Vehicle list payload, or empty while no snapshot has been loaded yet. */
+    public Optional<CatalogPayload> vehicles() {
+        return current().map(Payloads::getVehicles);
+    }
+
+    /** Route list payload, or empty while no snapshot has been loaded yet. */
+    public Optional<CatalogPayload> routes() {
+        return current().map(Payloads::getRoutes);
+    }
+
+    private Optional<Payloads> current() {
+        CatalogSnapshot snapshot = catalogSnapshotService.getSnapshot();
+        if (!snapshot.isLoaded()) {
+            return Optional.empty();
+        }
+        Payloads cached = payloads.get();
+        if (cached != null && cached.getVersion() == snapshot.getVersion()) {
+            return Optional.of(cached);
+        }
+        // Concurrent first requests may both build; they produce identical bytes
+        Payloads built = new Payloads(snapshot.getVersion(),
+                encode("vehicles", snapshot, snapshot.getVehicles(), cached == null ? null : cached.getVehicles()),
+                encode("routes", snapshot, snapshot.getRoutes(), cached == null ? null : cached.getRoutes()));
+        payloads.set(built);
+        logger.info("Catalog payloads built for snapshot version {}", snapshot.getVersion());
+        return Optional.of(built);
+    }
+
+    // A list whose bytes did not change keeps its previous payload, Last-Modified included
+    private CatalogPayload encode(String name, CatalogSnapshot snapshot, List<?> items, CatalogPayload previous) {
+        byte[] json;
+        try {
+            json = objectMapper.writeValueAsBytes(items);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize catalog " + name, e);
+        }
+        String hash = contentHash(json);
+        String etag = "\"" + name + "-" + hash + "\"";
+        if (previous != null && previous.getETag().equals(etag)) {
+            return previous;
+        }
+        String gzipETag = "\"" + name + "-" + hash + "-gzip\"";
+        return new CatalogPayload(etag, gzipETag, snapshot.getLoadedAt(), json, gzip(json));
+    }
+
+    // First 128 bits of the SHA-256 of the JSON, hex encoded
+    private static String contentHash(byte[] json) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(json);
+            return HexFormat.of().formatHex(digest, 0, 16);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private static byte[] gzip(byte[] bytes) {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(bytes.length / 4 + 64);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(buffer)) {
+            gzip.write(bytes);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return buffer.toByteArray();
+    }
+
+    @Getter
+    private static final class Payloads {
+        private final long version;
+        private final CatalogPayload vehicles;
+        private final CatalogPayload routes;
+
+        Payloads(long version, CatalogPayload vehicles, CatalogPayload routes) {
+            this.version = version;
+            this.vehicles = vehicles;
+            this.routes = routes;
+        }
+    }
+
+    /** One catalog list in both encodings. Each encoding has its own strong ETag, from the same content hash. */
+    @Getter
+    public static final class CatalogPayload {
+        private final String eTag;
+        private final String gzipETag;
+        private final Instant lastModified;
+        private final byte[] json;
+        private final byte[] gzipJson;
+
+        public CatalogPayload(String eTag, String gzipETag, Instant lastModified, byte[] json, byte[] gzipJson) {
+            this.eTag = eTag;
+            this.gzipETag = gzipETag;
+            this.lastModified = lastModified;
+            this.json = json;
+            this.gzipJson = gzipJson;
+        }
+    }
+}
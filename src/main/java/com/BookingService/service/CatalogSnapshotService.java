@@ -0,0 +1,99 @@
+package com.BookingService.service;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+
+import javax.annotation.PostConstruct;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.BookingService.dto.CatalogSnapshot;
+import com.BookingService.dto.Route;
+import com.BookingService.dto.Vehicle;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Holds the current {@link CatalogSnapshot}. A background refresh reloads both lists and
+ * swaps in a new snapshot only when something changed, so the version only moves on real
+ * catalog changes. A failed refresh keeps serving the previous snapshot.
+ */
+@Service
+public class CatalogSnapshotService {
+
+    private static final Logger logger = LoggerFactory.getLogger(CatalogSnapshotService.class);
+
+    @Autowired
+    private CatalogLookupService catalogLookupService;
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private final AtomicReference<CatalogSnapshot> snapshot = new AtomicReference<>(CatalogSnapshot.EMPTY);
+
+    @PostConstruct
+    public void registerMetrics() {
+        meterRegistry.gauge("booking.catalog.version", snapshot, ref -> ref.get().getVersion());
+    }
+
+    public CatalogSnapshot getSnapshot() {
+        return snapshot.get();
+    }
+
+    public Optional<Vehicle> findVehicle(String vehicleName) {
+        return snapshot.get().findVehicle(vehicleName);
+    }
+
+    public Optional<Route> findRoute(int routeId) {
+        return snapshot.get().findRoute(routeId);
+    }
+
+    @Scheduled(initialDelayString = "${booking.catalog.initial-delay:0}",
+               fixedDelayString = "${booking.catalog.refresh-interval:PT1M}")
+    public synchronized void refresh() {
+        List<Vehicle> vehicles;
+        List<Route> routes;
+        try {
+            vehicles = catalogLookupService.findAllVehicles();
+            routes = catalogLookupService.findAllRoutes();
+        } catch (RuntimeException e) {
+            meterRegistry.counter("booking.catalog.refresh", "outcome", "failed").increment();
+            logger.warn("Catalog refresh failed, keeping snapshot version {}: {}",
+                    snapshot.get().getVersion(), e.getMessage());
+            return;
+        }
+
+        CatalogSnapshot current = snapshot.get();
+        CatalogSnapshot next = new CatalogSnapshot(current.getVersion() + 1, Instant.now(), vehicles, routes);
+        if (current.isLoaded()
+                && current.getVehiclesByName().equals(next.getVehiclesByName())
+                && current.getRoutesById().equals(next.getRoutesById())) {
+            meterRegistry.counter("booking.catalog.refresh", "outcome", "unchanged").increment();
+            logger.debug("Catalog unchanged at version {}", current.getVersion());
+            return;
+        }
+        snapshot.set(next);
+        meterRegistry.counter("booking.catalog.refresh", "outcome", "changed").increment();
+        logger.info("Catalog snapshot version {} loaded: {} vehicles ({} changed), {} routes ({} changed)",
+                next.getVersion(), next.getVehicles().size(),
+                changedEntries(current.getVehiclesByName(), next.getVehiclesByName()),
+                next.getRoutes().size(),
+                changedEntries(current.getRoutesById(), next.getRoutesById()));
+    }
+
+    // Entries added, removed or modified between two indexes
+    private static <K, V> long changedEntries(Map<K, V> before, Map<K, V> after) {
+        long removed = before.keySet().stream().filter(key -> !after.containsKey(key)).count();
+        long addedOrModified = after.entrySet().stream()
+                .filter(entry -> !Objects.equals(before.get(entry.getKey()), entry.getValue()))
+                .count();
+        return removed + addedOrModified;
+    }
+}
@@ -0,0 +1,83 @@
+package com.BookingService.service;
+
+import java.time.Duration;
+import java.util.Collection;
+
+import javax.annotation.PostConstruct;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.BookingService.dto.CustomerBookingSummary;
+import com.BookingService.entity.Booking;
+import com.BookingService.repository.CustomerSummaryWriter;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * Per-customer booking summaries for dashboards, read from the maintained summary table with
+ * an LRU in front. Writes made through this instance evict the customer's entry once they
+ * commit; changes made elsewhere (other instances, the status transition job) are picked up
+ * when the entry expires.
+ */
+@Service
+public class CustomerSummaryService {
+
+    @Autowired
+    private CustomerSummaryWriter customerSummaryWriter;
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${booking.customer-summary.maximum-size:50000}")
+    private long maximumSize;
+
+    @Value("${booking.customer-summary.ttl:30s}")
+    private Duration ttl;
+
+    private Cache<Integer, CustomerBookingSummary> summaries;
+
+    @PostConstruct
+    public void init() {
+        summaries = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, summaries, "customerSummaries");
+    }
+
+    /** Summary of the customer's bookings; all zero for a customer without bookings. */
+    public CustomerBookingSummary getSummary(int customerId) {
+        return summaries.get(customerId, id -> customerSummaryWriter.find(id)
+                .orElseGet(() -> CustomerBookingSummary.empty(id)));
+    }
+
+    /** Adds new bookings to their summaries; call in the transaction that inserted them. */
+    public void recordCreated(Collection<Booking> bookings) {
+        customerSummaryWriter.recordCreated(bookings);
+        bookings.stream().map(Booking::getCustomerId).distinct().forEach(this::evictAfterCommit);
+    }
+
+    /**
+     * Drops the cached summary once the current transaction commits, or right away outside one.
+     * Evicting before commit would let a concurrent read cache the old summary again.
+     */
+    public void evictAfterCommit(int customerId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            summaries.invalidate(customerId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                summaries.invalidate(customerId);
+            }
+        });
+    }
+}
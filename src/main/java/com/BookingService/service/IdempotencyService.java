@@ -0,0 +1,215 @@
+package com.BookingService.service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+
+import javax.annotation.PostConstruct;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.BookingService.dto.Route;
+import com.BookingService.dto.Vehicle;
+import com.BookingService.entity.Booking;
+import com.BookingService.exception.IdempotencyKeyInProgressException;
+import com.BookingService.exception.IdempotencyKeyMismatchException;
+import com.BookingService.repository.IdempotencyKeyWriter;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+
+/**
+ * {@code Idempotency-Key} handling for booking creation, so a client retrying a request gets
+ * the booking of its first attempt instead of a second booking.
+ *
+ * <p>Keys seen recently are kept in memory with the outcome of their request. A duplicate of a
+ * request still in flight on this instance waits for it and gets the same booking or failure;
+ * a later duplicate gets the booking without calling the catalog services or the database.
+ * Older keys are read back from {@code booking_idempotency_keys}, which also settles races
+ * between instances: the key row is written in the booking's transaction, so only one booking
+ * per key can commit (see {@link BookingService#createIdempotentBooking(Booking, String, String)}).
+ * Failed requests are not remembered and can be retried under the same key.
+ *
+ * <p>A key reused with a different booking request is rejected. Replays from memory return
+ * the booking as it was created; replays from the table load it as it is now.
+ */
+@Service
+public class IdempotencyService {
+
+    private static final Logger logger = LoggerFactory.getLogger(IdempotencyService.class);
+    private static final int MAX_KEY_LENGTH = 128;
+
+    @Autowired
+    private BookingService bookingService;
+    @Autowired
+    private IdempotencyKeyWriter idempotencyKeyWriter;
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${booking.idempotency.maximum-size:100000}")
+    private long maximumSize;
+    @Value("${booking.idempotency.ttl:10m}")
+    private Duration ttl;
+    @Value("${booking.idempotency.wait-timeout:10s}")
+    private Duration waitTimeout;
+    @Value("${booking.idempotency.retention:24h}")
+    private Duration retention;
+
+    private Cache<String, Attempt> attempts;
+
+    @PostConstruct
+    public void init() {
+        attempts = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .build();
+        meterRegistry.gaugeMapSize("booking.idempotency.keys", Tags.empty(), attempts.asMap());
+    }
+
+    /** Creates the booking once per key; repeated calls with the key return that booking. */
+    public Booking createBooking(String idempotencyKey, Booking booking) {
+        return createBooking(idempotencyKey, booking,
+                fingerprint -> bookingService.createIdempotentBooking(booking, idempotencyKey, fingerprint));
+    }
+
+    /**
+     * Same as {@link #createBooking(String, Booking)} for a booking whose vehicle and route the
+     * caller already resolved, e.g. the non-blocking path.
+     */
+    public Booking createBooking(String idempotencyKey, Booking booking, Vehicle vehicle, Route route) {
+        return createBooking(idempotencyKey, booking, fingerprint ->
+                bookingService.createIdempotentBooking(booking, vehicle, route, idempotencyKey, fingerprint));
+    }
+
+    // creator saves the booking together with the key and the request fingerprint it is given
+    private Booking createBooking(String idempotencyKey, Booking booking, Function<String, Booking> creator) {
+        if (idempotencyKey.isBlank() || idempotencyKey.length() > MAX_KEY_LENGTH) {
+            throw new IllegalArgumentException("Idempotency-Key must be 1 to " + MAX_KEY_LENGTH + " characters");
+        }
+        String fingerprint = fingerprint(booking);
+        Attempt attempt = new Attempt(fingerprint);
+        Attempt existing = attempts.asMap().putIfAbsent(idempotencyKey, attempt);
+        if (existing != null) {
+            checkFingerprint(idempotencyKey, existing.fingerprint, fingerprint);
+            count("replayed");
+            return await(idempotencyKey, existing);
+        }
+        try {
+            Booking result = findStored(idempotencyKey, fingerprint)
+                    .orElseGet(() -> create(idempotencyKey, fingerprint, creator));
+            attempt.result.complete(result);
+            return result;
+        } catch (RuntimeException | Error e) {
+            attempts.asMap().remove(idempotencyKey, attempt);
+            attempt.result.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    @Scheduled(cron = "${booking.idempotency.cleanup-cron:0 30 3 * * *}")
+    public void deleteExpiredKeys() {
+        int deleted = idempotencyKeyWriter.deleteCreatedBefore(LocalDateTime.now().minus(retention));
+        logger.info("Deleted {} idempotency keys older than {}", deleted, retention);
+    }
+
+    private Booking create(String idempotencyKey, String fingerprint, Function<String, Booking> creator) {
+        try {
+            Booking created = creator.apply(fingerprint);
+            count("created");
+            return created;
+        } catch (DuplicateKeyException e) {
+            // Another instance committed a booking under this key first
+            logger.info("Idempotency key {} was used concurrently on another instance", idempotencyKey);
+            return findStored(idempotencyKey, fingerprint).orElseThrow(() -> e);
+        }
+    }
+
+    private Optional<Booking> findStored(String idempotencyKey, String fingerprint) {
+        return idempotencyKeyWriter.find(idempotencyKey).map(stored -> {
+            checkFingerprint(idempotencyKey, stored.getRequestFingerprint(), fingerprint);
+            count("replayed");
+            return bookingService.getBookingById(stored.getBookingId());
+        });
+    }
+
+    private Booking await(String idempotencyKey, Attempt attempt) {
+        try {
+            return attempt.result.get(waitTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            throw new IdempotencyKeyInProgressException(
+                    "A request with this Idempotency-Key is still in progress :: " + idempotencyKey);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IdempotencyKeyInProgressException(
+                    "Interrupted while waiting for the request with Idempotency-Key :: " + idempotencyKey);
+        } catch (ExecutionException e) {
+            // Duplicates see the first request's exception as if they had made the call themselves
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new IllegalStateException(cause);
+        }
+    }
+
+    private static void checkFingerprint(String idempotencyKey, String expected, String actual) {
+        if (!expected.equals(actual)) {
+            throw new IdempotencyKeyMismatchException(
+                    "Idempotency-Key was already used for a different booking request :: " + idempotencyKey);
+        }
+    }
+
+    private void count(String outcome) {
+        meterRegistry.counter("booking.idempotency", "outcome", outcome).increment();
+    }
+
+    // Everything the client sends that shapes the booking; server-set fields are left out
+    static String fingerprint(Booking booking) {
+        String request = String.join("\u001f",
+                String.valueOf(booking.getCustomerId()),
+                String.valueOf(booking.getUsername()),
+                String.valueOf(booking.getVehicleName()),
+                String.valueOf(booking.getVehicleNo()),
+                String.valueOf(booking.getRouteId()),
+                String.valueOf(booking.getJourneyDate()),
+                String.valueOf(booking.getBoardingPoint()),
+                String.valueOf(booking.getDropPoint()),
+                String.valueOf(booking.getContactNo()),
+                String.valueOf(booking.getNoOfPassengers()));
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(request.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static final class Attempt {
+        private final String fingerprint;
+        private final CompletableFuture<Booking> result = new CompletableFuture<>();
+
+        private Attempt(String fingerprint) {
+            this.fingerprint = fingerprint;
+        }
+    }
+}
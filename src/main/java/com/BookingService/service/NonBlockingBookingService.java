@@ -0,0 +1,87 @@
+package com.BookingService.service;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeoutException;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import com.BookingService.dto.Route;
+import com.BookingService.dto.Vehicle;
+import com.BookingService.entity.Booking;
+import com.BookingService.exception.ResourceNotFoundException;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * Booking operations that never hold a request thread while waiting. Vehicle and route are
+ * resolved with {@link NonBlockingCatalogClient}; the JDBC work then runs on the bounded
+ * {@code bookingPersistenceExecutor} through the regular {@link BookingService}, so validation,
+ * seat reservation and persistence are shared with the blocking path. A full persistence queue
+ * fails the request with {@link org.springframework.core.task.TaskRejectedException}.
+ *
+ * <p>A request with an {@code Idempotency-Key} is saved through {@link IdempotencyService} once
+ * its vehicle and route are resolved, so a retry returns the first booking as on the blocking
+ * path.
+ */
+@Service
+@ConditionalOnProperty(name = "booking.non-blocking.enabled", havingValue = "true")
+public class NonBlockingBookingService {
+
+    private static final Logger logger = LoggerFactory.getLogger(NonBlockingBookingService.class);
+
+    @Autowired
+    private NonBlockingCatalogClient catalogClient;
+    @Autowired
+    private BookingService bookingService;
+    @Autowired
+    private IdempotencyService idempotencyService;
+    @Autowired
+    @Qualifier("bookingPersistenceExecutor")
+    private Executor persistenceExecutor;
+    @Value("${booking.lookup.timeout:2s}")
+    private Duration lookupTimeout;
+
+    public CompletableFuture<Booking> createBooking(Booking booking) {
+        return createBooking(booking, null);
+    }
+
+    /** Same as {@link #createBooking(Booking)}; a non-null {@code idempotencyKey} makes it idempotent. */
+    public CompletableFuture<Booking> createBooking(Booking booking, String idempotencyKey) {
+        logger.info("Creating booking (non-blocking) for vehicle name: {}", booking.getVehicleName());
+        String vehicleName = booking.getVehicleName();
+        int routeId = booking.getRouteId();
+
+        Mono<Vehicle> vehicle = catalogClient.findVehicleByName(vehicleName)
+                .switchIfEmpty(Mono.error(() -> new ResourceNotFoundException("Vehicle not found for name :: " + vehicleName)))
+                .timeout(lookupTimeout)
+                .onErrorMap(TimeoutException.class,
+                        e -> new IllegalStateException("Vehicle lookup timed out for name :: " + vehicleName, e));
+        Mono<Route> route = catalogClient.findRouteById(routeId)
+                .switchIfEmpty(Mono.error(() -> new ResourceNotFoundException("Route not found for id :: " + routeId)))
+                .timeout(lookupTimeout)
+                .onErrorMap(TimeoutException.class,
+                        e -> new IllegalStateException("Route lookup timed out for id :: " + routeId, e));
+
+        return Mono.zip(vehicle, route).toFuture()
+                .thenCompose(resolved -> CompletableFuture.supplyAsync(() -> idempotencyKey == null
+                                ? bookingService.createBooking(booking, resolved.getT1(), resolved.getT2())
+                                : idempotencyService.createBooking(idempotencyKey, booking, resolved.getT1(), resolved.getT2()),
+                        persistenceExecutor));
+    }
+
+    public CompletableFuture<Booking> getBookingById(Long bookingId) {
+        return CompletableFuture.supplyAsync(() -> bookingService.getBookingById(bookingId), persistenceExecutor);
+    }
+
+    public CompletableFuture<Void> cancelBooking(Long bookingId) {
+        return CompletableFuture.runAsync(() -> bookingService.cancelBooking(bookingId), persistenceExecutor);
+    }
+}
@@ -0,0 +1,132 @@
+package com.BookingService.service;
+
+import java.util.Optional;
+import java.util.function.Consumer;
+
+import javax.annotation.PostConstruct;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cache.Cache;
+import org.springframework.cache.Cache.ValueWrapper;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import com.BookingService.dto.Route;
+import com.BookingService.dto.Vehicle;
+
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.reactor.bulkhead.operator.BulkheadOperator;
+import io.github.resilience4j.reactor.circuitbreaker.operator.CircuitBreakerOperator;
+import io.micrometer.core.instrument.MeterRegistry;
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking counterpart of {@link CatalogLookupService} for the vehicle and route lookups of
+ * a booking. The catalog snapshot and then the shared lookup caches answer known names and ids;
+ * everything else is fetched with WebClient through the same bulkheads and circuit breakers as
+ * the Feign path, so both paths share one view of downstream health. An unknown vehicle or
+ * route is an empty result and is cached as such. Concurrent misses for the same key share one
+ * request ({@link SingleFlight}).
+ *
+ * <p>Responses are recorded as last known data in {@link CatalogLookupService}, and a failed
+ * call is answered from there exactly as on the Feign path. Such fallbacks are not cached.
+ */
+@Service
+@ConditionalOnProperty(name = "booking.non-blocking.enabled", havingValue = "true")
+public class NonBlockingCatalogClient {
+
+    private static final Logger logger = LoggerFactory.getLogger(NonBlockingCatalogClient.class);
+
+    @Autowired
+    private WebClient.Builder loadBalancedWebClientBuilder;
+    @Autowired
+    private CatalogSnapshotService catalogSnapshotService;
+    @Autowired
+    private CatalogLookupService catalogLookupService;
+    @Autowired
+    private CircuitBreakerRegistry circuitBreakerRegistry;
+    @Autowired
+    private BulkheadRegistry bulkheadRegistry;
+    @Autowired
+    private CacheManager cacheManager;
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private WebClient vehicleService;
+    private WebClient routeService;
+    private Cache vehicleCache;
+    private Cache routeCache;
+    private SingleFlight<String, Vehicle> vehicleFlights;
+    private SingleFlight<Integer, Route> routeFlights;
+
+    @PostConstruct
+    public void init() {
+        vehicleService = loadBalancedWebClientBuilder.clone().baseUrl("http://VEHICLESERVICE").build();
+        routeService = loadBalancedWebClientBuilder.clone().baseUrl("http://ROUTESERVICE").build();
+        vehicleCache = cacheManager.getCache(CatalogLookupService.VEHICLES_CACHE);
+        routeCache = cacheManager.getCache(CatalogLookupService.ROUTES_CACHE);
+        vehicleFlights = new SingleFlight<>(CatalogLookupService.VEHICLE_SERVICE, "webclient", meterRegistry);
+        routeFlights = new SingleFlight<>(CatalogLookupService.ROUTE_SERVICE, "webclient", meterRegistry);
+    }
+
+    public Mono<Vehicle> findVehicleByName(String vehicleName) {
+        Optional<Vehicle> known = catalogSnapshotService.findVehicle(vehicleName);
+        if (known.isPresent()) {
+            return Mono.just(known.get());
+        }
+        ValueWrapper cached = vehicleCache.get(vehicleName);
+        if (cached != null) {
+            return Mono.justOrEmpty((Vehicle) cached.get());
+        }
+        logger.info("Vehicle cache miss, fetching vehicle by name: {}", vehicleName);
+        Mono<Vehicle> call = vehicleService.get()
+                .uri("/vehicles/name/{vehicleName}", vehicleName)
+                .retrieve()
+                .bodyToMono(Vehicle.class);
+        return Mono.fromFuture(() -> vehicleFlights.executeAsync(vehicleName,
+                () -> guard(CatalogLookupService.VEHICLE_SERVICE, call, vehicleCache, vehicleName,
+                        vehicle -> catalogLookupService.rememberVehicle(vehicleName, vehicle)).toFuture()))
+                .onErrorResume(RuntimeException.class,
+                        e -> Mono.fromSupplier(() -> catalogLookupService.vehicleFallback(vehicleName, e)));
+    }
+
+    public Mono<Route> findRouteById(int routeId) {
+        Optional<Route> known = catalogSnapshotService.findRoute(routeId);
+        if (known.isPresent()) {
+            return Mono.just(known.get());
+        }
+        ValueWrapper cached = routeCache.get(routeId);
+        if (cached != null) {
+            return Mono.justOrEmpty((Route) cached.get());
+        }
+        logger.info("Route cache miss, fetching route by ID: {}", routeId);
+        Mono<Route> call = routeService.get()
+                .uri("/route/ViewRouteById/{routeId}", routeId)
+                .retrieve()
+                .bodyToMono(Route.class);
+        return Mono.fromFuture(() -> routeFlights.executeAsync(routeId,
+                () -> guard(CatalogLookupService.ROUTE_SERVICE, call, routeCache, routeId,
+                        route -> catalogLookupService.rememberRoute(routeId, route)).toFuture()))
+                .onErrorResume(RuntimeException.class,
+                        e -> Mono.fromSupplier(() -> catalogLookupService.routeFallback(routeId, e)));
+    }
+
+    // A 404 becomes empty before the breaker sees it, matching the ignored FeignException.NotFound.
+    // The bulkhead sits outside the breaker, as in CatalogLookupService. Failures are not cached.
+    private <T> Mono<T> guard(String service, Mono<T> call, Cache cache, Object key, Consumer<T> remember) {
+        return call
+                .onErrorResume(WebClientResponseException.NotFound.class, e -> Mono.empty())
+                .transformDeferred(CircuitBreakerOperator.of(circuitBreakerRegistry.circuitBreaker(service)))
+                .transformDeferred(BulkheadOperator.of(bulkheadRegistry.bulkhead(service)))
+                .doOnSuccess(value -> {
+                    cache.put(key, value);
+                    remember.accept(value);
+                });
+    }
+}
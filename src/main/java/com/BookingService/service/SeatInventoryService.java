@@ -0,0 +1,188 @@
+package com.BookingService.service;
+
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.BookingService.entity.BookingStatus;
+import com.BookingService.entity.SeatInventory;
+import com.BookingService.entity.SeatInventoryId;
+import com.BookingService.exception.SeatsUnavailableException;
+import com.BookingService.repository.SeatInventoryRepository;
+
+/**
+ * Tracks remaining seats per trip (vehicle number and journey date).
+ *
+ * <p>Each trip has an in-memory counter that is decremented with a compare-and-set loop, so
+ * most requests on a trip with free seats never wait on each other. Every successful in-memory
+ * reservation is then written to the trip's {@link SeatInventory} row under optimistic
+ * versioning. That row is authoritative across instances, and the counter is only this
+ * instance's view of it: seats reserved or released by other instances do not reach it.
+ * So the counter is reloaded from the row whenever the two disagree in either direction,
+ * before a request is rejected for lack of room and after the row rejected a reservation.
+ *
+ * <p>A trip without a row yet may already have bookings made before seats were tracked, so
+ * the row starts from the seats its upcoming bookings hold rather than from zero.
+ */
+@Service
+public class SeatInventoryService {
+
+    private static final Logger logger = LoggerFactory.getLogger(SeatInventoryService.class);
+
+    private final Map<SeatInventoryId, AtomicInteger> remainingSeats = new ConcurrentHashMap<>();
+
+    @Autowired
+    private SeatInventoryRepository seatInventoryRepository;
+
+    @Value("${booking.seats.max-retries:5}")
+    private int maxRetries;
+
+    public void reserve(String vehicleNo, LocalDate journeyDate, int capacity, int seats) {
+        requirePositive(seats);
+        SeatInventoryId trip = new SeatInventoryId(vehicleNo, journeyDate);
+        AtomicInteger remaining = remainingSeats.computeIfAbsent(trip,
+                key -> new AtomicInteger(loadRemainingSeats(key, capacity)));
+
+        if (!take(remaining, seats)) {
+            // Other instances may have released seats since the counter was loaded
+            remaining.set(loadRemainingSeats(trip, capacity));
+            if (!take(remaining, seats)) {
+                throw soldOut(trip, seats, remaining.get());
+            }
+        }
+
+        try {
+            persistReservation(trip, capacity, seats);
+        } catch (SeatsUnavailableException e) {
+            // Other instances sold seats the counter still showed as free
+            remaining.set(loadRemainingSeats(trip, capacity));
+            throw e;
+        } catch (RuntimeException e) {
+            remaining.addAndGet(seats);
+            throw e;
+        }
+        logger.info("Reserved {} seats on {} for {}", seats, vehicleNo, journeyDate);
+    }
+
+    public void release(String vehicleNo, LocalDate journeyDate, int seats) {
+        requirePositive(seats);
+        SeatInventoryId trip = new SeatInventoryId(vehicleNo, journeyDate);
+        persistRelease(trip, seats);
+        AtomicInteger remaining = remainingSeats.get(trip);
+        if (remaining != null) {
+            remaining.addAndGet(seats);
+        }
+        logger.info("Released {} seats on {} for {}", seats, vehicleNo, journeyDate);
+    }
+
+    /**
+     * Returns seats to this instance's counter after their row was already updated, e.g. by the
+     * statement that cancelled the bookings holding them.
+     */
+    public void seatsReleased(String vehicleNo, LocalDate journeyDate, int seats) {
+        AtomicInteger remaining = remainingSeats.get(new SeatInventoryId(vehicleNo, journeyDate));
+        if (remaining != null && seats > 0) {
+            remaining.addAndGet(seats);
+        }
+    }
+
+    public int getRemainingSeats(String vehicleNo, LocalDate journeyDate, int capacity) {
+        SeatInventoryId trip = new SeatInventoryId(vehicleNo, journeyDate);
+        return remainingSeats.computeIfAbsent(trip,
+                key -> new AtomicInteger(loadRemainingSeats(key, capacity))).get();
+    }
+
+    // Trips in the past can no longer be booked, so their counters are dropped nightly
+    @Scheduled(cron = "${booking.seats.cleanup-cron:0 0 3 * * *}")
+    public void evictPastTrips() {
+        LocalDate today = LocalDate.now();
+        remainingSeats.keySet().removeIf(trip -> trip.getJourneyDate().isBefore(today));
+    }
+
+    // A non-positive count would hand seats back instead of taking them
+    private static void requirePositive(int seats) {
+        if (seats < 1) {
+            throw new IllegalArgumentException("Seat count must be at least 1, was " + seats);
+        }
+    }
+
+    private static boolean take(AtomicInteger remaining, int seats) {
+        int available;
+        do {
+            available = remaining.get();
+            if (available < seats) {
+                return false;
+            }
+        } while (!remaining.compareAndSet(available, available - seats));
+        return true;
+    }
+
+    private int loadRemainingSeats(SeatInventoryId trip, int capacity) {
+        return seatInventoryRepository.findById(trip)
+                .map(row -> row.getCapacity() - row.getReservedSeats())
+                .orElseGet(() -> capacity - bookedSeats(trip));
+    }
+
+    private int bookedSeats(SeatInventoryId trip) {
+        return Math.toIntExact(seatInventoryRepository.sumBookedSeats(
+                trip.getVehicleNo(), trip.getJourneyDate(), BookingStatus.UPCOMING));
+    }
+
+    private void persistReservation(SeatInventoryId trip, int capacity, int seats) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                SeatInventory row = seatInventoryRepository.findById(trip)
+                        .orElseGet(() -> new SeatInventory(trip.getVehicleNo(), trip.getJourneyDate(), capacity,
+                                bookedSeats(trip), null));
+                int available = row.getCapacity() - row.getReservedSeats();
+                if (available < seats) {
+                    throw soldOut(trip, seats, available);
+                }
+                row.setReservedSeats(row.getReservedSeats() + seats);
+                seatInventoryRepository.save(row);
+                return;
+            } catch (OptimisticLockingFailureException | DataIntegrityViolationException e) {
+                if (attempt >= maxRetries) {
+                    throw e;
+                }
+                logger.debug("Seat inventory conflict for {}, retrying (attempt {})", trip, attempt);
+            }
+        }
+    }
+
+    private void persistRelease(SeatInventoryId trip, int seats) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                SeatInventory row = seatInventoryRepository.findById(trip).orElse(null);
+                if (row == null) {
+                    return;
+                }
+                row.setReservedSeats(Math.max(0, row.getReservedSeats() - seats));
+                seatInventoryRepository.save(row);
+                return;
+            } catch (OptimisticLockingFailureException e) {
+                if (attempt >= maxRetries) {
+                    throw e;
+                }
+                logger.debug("Seat inventory conflict for {}, retrying (attempt {})", trip, attempt);
+            }
+        }
+    }
+
+    private SeatsUnavailableException soldOut(SeatInventoryId trip, int seats, int available) {
+        logger.warn("Not enough seats on {} for {}: requested {}, available {}",
+                trip.getVehicleNo(), trip.getJourneyDate(), seats, available);
+        return new SeatsUnavailableException("Only " + Math.max(available, 0) + " seats left on vehicle :: "
+                + trip.getVehicleNo() + " for " + trip.getJourneyDate());
+    }
+}
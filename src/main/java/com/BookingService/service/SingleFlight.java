@@ -0,0 +1,100 @@
+package com.BookingService.service;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+
+/**
+ * Single-flight execution: while a call for a key is in flight, further calls for the same key
+ * do not start their own but wait for it and get its result or failure. Nothing is kept once
+ * the call completes, so only overlapping calls are merged; caching is left to the caller.
+ *
+ * <p>Publishes {@code booking.catalog.singleflight} (calls by role: the leader runs the call,
+ * followers share it) and {@code booking.catalog.singleflight.inflight} (keys in flight).
+ */
+public final class SingleFlight<K, V> {
+
+    private final ConcurrentMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+    private final Counter leaders;
+    private final Counter followers;
+
+    public SingleFlight(String service, String client, MeterRegistry meterRegistry) {
+        Tags tags = Tags.of("service", service, "client", client);
+        leaders = meterRegistry.counter("booking.catalog.singleflight", tags.and("role", "leader"));
+        followers = meterRegistry.counter("booking.catalog.singleflight", tags.and("role", "follower"));
+        meterRegistry.gaugeMapSize("booking.catalog.singleflight.inflight", tags, inFlight);
+    }
+
+    /** Runs {@code call} on this thread, or waits for the call already in flight for {@code key}. */
+    public V execute(K key, Supplier<V> call) {
+        CompletableFuture<V> flight = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(key, flight);
+        if (existing != null) {
+            followers.increment();
+            return join(existing);
+        }
+        leaders.increment();
+        try {
+            V value = call.get();
+            inFlight.remove(key, flight);
+            flight.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            inFlight.remove(key, flight);
+            flight.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    /**
+     * Starts {@code call} or joins the call already in flight for {@code key}. Every caller gets
+     * its own copy of the shared future, so cancelling one does not affect the others.
+     */
+    public CompletableFuture<V> executeAsync(K key, Supplier<CompletableFuture<V>> call) {
+        CompletableFuture<V> flight = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(key, flight);
+        if (existing != null) {
+            followers.increment();
+            return existing.copy();
+        }
+        leaders.increment();
+        CompletableFuture<V> started;
+        try {
+            started = call.get();
+        } catch (RuntimeException e) {
+            started = CompletableFuture.failedFuture(e);
+        }
+        started.whenComplete((value, failure) -> {
+            inFlight.remove(key, flight);
+            if (failure != null) {
+                flight.completeExceptionally(failure instanceof CompletionException && failure.getCause() != null
+                        ? failure.getCause() : failure);
+            } else {
+                flight.complete(value);
+            }
+        });
+        return flight.copy();
+    }
+
+    // Followers see the leader's exception as if they had made the call themselves
+    private static <V> V join(CompletableFuture<V> flight) {
+        try {
+            return flight.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw e;
+        }
+    }
+}
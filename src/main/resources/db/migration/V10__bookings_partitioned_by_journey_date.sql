@@ -0,0 +1,95 @@
+-- bookings becomes a table range-partitioned by journey_date, one partition per month plus a
+-- default partition for dates no monthly partition covers yet. BookingArchiveService creates
+-- partitions ahead of time and moves old months into bookings_archive.
+--
+-- The existing rows are copied into the new table, which rewrites it under an exclusive lock:
+-- run this in a maintenance window on large tables. Indexes cannot be built CONCURRENTLY on a
+-- partitioned table, so they are rebuilt here inside the migration's transaction.
+--
+-- A primary key on a partitioned table must contain the partition key, so it becomes
+-- (booking_id, journey_date); booking ids stay unique because they all come from booking_seq.
+
+CREATE TABLE bookings_partitioned (
+    booking_id       BIGINT           NOT NULL,
+    username         VARCHAR(255)     NOT NULL,
+    vehicle_no       VARCHAR(20),
+    vehicle_name     VARCHAR(50),
+    route_id         INTEGER          NOT NULL,
+    source           VARCHAR(100),
+    destination      VARCHAR(100),
+    booking_date     DATE             NOT NULL,
+    journey_date     DATE             NOT NULL,
+    boarding_point   VARCHAR(100),
+    drop_point       VARCHAR(100),
+    contact_no       VARCHAR(255),
+    fare             DOUBLE PRECISION NOT NULL,
+    no_of_passengers INTEGER          NOT NULL,
+    booking_status   SMALLINT         NOT NULL,
+    customer_id      INTEGER          NOT NULL,
+    version          BIGINT           NOT NULL DEFAULT 0
+) PARTITION BY RANGE (journey_date);
+
+-- Monthly partitions from the earliest journey date to a year ahead, named bookings_pYYYY_MM
+DO $$
+DECLARE
+    month DATE := date_trunc('month', LEAST((SELECT min(journey_date) FROM bookings), CURRENT_DATE));
+    last_month DATE := date_trunc('month', CURRENT_DATE + INTERVAL '12 months');
+BEGIN
+    WHILE month <= last_month LOOP
+        EXECUTE format('CREATE TABLE %I PARTITION OF bookings_partitioned FOR VALUES FROM (%L) TO (%L)',
+                       'bookings_p' || to_char(month, 'YYYY_MM'), month, month + INTERVAL '1 month');
+        month := month + INTERVAL '1 month';
+    END LOOP;
+END $$;
+
+CREATE TABLE bookings_default PARTITION OF bookings_partitioned DEFAULT;
+
+INSERT INTO bookings_partitioned (booking_id, username, vehicle_no, vehicle_name, route_id, source, destination,
+                                  booking_date, journey_date, boarding_point, drop_point, contact_no, fare,
+                                  no_of_passengers, booking_status, customer_id, version)
+SELECT booking_id, username, vehicle_no, vehicle_name, route_id, source, destination,
+       booking_date, journey_date, boarding_point, drop_point, contact_no, fare,
+       no_of_passengers, booking_status, customer_id, version
+FROM bookings;
+
+DROP TABLE bookings;
+ALTER TABLE bookings_partitioned RENAME TO bookings;
+
+ALTER TABLE bookings
+    ADD CONSTRAINT bookings_pkey PRIMARY KEY (booking_id, journey_date),
+    ADD CONSTRAINT bookings_status_code_check CHECK (booking_status BETWEEN 1 AND 3);
+
+-- Same indexes as before (V2, V6, V8), now created on every partition
+CREATE INDEX idx_bookings_customer_journey
+    ON bookings (customer_id, journey_date DESC, booking_id DESC)
+    INCLUDE (vehicle_name, source, destination, booking_status, fare, no_of_passengers);
+CREATE INDEX idx_bookings_vehicle_journey ON bookings (vehicle_no, journey_date);
+CREATE INDEX idx_bookings_journey_date ON bookings (journey_date);
+CREATE INDEX idx_bookings_upcoming_journey ON bookings (journey_date, booking_id) WHERE booking_status = 1;
+CREATE INDEX idx_bookings_route_journey ON bookings (route_id, journey_date, booking_id);
+
+-- Completed and cancelled bookings of archived months. Reads by id and by customer fall back
+-- to this table (BookingArchiveRepository).
+CREATE TABLE IF NOT EXISTS bookings_archive (
+    booking_id       BIGINT           PRIMARY KEY,
+    username         VARCHAR(255)     NOT NULL,
+    vehicle_no       VARCHAR(20),
+    vehicle_name     VARCHAR(50),
+    route_id         INTEGER          NOT NULL,
+    source           VARCHAR(100),
+    destination      VARCHAR(100),
+    booking_date     DATE             NOT NULL,
+    journey_date     DATE             NOT NULL,
+    boarding_point   VARCHAR(100),
+    drop_point       VARCHAR(100),
+    contact_no       VARCHAR(255),
+    fare             DOUBLE PRECISION NOT NULL,
+    no_of_passengers INTEGER          NOT NULL,
+    booking_status   SMALLINT         NOT NULL,
+    customer_id      INTEGER          NOT NULL,
+    version          BIGINT           NOT NULL,
+    archived_at      TIMESTAMP        NOT NULL DEFAULT now()
+);
+
+CREATE INDEX IF NOT EXISTS idx_bookings_archive_customer_journey
+    ON bookings_archive (customer_id, journey_date DESC, booking_id DESC);
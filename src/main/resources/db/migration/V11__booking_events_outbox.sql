@@ -0,0 +1,27 @@
+-- Outbox of booking events, written in the same transaction as the booking change
+-- (BookingEventWriter). BookingOutboxPublisher numbers committed events with feed_position,
+-- hands them to the configured sink and serves them on GET /bookings/events. event_id comes
+-- from a sequence, so ids of concurrent transactions commit out of order; feed_position is
+-- assigned one batch at a time after commit and is therefore safe to use as a cursor.
+CREATE TABLE IF NOT EXISTS booking_events (
+    event_id         BIGSERIAL        PRIMARY KEY,
+    event_type       SMALLINT         NOT NULL,
+    booking_id       BIGINT           NOT NULL,
+    customer_id      INTEGER          NOT NULL,
+    vehicle_no       VARCHAR(20),
+    journey_date     DATE             NOT NULL,
+    no_of_passengers INTEGER          NOT NULL,
+    fare             DOUBLE PRECISION NOT NULL,
+    version          BIGINT           NOT NULL,
+    occurred_at      TIMESTAMP        NOT NULL DEFAULT now(),
+    feed_position    BIGINT,
+    published_at     TIMESTAMP,
+    CONSTRAINT booking_events_type_code_check CHECK (event_type BETWEEN 1 AND 2)
+);
+
+CREATE UNIQUE INDEX IF NOT EXISTS idx_booking_events_feed_position ON booking_events (feed_position);
+
+-- The publisher's queue: only events still waiting for a feed position
+CREATE INDEX IF NOT EXISTS idx_booking_events_unpublished ON booking_events (event_id) WHERE feed_position IS NULL;
+
+CREATE INDEX IF NOT EXISTS idx_booking_events_published_at ON booking_events (published_at);
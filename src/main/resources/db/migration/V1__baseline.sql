@@ -0,0 +1,40 @@
+-- Baseline of the schema previously created by hibernate.ddl-auto=update.
+-- Every statement is idempotent so it can run against both new and existing databases.
+
+CREATE SEQUENCE IF NOT EXISTS booking_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE IF NOT EXISTS bookings (
+    booking_id       BIGINT           NOT NULL,
+    username         VARCHAR(255)     NOT NULL,
+    vehicle_no       VARCHAR(20),
+    vehicle_name     VARCHAR(50),
+    route_id         INTEGER          NOT NULL,
+    source           VARCHAR(100),
+    destination      VARCHAR(100),
+    booking_date     DATE             NOT NULL,
+    journey_date     DATE             NOT NULL,
+    boarding_point   VARCHAR(100),
+    drop_point       VARCHAR(100),
+    contact_no       VARCHAR(255),
+    fare             DOUBLE PRECISION NOT NULL,
+    no_of_passengers INTEGER          NOT NULL,
+    booking_status   VARCHAR(20),
+    customer_id      INTEGER          NOT NULL,
+    CONSTRAINT bookings_pkey PRIMARY KEY (booking_id)
+);
+
+-- Ids used to come from hibernate_sequence. Move booking_seq past every existing id so the
+-- pooled optimizer (blocks of 50 ending at the sequence value) never hands out a used id.
+SELECT setval('booking_seq',
+              GREATEST((SELECT COALESCE(MAX(booking_id), 0) FROM bookings),
+                       (SELECT last_value FROM booking_seq)) + 50,
+              false);
+
+CREATE TABLE IF NOT EXISTS seat_inventory (
+    vehicle_no     VARCHAR(20) NOT NULL,
+    journey_date   DATE        NOT NULL,
+    capacity       INTEGER     NOT NULL,
+    reserved_seats INTEGER     NOT NULL,
+    version        BIGINT,
+    CONSTRAINT seat_inventory_pkey PRIMARY KEY (vehicle_no, journey_date)
+);
@@ -0,0 +1,15 @@
+-- Built CONCURRENTLY so existing tables stay writable; Flyway runs this migration outside a transaction.
+
+-- Customer booking screen: equality on customer_id, newest journeys first. The INCLUDE columns
+-- cover BookingSummaryView, so the paged customer query is answered by an index-only scan.
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_bookings_customer_journey
+    ON bookings (customer_id, journey_date DESC, booking_id DESC)
+    INCLUDE (vehicle_name, source, destination, booking_status, fare, no_of_passengers);
+
+-- findByVehicleNo and per-trip lookups (vehicle on a journey date)
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_bookings_vehicle_journey
+    ON bookings (vehicle_no, journey_date);
+
+-- Journey date range scans
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_bookings_journey_date
+    ON bookings (journey_date);
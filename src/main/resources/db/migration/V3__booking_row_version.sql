@@ -0,0 +1,3 @@
+-- Optimistic-locking row version for bookings, also exposed as the booking's HTTP ETag.
+-- A constant default makes this a metadata-only change on PostgreSQL 11+, no table rewrite.
+ALTER TABLE bookings ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
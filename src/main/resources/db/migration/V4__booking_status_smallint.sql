@@ -0,0 +1,22 @@
+-- booking_status becomes a SMALLINT code: 1 = Upcoming, 2 = Completed, 3 = Cancelled
+-- (see BookingStatus). Changing the column type rewrites the table and its indexes under an
+-- exclusive lock, so run this in a maintenance window on large tables.
+
+DO $$
+BEGIN
+    IF EXISTS (SELECT 1 FROM bookings
+               WHERE booking_status IS NULL
+                  OR lower(booking_status) NOT IN ('upcoming', 'completed', 'cancelled')) THEN
+        RAISE EXCEPTION 'bookings.booking_status contains values that cannot be mapped to a status code';
+    END IF;
+END $$;
+
+ALTER TABLE bookings
+    ALTER COLUMN booking_status TYPE SMALLINT
+    USING CASE lower(booking_status)
+              WHEN 'upcoming' THEN 1
+              WHEN 'completed' THEN 2
+              WHEN 'cancelled' THEN 3
+          END,
+    ALTER COLUMN booking_status SET NOT NULL,
+    ADD CONSTRAINT bookings_status_code_check CHECK (booking_status BETWEEN 1 AND 3);
@@ -0,0 +1,12 @@
+-- Progress of the scheduled status transition (BookingStatusTransitionService). last_journey_date
+-- is the latest journey date whose upcoming bookings have all been moved to Completed; NULL
+-- until the first run finishes.
+CREATE TABLE IF NOT EXISTS booking_status_watermark (
+    job_name          VARCHAR(64) PRIMARY KEY,
+    last_journey_date DATE,
+    updated_at        TIMESTAMP NOT NULL DEFAULT now()
+);
+
+INSERT INTO booking_status_watermark (job_name, last_journey_date)
+VALUES ('upcoming-to-completed', NULL)
+ON CONFLICT (job_name) DO NOTHING;
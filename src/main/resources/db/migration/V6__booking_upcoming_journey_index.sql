@@ -0,0 +1,8 @@
+-- Built CONCURRENTLY so existing tables stay writable; Flyway runs this migration outside a transaction.
+
+-- Upcoming bookings by journey date, for the status transition job. Only rows still upcoming
+-- are indexed, so each run reads just the trips that have not been moved to Completed yet and
+-- the index stays small no matter how much history the table holds.
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_bookings_upcoming_journey
+    ON bookings (journey_date, booking_id)
+    WHERE booking_status = 1;
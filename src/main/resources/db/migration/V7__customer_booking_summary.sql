@@ -0,0 +1,36 @@
+-- Per-customer booking summary served by /bookings/customer/{customerId}/summary. Maintained in
+-- the same transaction as every booking insert, cancellation and status transition (see
+-- CustomerSummaryWriter); total_fare covers bookings that are not cancelled, and the next
+-- journey is the earliest upcoming booking from today on.
+CREATE TABLE IF NOT EXISTS customer_booking_summary (
+    customer_id       INTEGER PRIMARY KEY,
+    upcoming_count    INTEGER NOT NULL DEFAULT 0,
+    completed_count   INTEGER NOT NULL DEFAULT 0,
+    cancelled_count   INTEGER NOT NULL DEFAULT 0,
+    total_fare        DOUBLE PRECISION NOT NULL DEFAULT 0,
+    next_journey_date DATE,
+    next_booking_id   BIGINT,
+    updated_at        TIMESTAMP NOT NULL DEFAULT now()
+);
+
+INSERT INTO customer_booking_summary (customer_id, upcoming_count, completed_count, cancelled_count,
+                                      total_fare, next_journey_date, next_booking_id)
+SELECT totals.customer_id, totals.upcoming_count, totals.completed_count, totals.cancelled_count,
+       totals.total_fare, next_journey.journey_date, next_journey.booking_id
+FROM (
+    SELECT customer_id,
+           count(*) FILTER (WHERE booking_status = 1)                  AS upcoming_count,
+           count(*) FILTER (WHERE booking_status = 2)                  AS completed_count,
+           count(*) FILTER (WHERE booking_status = 3)                  AS cancelled_count,
+           COALESCE(sum(fare) FILTER (WHERE booking_status <> 3), 0)   AS total_fare
+    FROM bookings
+    GROUP BY customer_id
+) totals
+LEFT JOIN LATERAL (
+    SELECT b.journey_date, b.booking_id
+    FROM bookings b
+    WHERE b.customer_id = totals.customer_id AND b.booking_status = 1 AND b.journey_date >= CURRENT_DATE
+    ORDER BY b.journey_date, b.booking_id
+    LIMIT 1
+) next_journey ON true
+ON CONFLICT (customer_id) DO NOTHING;
@@ -0,0 +1,9 @@
+-- Built CONCURRENTLY so existing tables stay writable; Flyway runs this migration outside a transaction.
+
+-- Trip search by route (BookingSearchRepository): equality on route_id, then the keyset order
+-- of the search, so a date range on one route reads one contiguous index range per page.
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_bookings_route_journey
+    ON bookings (route_id, journey_date, booking_id);
+
+-- Searches by vehicle use idx_bookings_vehicle_journey and searches by date range alone use
+-- idx_bookings_journey_date (both V2).
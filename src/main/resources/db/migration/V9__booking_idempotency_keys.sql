@@ -0,0 +1,14 @@
+-- Idempotency-Key values seen on POST /bookings/addBooking. A key row is inserted in the same
+-- transaction as its booking, so the primary key lets exactly one request per key commit a
+-- booking across all instances; retries read booking_id back instead of booking again.
+-- request_fingerprint detects a key reused for a different booking request.
+CREATE TABLE IF NOT EXISTS booking_idempotency_keys (
+    idempotency_key     VARCHAR(128) PRIMARY KEY,
+    request_fingerprint CHAR(64)     NOT NULL,
+    booking_id          BIGINT       NOT NULL,
+    created_at          TIMESTAMP    NOT NULL DEFAULT now()
+);
+
+-- Retention cleanup (IdempotencyService) deletes by age
+CREATE INDEX IF NOT EXISTS idx_booking_idempotency_keys_created_at
+    ON booking_idempotency_keys (created_at);
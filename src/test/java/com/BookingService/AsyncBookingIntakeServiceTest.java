@@ -0,0 +1,185 @@
+package com.BookingService;
+
+import com.BookingService.dto.BatchBookingResult;
+import com.BookingService.dto.BookingIntakeStatus;
+import com.BookingService.entity.Booking;
+import com.BookingService.exception.IntakeQueueFullException;
+import com.BookingService.exception.ResourceNotFoundException;
+import com.BookingService.repository.BookingBatchWriter;
+import com.BookingService.repository.BookingIdAllocator;
+import com.BookingService.repository.BookingRepository;
+import com.BookingService.service.AsyncBookingIntakeService;
+import com.BookingService.service.BookingService;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+public class AsyncBookingIntakeServiceTest {
+
+    @Mock
+    private BookingService bookingService;
+
+    @Mock
+    private BookingIdAllocator bookingIdAllocator;
+
+    @Mock
+    private BookingBatchWriter bookingBatchWriter;
+
+    @Mock
+    private BookingRepository bookingRepository;
+
+    @Spy
+    private MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @InjectMocks
+    private AsyncBookingIntakeService intakeService;
+
+    private final AtomicLong ids = new AtomicLong();
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        when(bookingIdAllocator.nextId()).thenAnswer(invocation -> ids.incrementAndGet());
+        ReflectionTestUtils.setField(intakeService, "queueCapacity", 10);
+        ReflectionTestUtils.setField(intakeService, "workers", 1);
+        ReflectionTestUtils.setField(intakeService, "batchSize", 5);
+        ReflectionTestUtils.setField(intakeService, "enqueueTimeout", Duration.ofMillis(200));
+        ReflectionTestUtils.setField(intakeService, "statusTtl", Duration.ofMinutes(1));
+        ReflectionTestUtils.setField(intakeService, "shutdownTimeout", Duration.ofSeconds(5));
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        intakeService.shutdown();
+    }
+
+    @Test
+    void testSubmit_AssignsIdAndFlushesOnShutdown() throws InterruptedException {
+        // Arrange
+        when(bookingService.createBookings(anyList(), any())).thenAnswer(invocation -> {
+            List<Booking> batch = invocation.getArgument(0);
+            List<BatchBookingResult> results = new ArrayList<>();
+            for (int i = 0; i < batch.size(); i++) {
+                results.add(BatchBookingResult.created(i, batch.get(i).getBookingId()));
+            }
+            return results;
+        });
+        intakeService.start();
+
+        // Act
+        BookingIntakeStatus first = intakeService.submit(booking());
+        BookingIntakeStatus second = intakeService.submit(booking());
+        intakeService.shutdown();
+
+        // Assert
+        assertEquals(BookingIntakeStatus.QUEUED, first.getStatus());
+        assertEquals(1L, first.getBookingId());
+        assertEquals(2L, second.getBookingId());
+        assertEquals(BookingIntakeStatus.CREATED, intakeService.getStatus(1L).getStatus());
+        assertEquals(BookingIntakeStatus.CREATED, intakeService.getStatus(2L).getStatus());
+        assertThrows(IntakeQueueFullException.class, () -> intakeService.submit(booking()));
+    }
+
+    @Test
+    void testSubmit_RacingShutdownIsRejectedNotLost() throws Exception {
+        // Arrange: the submission passes its first accepting check, then stalls on id allocation
+        CountDownLatch allocating = new CountDownLatch(1);
+        CountDownLatch allocate = new CountDownLatch(1);
+        when(bookingIdAllocator.nextId()).thenAnswer(invocation -> {
+            allocating.countDown();
+            allocate.await(5, TimeUnit.SECONDS);
+            return ids.incrementAndGet();
+        });
+        intakeService.start();
+        CompletableFuture<BookingIntakeStatus> submission = CompletableFuture.supplyAsync(() -> intakeService.submit(booking()));
+        assertTrue(allocating.await(5, TimeUnit.SECONDS));
+
+        // Act: the workers stop before the submission reaches the queue
+        intakeService.shutdown();
+        allocate.countDown();
+
+        // Assert
+        ExecutionException failure = assertThrows(ExecutionException.class, () -> submission.get(5, TimeUnit.SECONDS));
+        assertTrue(failure.getCause() instanceof IntakeQueueFullException);
+        assertThrows(ResourceNotFoundException.class, () -> intakeService.getStatus(1L));
+    }
+
+    @Test
+    void testSubmit_QueueFull() throws InterruptedException {
+        // Arrange
+        ReflectionTestUtils.setField(intakeService, "queueCapacity", 1);
+        ReflectionTestUtils.setField(intakeService, "batchSize", 1);
+        CountDownLatch writing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(bookingService.createBookings(anyList(), any())).thenAnswer(invocation -> {
+            writing.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return List.of(BatchBookingResult.failed(0, "Vehicle not found"));
+        });
+        intakeService.start();
+
+        // Act
+        intakeService.submit(booking());
+        assertTrue(writing.await(5, TimeUnit.SECONDS));
+        intakeService.submit(booking());
+
+        // Assert
+        assertThrows(IntakeQueueFullException.class, () -> intakeService.submit(booking()));
+        release.countDown();
+    }
+
+    @Test
+    void testSubmit_MissingJourneyDate() {
+        // Arrange
+        intakeService.start();
+        Booking booking = booking();
+        booking.setJourneyDate(null);
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> intakeService.submit(booking));
+        verify(bookingIdAllocator, never()).nextId();
+    }
+
+    @Test
+    void testGetStatus_NotFound() {
+        // Arrange
+        intakeService.start();
+        when(bookingRepository.existsById(42L)).thenReturn(false);
+
+        // Act & Assert
+        assertThrows(ResourceNotFoundException.class, () -> intakeService.getStatus(42L));
+    }
+
+    private Booking booking() {
+        Booking booking = new Booking();
+        booking.setVehicleName("Volvo");
+        booking.setRouteId(1);
+        booking.setJourneyDate(LocalDate.now().plusDays(3));
+        booking.setNoOfPassengers(1);
+        return booking;
+    }
+}
@@ -0,0 +1,141 @@
+package com.BookingService;
+
+import com.BookingService.repository.BookingCancellationWriter;
+import com.BookingService.repository.BookingCancellationWriter.CancelledBooking;
+import com.BookingService.repository.BookingPartitionWriter;
+import com.BookingService.service.BookingArchiveService;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Archives a month against the database while a booking of another month is cancelled. The
+ * archive copy is held up by an uncommitted archive row, and the cancel must still go through.
+ */
+@SpringBootTest
+public class BookingArchiveConcurrencyTest {
+
+    private static final YearMonth ARCHIVED_MONTH = YearMonth.of(2001, 1);
+    private static final long FIRST_ARCHIVED_ID = 990_000_001L;
+    private static final long SECOND_ARCHIVED_ID = 990_000_002L;
+    private static final long UPCOMING_ID = 990_000_003L;
+    private static final int CUSTOMER_ID = 990_001;
+
+    private static final String INSERT_BOOKING_SQL = "INSERT INTO %s (booking_id, username, vehicle_no, vehicle_name, "
+            + "route_id, source, destination, booking_date, journey_date, boarding_point, drop_point, contact_no, fare, "
+            + "no_of_passengers, booking_status, customer_id, version) "
+            + "VALUES (?, 'archive-test', 'AP36AL3691', 'Vehicle1', 1, 'Source', 'Destination', ?, ?, "
+            + "'Boarding', 'Drop', '9999999999', 100, 1, ?, ?, 0)";
+
+    @Autowired
+    private BookingArchiveService bookingArchiveService;
+
+    @Autowired
+    private BookingPartitionWriter bookingPartitionWriter;
+
+    @Autowired
+    private BookingCancellationWriter bookingCancellationWriter;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private DataSource dataSource;
+
+    private Connection blocker;
+
+    @BeforeEach
+    void setUp() {
+        cleanUp();
+        bookingPartitionWriter.createPartition(ARCHIVED_MONTH);
+        LocalDate archivedJourney = ARCHIVED_MONTH.atDay(15);
+        LocalDate upcomingJourney = LocalDate.now().plusDays(30);
+        insertBooking("bookings", FIRST_ARCHIVED_ID, archivedJourney, 2);
+        insertBooking("bookings", SECOND_ARCHIVED_ID, archivedJourney, 3);
+        insertBooking("bookings", UPCOMING_ID, upcomingJourney, 1);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        if (blocker != null) {
+            blocker.rollback();
+            blocker.close();
+        }
+        cleanUp();
+    }
+
+    @Test
+    void testCancelWhileArchiveCopyIsInProgress() throws Exception {
+        // Arrange: an uncommitted archive row stalls the copy of the month part way
+        blocker = dataSource.getConnection();
+        blocker.setAutoCommit(false);
+        try (PreparedStatement statement = blocker.prepareStatement(String.format(INSERT_BOOKING_SQL, "bookings_archive"))) {
+            statement.setLong(1, FIRST_ARCHIVED_ID);
+            statement.setObject(2, ARCHIVED_MONTH.atDay(1));
+            statement.setObject(3, ARCHIVED_MONTH.atDay(15));
+            statement.setShort(4, (short) 2);
+            statement.setInt(5, CUSTOMER_ID);
+            statement.executeUpdate();
+        }
+        CompletableFuture<OptionalLong> archive =
+                CompletableFuture.supplyAsync(() -> bookingArchiveService.archiveMonth(ARCHIVED_MONTH));
+        awaitArchiveCopyWaiting();
+
+        // Act
+        Optional<CancelledBooking> cancelled = CompletableFuture
+                .supplyAsync(() -> bookingCancellationWriter.cancelIfUpcoming(UPCOMING_ID))
+                .get(10, TimeUnit.SECONDS);
+        blocker.rollback();
+        OptionalLong archived = archive.get(30, TimeUnit.SECONDS);
+
+        // Assert
+        assertTrue(cancelled.isPresent());
+        assertEquals(OptionalLong.of(2), archived);
+        assertEquals(Integer.valueOf(3), jdbcTemplate.queryForObject(
+                "SELECT booking_status FROM bookings WHERE booking_id = ?", Integer.class, UPCOMING_ID));
+        assertEquals(Integer.valueOf(2), jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM bookings_archive WHERE customer_id = ?", Integer.class, CUSTOMER_ID));
+        assertFalse(jdbcTemplate.queryForObject("SELECT to_regclass(?) IS NOT NULL", Boolean.class,
+                "bookings_p2001_01"));
+    }
+
+    private void awaitArchiveCopyWaiting() throws InterruptedException {
+        for (int attempt = 0; attempt < 100; attempt++) {
+            Integer waiting = jdbcTemplate.queryForObject("SELECT count(*) FROM pg_stat_activity "
+                    + "WHERE wait_event_type = 'Lock' AND query LIKE 'INSERT INTO bookings_archive AS a%'", Integer.class);
+            if (waiting != null && waiting > 0) {
+                return;
+            }
+            Thread.sleep(100);
+        }
+        fail("Archive copy did not reach the uncommitted archive row");
+    }
+
+    private void insertBooking(String table, long bookingId, LocalDate journeyDate, int status) {
+        jdbcTemplate.update(String.format(INSERT_BOOKING_SQL, table), bookingId, ARCHIVED_MONTH.atDay(1), journeyDate,
+                (short) status, CUSTOMER_ID);
+    }
+
+    private void cleanUp() {
+        jdbcTemplate.update("DELETE FROM booking_events WHERE customer_id = ?", CUSTOMER_ID);
+        jdbcTemplate.update("DELETE FROM bookings WHERE customer_id = ?", CUSTOMER_ID);
+        jdbcTemplate.update("DELETE FROM bookings_archive WHERE customer_id = ?", CUSTOMER_ID);
+        jdbcTemplate.execute("DROP TABLE IF EXISTS bookings_p2001_01");
+    }
+}
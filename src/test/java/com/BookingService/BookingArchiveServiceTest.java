@@ -0,0 +1,133 @@
+package com.BookingService;
+
+import com.BookingService.repository.BookingPartitionWriter;
+import com.BookingService.service.BookingArchiveService;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.OptionalLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+public class BookingArchiveServiceTest {
+
+    private static final YearMonth CURRENT = YearMonth.of(2026, 10);
+
+    @Mock
+    private BookingPartitionWriter bookingPartitionWriter;
+
+    @InjectMocks
+    private BookingArchiveService bookingArchiveService;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        ReflectionTestUtils.setField(bookingArchiveService, "meterRegistry", new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(bookingArchiveService, "retainMonths", 12);
+        ReflectionTestUtils.setField(bookingArchiveService, "monthsAhead", 2);
+        ReflectionTestUtils.setField(bookingArchiveService, "detachLockTimeout", Duration.ofSeconds(5));
+        when(bookingPartitionWriter.detachPartition(any(), any())).thenReturn(true);
+        when(bookingPartitionWriter.dropDetachedPartition(any())).thenReturn(OptionalLong.of(0));
+    }
+
+    @Test
+    void testMaintain_CreatesMissingFuturePartitions() {
+        // Arrange
+        when(bookingPartitionWriter.findPartitionMonths()).thenReturn(List.of(CURRENT));
+        when(bookingPartitionWriter.createPartition(any())).thenReturn(true);
+
+        // Act
+        bookingArchiveService.maintain(CURRENT);
+
+        // Assert
+        verify(bookingPartitionWriter, never()).createPartition(CURRENT);
+        verify(bookingPartitionWriter).createPartition(CURRENT.plusMonths(1));
+        verify(bookingPartitionWriter).createPartition(CURRENT.plusMonths(2));
+        verify(bookingPartitionWriter, never()).copyToArchive(any());
+    }
+
+    @Test
+    void testMaintain_ArchivesOldMonthsOldestFirst() {
+        // Arrange
+        YearMonth oldest = CURRENT.minusMonths(14);
+        YearMonth older = CURRENT.minusMonths(13);
+        YearMonth retained = CURRENT.minusMonths(12);
+        when(bookingPartitionWriter.findPartitionMonths())
+                .thenReturn(List.of(oldest, older, retained, CURRENT, CURRENT.plusMonths(1), CURRENT.plusMonths(2)));
+        when(bookingPartitionWriter.copyToArchive(oldest)).thenReturn(OptionalLong.of(5));
+        when(bookingPartitionWriter.copyToArchive(older)).thenReturn(OptionalLong.of(7));
+
+        // Act
+        long archived = bookingArchiveService.maintain(CURRENT);
+
+        // Assert
+        assertEquals(12, archived);
+        verify(bookingPartitionWriter, never()).copyToArchive(retained);
+        InOrder inOrder = inOrder(bookingPartitionWriter);
+        inOrder.verify(bookingPartitionWriter).copyToArchive(oldest);
+        inOrder.verify(bookingPartitionWriter).detachPartition(oldest, Duration.ofSeconds(5));
+        inOrder.verify(bookingPartitionWriter).dropDetachedPartition(oldest);
+        inOrder.verify(bookingPartitionWriter).copyToArchive(older);
+    }
+
+    @Test
+    void testMaintain_StopsAtMonthThatCannotBeArchived() {
+        // Arrange
+        YearMonth oldest = CURRENT.minusMonths(14);
+        YearMonth older = CURRENT.minusMonths(13);
+        when(bookingPartitionWriter.findPartitionMonths())
+                .thenReturn(List.of(oldest, older, CURRENT, CURRENT.plusMonths(1), CURRENT.plusMonths(2)));
+        when(bookingPartitionWriter.copyToArchive(oldest)).thenReturn(OptionalLong.empty());
+
+        // Act
+        long archived = bookingArchiveService.maintain(CURRENT);
+
+        // Assert
+        assertEquals(0, archived);
+        verify(bookingPartitionWriter, never()).copyToArchive(older);
+        verify(bookingPartitionWriter, never()).detachPartition(any(), any());
+    }
+
+    @Test
+    void testArchiveMonth_DetachLockTimeoutKeepsCopyForNextRun() {
+        // Arrange
+        YearMonth month = CURRENT.minusMonths(14);
+        when(bookingPartitionWriter.copyToArchive(month)).thenReturn(OptionalLong.of(5));
+        when(bookingPartitionWriter.detachPartition(month, Duration.ofSeconds(5)))
+                .thenThrow(new CannotAcquireLockException("lock timeout"));
+
+        // Act
+        OptionalLong archived = bookingArchiveService.archiveMonth(month);
+
+        // Assert
+        assertTrue(archived.isEmpty());
+        verify(bookingPartitionWriter, never()).dropDetachedPartition(month);
+    }
+
+    @Test
+    void testMaintain_FinishesPartitionsDetachedByEarlierRun() {
+        // Arrange
+        YearMonth detached = CURRENT.minusMonths(20);
+        when(bookingPartitionWriter.findPartitionMonths()).thenReturn(List.of(CURRENT, CURRENT.plusMonths(1), CURRENT.plusMonths(2)));
+        when(bookingPartitionWriter.findDetachedMonths()).thenReturn(List.of(detached));
+
+        // Act
+        bookingArchiveService.maintain(CURRENT);
+
+        // Assert
+        verify(bookingPartitionWriter).dropDetachedPartition(detached);
+    }
+}
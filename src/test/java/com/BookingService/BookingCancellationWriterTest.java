@@ -0,0 +1,93 @@
+package com.BookingService;
+
+import com.BookingService.repository.BookingCancellationWriter;
+import com.BookingService.repository.BookingCancellationWriter.CancelledBooking;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Cancels bookings against the database and checks that the cancelling statement gave their
+ * seats back to the trip's inventory row.
+ */
+@SpringBootTest
+public class BookingCancellationWriterTest {
+
+    private static final String VEHICLE_NO = "TEST-CANCEL-1";
+    private static final LocalDate JOURNEY_DATE = LocalDate.now().plusDays(30);
+    private static final long FIRST_ID = 990_100_001L;
+    private static final long SECOND_ID = 990_100_002L;
+    private static final int CUSTOMER_ID = 990_101;
+
+    private static final String INSERT_BOOKING_SQL = "INSERT INTO bookings (booking_id, username, vehicle_no, "
+            + "vehicle_name, route_id, source, destination, booking_date, journey_date, boarding_point, drop_point, "
+            + "contact_no, fare, no_of_passengers, booking_status, customer_id, version) "
+            + "VALUES (?, 'cancel-test', ?, 'Vehicle1', 1, 'Source', 'Destination', CURRENT_DATE, ?, "
+            + "'Boarding', 'Drop', '9999999999', 100, ?, 1, ?, 0)";
+
+    @Autowired
+    private BookingCancellationWriter bookingCancellationWriter;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        cleanUp();
+        jdbcTemplate.update(INSERT_BOOKING_SQL, FIRST_ID, VEHICLE_NO, JOURNEY_DATE, 2, CUSTOMER_ID);
+        jdbcTemplate.update(INSERT_BOOKING_SQL, SECOND_ID, VEHICLE_NO, JOURNEY_DATE, 3, CUSTOMER_ID);
+        jdbcTemplate.update("INSERT INTO seat_inventory (vehicle_no, journey_date, capacity, reserved_seats, version) "
+                + "VALUES (?, ?, 10, 5, 0)", VEHICLE_NO, JOURNEY_DATE);
+    }
+
+    @AfterEach
+    void tearDown() {
+        cleanUp();
+    }
+
+    @Test
+    void testCancelReleasesSeatsInTheSameStatement() {
+        // Act
+        Optional<CancelledBooking> cancelled = bookingCancellationWriter.cancelIfUpcoming(FIRST_ID);
+        Optional<CancelledBooking> again = bookingCancellationWriter.cancelIfUpcoming(FIRST_ID);
+
+        // Assert
+        assertTrue(cancelled.isPresent());
+        assertTrue(again.isEmpty());
+        assertEquals(Integer.valueOf(3), reservedSeats());
+        assertEquals(Long.valueOf(1), jdbcTemplate.queryForObject("SELECT version FROM seat_inventory "
+                + "WHERE vehicle_no = ? AND journey_date = ?", Long.class, VEHICLE_NO, JOURNEY_DATE));
+    }
+
+    @Test
+    void testCancelTripReleasesAllSeatsOnce() {
+        // Act
+        List<CancelledBooking> cancelled = bookingCancellationWriter.cancelTrip(VEHICLE_NO, JOURNEY_DATE);
+
+        // Assert
+        assertEquals(2, cancelled.size());
+        assertEquals(Integer.valueOf(0), reservedSeats());
+    }
+
+    private Integer reservedSeats() {
+        return jdbcTemplate.queryForObject("SELECT reserved_seats FROM seat_inventory "
+                + "WHERE vehicle_no = ? AND journey_date = ?", Integer.class, VEHICLE_NO, JOURNEY_DATE);
+    }
+
+    private void cleanUp() {
+        jdbcTemplate.update("DELETE FROM booking_events WHERE customer_id = ?", CUSTOMER_ID);
+        jdbcTemplate.update("DELETE FROM bookings WHERE customer_id = ?", CUSTOMER_ID);
+        jdbcTemplate.update("DELETE FROM customer_booking_summary WHERE customer_id = ?", CUSTOMER_ID);
+        jdbcTemplate.update("DELETE FROM seat_inventory WHERE vehicle_no = ?", VEHICLE_NO);
+    }
+}
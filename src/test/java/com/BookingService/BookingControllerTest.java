@@ -1,28 +1,43 @@
 package com.BookingService;
 
 import com.BookingService.controller.BookingController;
+import com.BookingService.dto.BatchBookingResult;
 import com.BookingService.dto.BookingDto;
+import com.BookingService.dto.BookingPage;
 import com.BookingService.dto.Route;
 import com.BookingService.dto.Vehicle;
 import com.BookingService.entity.Booking;
+import com.BookingService.entity.BookingStatus;
+import com.BookingService.exception.GlobalExceptionHandler;
 import com.BookingService.exception.ResourceNotFoundException;
-import com.BookingService.feign.RouteServiceClient;
-import com.BookingService.feign.VehicleServiceClient;
 import com.BookingService.service.BookingService;
+import com.BookingService.service.CatalogLookupService;
+import com.BookingService.service.CatalogResponseCache;
+import com.BookingService.service.CatalogResponseCache.CatalogPayload;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.springframework.http.MediaType;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import org.springframework.web.servlet.function.RequestPredicate;
 
+import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDate;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
 
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
@@ -34,10 +49,10 @@ public class BookingControllerTest {
     private BookingService bookingService;
 
     @Mock
-    private VehicleServiceClient vehicleService;
+    private CatalogLookupService catalogLookupService;
 
     @Mock
-    private RouteServiceClient routeService;
+    private CatalogResponseCache catalogResponseCache;
 
     @InjectMocks
     private BookingController bookingController;
@@ -54,7 +69,8 @@ public class BookingControllerTest {
     @Test
     void viewAllBookings_Success() throws Exception {
         BookingDto bookingDto = new BookingDto();
-        bookingDto.setBookingId("1");
+        bookingDto.setBookingId(1L);
+        bookingDto.setBookingStatus(BookingStatus.UPCOMING);
 
         List<BookingDto> bookingDtos = Collections.singletonList(bookingDto);
 
@@ -62,7 +78,147 @@ public class BookingControllerTest {
 
         mockMvc.perform(get("/bookings/viewAllBookings"))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$[0].bookingId").value("1"));
+                .andExpect(jsonPath("$[0].bookingId").value("1"))
+                .andExpect(jsonPath("$[0].bookingStatus").value("Upcoming"));
+    }
+
+    @Test
+    void viewBookingsPage_Success() throws Exception {
+        BookingDto bookingDto = new BookingDto();
+        bookingDto.setBookingId(11L);
+
+        when(bookingService.viewBookingsPage(10L, 1))
+                .thenReturn(new BookingPage(Collections.singletonList(bookingDto), 11L));
+
+        mockMvc.perform(get("/bookings/viewAllBookings/page").param("cursor", "10").param("size", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.bookings[0].bookingId").value("11"))
+                .andExpect(jsonPath("$.nextCursor").value(11));
+    }
+
+    @Test
+    void createBookings_ReturnsPerItemResults() throws Exception {
+        when(bookingService.createBookings(anyList())).thenReturn(Arrays.asList(
+                BatchBookingResult.created(0, 101L),
+                BatchBookingResult.failed(1, "Vehicle not found for name :: Unknown")));
+
+        mockMvc.perform(post("/bookings/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[{\"vehicleName\":\"Vehicle1\",\"routeId\":1},{\"vehicleName\":\"Unknown\",\"routeId\":1}]"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].status").value("CREATED"))
+                .andExpect(jsonPath("$[0].bookingId").value(101))
+                .andExpect(jsonPath("$[1].status").value("FAILED"));
+    }
+
+    @Test
+    void createBooking_NonPositivePassengersIsBadRequest() throws Exception {
+        GlobalExceptionHandler exceptionHandler = new GlobalExceptionHandler();
+        ReflectionTestUtils.setField(exceptionHandler, "meterRegistry", new SimpleMeterRegistry());
+        MockMvc mockMvcWithAdvice = MockMvcBuilders.standaloneSetup(bookingController)
+                .setControllerAdvice(exceptionHandler)
+                .build();
+        when(bookingService.createBooking(any(Booking.class)))
+                .thenThrow(new IllegalArgumentException("Number of passengers must be at least 1"));
+
+        mockMvcWithAdvice.perform(post("/bookings/addBooking")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"vehicleName\":\"Vehicle1\",\"routeId\":1,\"noOfPassengers\":0}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Number of passengers must be at least 1"));
+    }
+
+    @Test
+    void getBookingById_ReturnsETag() throws Exception {
+        Booking booking = new Booking();
+        booking.setBookingId(5L);
+        booking.setVersion(3L);
+        when(bookingService.getBookingById(5L)).thenReturn(booking);
+
+        mockMvc.perform(get("/bookings/viewBooking/{bookingId}", 5L))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"5-3\""))
+                .andExpect(jsonPath("$.bookingId").value(5));
+    }
+
+    @Test
+    void getBookingById_KnownVersionNotModified() throws Exception {
+        when(bookingService.findKnownVersion(5L)).thenReturn(3L);
+
+        mockMvc.perform(get("/bookings/viewBooking/{bookingId}", 5L).header("If-None-Match", "\"5-3\""))
+                .andExpect(status().isNotModified());
+
+        verify(bookingService, never()).getBookingById(5L);
+    }
+
+    @Test
+    void getAllVehicles_ServesPrecomputedGzip() throws Exception {
+        CatalogPayload payload = new CatalogPayload("\"vehicles-2\"", "\"vehicles-2-gzip\"",
+                Instant.parse("2024-01-01T00:00:00Z"), "[]".getBytes(), new byte[] { 31, -117 });
+        when(catalogResponseCache.vehicles()).thenReturn(Optional.of(payload));
+
+        mockMvc.perform(get("/bookings/ViewAllVehicles").header("Accept-Encoding", "gzip, deflate"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Encoding", "gzip"))
+                .andExpect(header().string("ETag", "\"vehicles-2-gzip\""))
+                .andExpect(content().bytes(new byte[] { 31, -117 }));
+
+        mockMvc.perform(get("/bookings/ViewAllVehicles").header("If-None-Match", "\"vehicles-2\""))
+                .andExpect(status().isNotModified());
+
+        verify(bookingService, never()).getAllVehicles();
+    }
+
+    @Test
+    void getAllVehicles_HonoursAcceptEncodingQualityValues() throws Exception {
+        CatalogPayload payload = new CatalogPayload("\"vehicles-2\"", "\"vehicles-2-gzip\"",
+                Instant.parse("2024-01-01T00:00:00Z"), "[]".getBytes(), new byte[] { 31, -117 });
+        when(catalogResponseCache.vehicles()).thenReturn(Optional.of(payload));
+
+        mockMvc.perform(get("/bookings/ViewAllVehicles").header("Accept-Encoding", "gzip;q=0, deflate"))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist("Content-Encoding"))
+                .andExpect(header().string("ETag", "\"vehicles-2\""))
+                .andExpect(content().bytes("[]".getBytes()));
+
+        mockMvc.perform(get("/bookings/ViewAllVehicles").header("Accept-Encoding", "br, *;q=0.5"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Encoding", "gzip"));
+
+        mockMvc.perform(get("/bookings/ViewAllVehicles").header("Accept-Encoding", "*, gzip;q=0.0"))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist("Content-Encoding"));
+    }
+
+    @Test
+    void streamAllBookings_WritesNdjsonOnExportPool() throws Exception {
+        ThreadPoolTaskExecutor exportPool = new ThreadPoolTaskExecutor();
+        exportPool.setThreadNamePrefix("export-test-");
+        exportPool.initialize();
+        ReflectionTestUtils.setField(bookingController, "bookingStreamExecutor", exportPool);
+        ReflectionTestUtils.setField(bookingController, "streamingTimeout", Duration.ofSeconds(5));
+        ReflectionTestUtils.setField(bookingController, "objectMapper", objectMapper);
+        AtomicReference<String> exportThread = new AtomicReference<>();
+        doAnswer(invocation -> {
+            exportThread.set(Thread.currentThread().getName());
+            Consumer<BookingDto> consumer = invocation.getArgument(0);
+            BookingDto booking = new BookingDto();
+            booking.setBookingId(7L);
+            consumer.accept(booking);
+            return null;
+        }).when(bookingService).streamAllBookings(any());
+
+        MvcResult result = mockMvc.perform(get("/bookings/viewAllBookings/stream"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/x-ndjson"))
+                .andExpect(content().string(org.hamcrest.Matchers.startsWith("{\"bookingId\":\"7\",")))
+                .andExpect(content().string(org.hamcrest.Matchers.endsWith("}\n")));
+
+        org.junit.jupiter.api.Assertions.assertTrue(exportThread.get().startsWith("export-test-"));
+        exportPool.shutdown();
     }
 
     @Test
@@ -74,6 +230,15 @@ public class BookingControllerTest {
                 .andExpect(content().string("Booking cancelled successfully"));
     }
 
+    @Test
+    void evictCachedVehicle_Success() throws Exception {
+        mockMvc.perform(delete("/bookings/cache/vehicles/{vehicleName}", "Vehicle1"))
+                .andExpect(status().isOk())
+                .andExpect(content().string("Vehicle cache entry evicted"));
+
+        verify(catalogLookupService, times(1)).evictVehicle("Vehicle1");
+    }
+
   
 
 
@@ -0,0 +1,77 @@
+package com.BookingService;
+
+import com.BookingService.dto.BookingEvent;
+import com.BookingService.dto.BookingEventPage;
+import com.BookingService.dto.BookingEventType;
+import com.BookingService.exception.BookingEventsExpiredException;
+import com.BookingService.repository.BookingEventWriter;
+import com.BookingService.service.BookingEventService;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+public class BookingEventServiceTest {
+
+    @Mock
+    private BookingEventWriter bookingEventWriter;
+
+    @InjectMocks
+    private BookingEventService bookingEventService;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+    }
+
+    @Test
+    void testGetEvents_ContinuesAfterCursor() {
+        // Arrange
+        when(bookingEventWriter.findPublishedAfter(10L, 2)).thenReturn(List.of(event(11), event(12)));
+
+        // Act
+        BookingEventPage page = bookingEventService.getEvents(10L, 2);
+
+        // Assert
+        assertEquals(2, page.getEvents().size());
+        assertEquals(12L, page.getNextCursor());
+    }
+
+    @Test
+    void testGetEvents_NoNewEventsKeepsCursor() {
+        // Arrange
+        when(bookingEventWriter.findPublishedAfter(12L, 100)).thenReturn(List.of());
+
+        // Act
+        BookingEventPage page = bookingEventService.getEvents(12L, 100);
+
+        // Assert
+        assertTrue(page.getEvents().isEmpty());
+        assertEquals(12L, page.getNextCursor());
+    }
+
+    @Test
+    void testGetEvents_CursorBeforeRetainedEventsIsRejected() {
+        // Arrange
+        when(bookingEventWriter.findPublishedAfter(10L, 100)).thenReturn(List.of(event(50)));
+        when(bookingEventWriter.findPublishedAfter(0L, 100)).thenReturn(List.of(event(50)));
+
+        // Act & Assert
+        assertThrows(BookingEventsExpiredException.class, () -> bookingEventService.getEvents(10L, 100));
+        assertEquals(50L, bookingEventService.getEvents(null, 100).getNextCursor());
+    }
+
+    private static BookingEvent event(long position) {
+        return new BookingEvent(position, position + 100, BookingEventType.CANCELLED, position + 1000, 7,
+                "AP36AL3691", LocalDate.now().plusDays(1), 2, 500.0, 1L, LocalDateTime.now());
+    }
+}
@@ -0,0 +1,63 @@
+package com.BookingService;
+
+import com.BookingService.entity.Booking;
+import com.BookingService.entity.BookingStatus;
+import com.BookingService.metrics.BookingMetricsAspect;
+import com.BookingService.service.BookingService;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+public class BookingMetricsAspectTest {
+
+    @Mock
+    private BookingService target;
+
+    private SimpleMeterRegistry meterRegistry;
+    private BookingService bookingService;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        meterRegistry = new SimpleMeterRegistry();
+        BookingMetricsAspect aspect = new BookingMetricsAspect();
+        ReflectionTestUtils.setField(aspect, "meterRegistry", meterRegistry);
+
+        AspectJProxyFactory factory = new AspectJProxyFactory(target);
+        factory.setProxyTargetClass(true);
+        factory.addAspect(aspect);
+        bookingService = factory.getProxy();
+    }
+
+    @Test
+    void createBooking_TimedAndCountedByStatus() {
+        Booking booking = new Booking();
+        booking.setBookingStatus(BookingStatus.UPCOMING);
+        when(target.createBooking(booking)).thenReturn(booking);
+
+        bookingService.createBooking(booking);
+
+        assertEquals(1, meterRegistry.get("booking.service").tag("method", "createBooking").timer().count());
+        assertEquals(1.0, meterRegistry.get("booking.created").tag("status", "Upcoming").counter().count());
+    }
+
+    @Test
+    void failedCall_TaggedWithException() {
+        doThrow(new IllegalStateException("boom")).when(target).cancelBooking(1L);
+
+        assertThrows(IllegalStateException.class, () -> bookingService.cancelBooking(1L));
+
+        assertEquals(1, meterRegistry.get("booking.service")
+                .tag("method", "cancelBooking").tag("exception", "IllegalStateException").timer().count());
+        assertNull(meterRegistry.find("booking.cancelled").counter());
+    }
+}
@@ -0,0 +1,106 @@
+package com.BookingService;
+
+import com.BookingService.dto.BookingEvent;
+import com.BookingService.dto.BookingEventType;
+import com.BookingService.outbox.BookingEventSink;
+import com.BookingService.outbox.BookingOutboxPublisher;
+import com.BookingService.repository.BookingEventWriter;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+public class BookingOutboxPublisherTest {
+
+    @Mock
+    private BookingEventWriter bookingEventWriter;
+
+    @Mock
+    private BookingEventSink bookingEventSink;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @InjectMocks
+    private BookingOutboxPublisher bookingOutboxPublisher;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        meterRegistry = new SimpleMeterRegistry();
+        ReflectionTestUtils.setField(bookingOutboxPublisher, "meterRegistry", meterRegistry);
+        ReflectionTestUtils.setField(bookingOutboxPublisher, "batchSize", 2);
+        ReflectionTestUtils.setField(bookingOutboxPublisher, "maxBatchesPerRun", 5);
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+    }
+
+    @Test
+    void testPublishPending_SendsBatchesInOrderUntilOutboxIsDrained() {
+        // Arrange
+        List<BookingEvent> first = List.of(event(1), event(2));
+        List<BookingEvent> second = List.of(event(3));
+        when(bookingEventWriter.publishNext(2)).thenReturn(first, second);
+
+        // Act
+        int published = bookingOutboxPublisher.publishPending();
+
+        // Assert
+        assertEquals(3, published);
+        InOrder inOrder = inOrder(bookingEventSink);
+        inOrder.verify(bookingEventSink).publish(first);
+        inOrder.verify(bookingEventSink).publish(second);
+        verify(bookingEventWriter, times(2)).publishNext(2);
+        assertEquals(3, meterRegistry.counter("booking.outbox.published").count());
+    }
+
+    @Test
+    void testPublishPending_EmptyOutboxSkipsSink() {
+        // Arrange
+        when(bookingEventWriter.publishNext(2)).thenReturn(List.of());
+
+        // Act
+        int published = bookingOutboxPublisher.publishPending();
+
+        // Assert
+        assertEquals(0, published);
+        verify(bookingEventSink, never()).publish(any());
+    }
+
+    @Test
+    void testRun_SinkFailureLeavesBatchForNextRun() {
+        // Arrange
+        when(bookingEventWriter.publishNext(2)).thenReturn(List.of(event(1), event(2)));
+        doThrow(new IllegalStateException("sink down")).when(bookingEventSink).publish(any());
+
+        // Act
+        bookingOutboxPublisher.run();
+
+        // Assert
+        verify(bookingEventWriter, times(1)).publishNext(2);
+        assertEquals(1, meterRegistry.counter("booking.outbox.failures").count());
+        assertEquals(0, meterRegistry.counter("booking.outbox.published").count());
+    }
+
+    private static BookingEvent event(long position) {
+        return new BookingEvent(position, position + 100, BookingEventType.CREATED, position + 1000, 7,
+                "AP36AL3691", LocalDate.now().plusDays(1), 2, 500.0, 0L, LocalDateTime.now());
+    }
+}
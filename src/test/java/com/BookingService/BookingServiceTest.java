@@ -1,25 +1,70 @@
 package com.BookingService;
 
+import com.BookingService.config.ExecutorConfig;
+import com.BookingService.dto.BatchBookingResult;
 import com.BookingService.dto.BookingDto;
+import com.BookingService.dto.BookingPage;
+import com.BookingService.dto.BookingSearchCriteria;
+import com.BookingService.dto.BookingSearchPage;
+import com.BookingService.dto.BookingSummaryView;
+import com.BookingService.dto.CatalogSnapshot;
 import com.BookingService.dto.Route;
+import com.BookingService.dto.TripCancellationResult;
 import com.BookingService.dto.Vehicle;
 import com.BookingService.entity.Booking;
+import com.BookingService.entity.BookingStatus;
+import com.BookingService.exception.BookingNotCancellableException;
 import com.BookingService.exception.ResourceNotFoundException;
-import com.BookingService.feign.RouteServiceClient;
-import com.BookingService.feign.VehicleServiceClient;
+import com.BookingService.exception.SeatsUnavailableException;
+import com.BookingService.fare.FareEngine;
+import com.BookingService.mapper.BookingMapper;
+import com.BookingService.mapper.BookingMapperImpl;
+import com.BookingService.repository.BookingArchiveRepository;
+import com.BookingService.repository.BookingCancellationWriter;
+import com.BookingService.repository.BookingCancellationWriter.CancelledBooking;
+import com.BookingService.repository.BookingEventWriter;
 import com.BookingService.repository.BookingRepository;
+import com.BookingService.repository.BookingSearchRepository;
+import com.BookingService.repository.IdempotencyKeyWriter;
 import com.BookingService.service.BookingService;
+import com.BookingService.service.BookingVersionIndex;
+import com.BookingService.service.CatalogLookupService;
+import com.BookingService.service.CatalogSnapshotService;
+import com.BookingService.service.CustomerSummaryService;
+import com.BookingService.service.SeatInventoryService;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
-
+import org.mockito.Spy;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import javax.persistence.EntityManager;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -30,10 +75,46 @@ public class BookingServiceTest {
     private BookingRepository bookingRepository;
 
     @Mock
-    private VehicleServiceClient vehicleService;
+    private CatalogLookupService catalogLookupService;
+
+    @Mock
+    private CatalogSnapshotService catalogSnapshotService;
+
+    @Mock
+    private SeatInventoryService seatInventoryService;
+
+    @Mock
+    private BookingVersionIndex bookingVersionIndex;
+
+    @Mock
+    private BookingCancellationWriter bookingCancellationWriter;
+
+    @Mock
+    private BookingSearchRepository bookingSearchRepository;
+
+    @Mock
+    private BookingArchiveRepository bookingArchiveRepository;
+
+    @Mock
+    private CustomerSummaryService customerSummaryService;
+
+    @Mock
+    private IdempotencyKeyWriter idempotencyKeyWriter;
+
+    @Mock
+    private BookingEventWriter bookingEventWriter;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
 
     @Mock
-    private RouteServiceClient routeService;
+    private FareEngine fareEngine;
+
+    @Spy
+    private BookingMapper bookingMapper = new BookingMapperImpl();
+
+    @Mock
+    private EntityManager entityManager;
 
     @InjectMocks
     private BookingService bookingService;
@@ -41,6 +122,11 @@ public class BookingServiceTest {
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
+        ReflectionTestUtils.setField(bookingService, "catalogLookupExecutor", (Executor) Runnable::run);
+        ReflectionTestUtils.setField(bookingService, "lookupTimeout", Duration.ofSeconds(2));
+        ReflectionTestUtils.setField(bookingService, "maxBatchSize", 500);
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
     }
 
     @Test
@@ -59,8 +145,8 @@ public class BookingServiceTest {
         route.setSource("Source");
         route.setDestination("Destination");
 
-        when(vehicleService.getVehicleByName("Vehicle1")).thenReturn(vehicle);
-        when(routeService.getRouteById(1)).thenReturn(route);
+        when(catalogLookupService.findVehicleByName("Vehicle1")).thenReturn(Optional.of(vehicle));
+        when(catalogLookupService.findRouteById(1)).thenReturn(Optional.of(route));
         when(bookingRepository.save(booking)).thenReturn(booking);
 
         // Act
@@ -72,6 +158,77 @@ public class BookingServiceTest {
         assertEquals("Source", result.getSource());
         assertEquals("Destination", result.getDestination());
         verify(bookingRepository, times(1)).save(booking);
+        verify(customerSummaryService, times(1)).recordCreated(List.of(booking));
+        verify(bookingEventWriter, times(1)).recordCreated(List.of(booking));
+    }
+
+    @Test
+    void createBooking_FareComputedServerSide() {
+        // Arrange
+        LocalDate journeyDate = LocalDate.now().plusDays(4);
+        Booking booking = new Booking();
+        booking.setVehicleName("Vehicle1");
+        booking.setRouteId(1);
+        booking.setJourneyDate(journeyDate);
+        booking.setNoOfPassengers(2);
+        booking.setFare(1.0);
+
+        Vehicle vehicle = new Vehicle(1L, "AP36AL3691", "Vehicle1", 40, "Sleeper", 2.5);
+        Route route = new Route(1, "Source", "Destination", 346.0f, 6.5f);
+
+        when(catalogLookupService.findVehicleByName("Vehicle1")).thenReturn(Optional.of(vehicle));
+        when(catalogLookupService.findRouteById(1)).thenReturn(Optional.of(route));
+        when(fareEngine.computeFare(vehicle, route, journeyDate, 2)).thenReturn(1730.0);
+        when(bookingRepository.save(booking)).thenReturn(booking);
+
+        // Act
+        Booking result = bookingService.createBooking(booking);
+
+        // Assert
+        assertEquals(1730.0, result.getFare());
+    }
+
+    @Test
+    void createBooking_ResolvedFromCatalogSnapshot() {
+        // Arrange
+        Booking booking = new Booking();
+        booking.setVehicleName("Vehicle1");
+        booking.setRouteId(1);
+        booking.setJourneyDate(LocalDate.now().plusDays(1));
+
+        Vehicle vehicle = new Vehicle();
+        vehicle.setVehicleNo("AP36AL3691");
+        vehicle.setVehicleName("Vehicle1");
+
+        Route route = new Route();
+        route.setSource("Source");
+        route.setDestination("Destination");
+
+        when(catalogSnapshotService.findVehicle("Vehicle1")).thenReturn(Optional.of(vehicle));
+        when(catalogSnapshotService.findRoute(1)).thenReturn(Optional.of(route));
+        when(bookingRepository.save(booking)).thenReturn(booking);
+
+        // Act
+        Booking result = bookingService.createBooking(booking);
+
+        // Assert
+        assertEquals("AP36AL3691", result.getVehicleNo());
+        assertEquals("Source", result.getSource());
+        verifyNoInteractions(catalogLookupService);
+    }
+
+    @Test
+    void getAllRoutes_EmptyCatalog() {
+        // Arrange
+        when(catalogSnapshotService.getSnapshot())
+                .thenReturn(new CatalogSnapshot(1, Instant.now(), List.of(), List.of()));
+
+        // Act
+        List<Route> routes = bookingService.getAllRoutes();
+
+        // Assert
+        assertTrue(routes.isEmpty());
+        verifyNoInteractions(catalogLookupService);
     }
 
     @Test
@@ -82,7 +239,7 @@ public class BookingServiceTest {
         booking.setRouteId(1);
         booking.setJourneyDate(LocalDate.now().plusDays(1));
 
-        when(vehicleService.getVehicleByName("UnknownVehicle")).thenReturn(null);
+        when(catalogLookupService.findVehicleByName("UnknownVehicle")).thenReturn(Optional.empty());
 
         // Act & Assert
         ResourceNotFoundException exception = assertThrows(ResourceNotFoundException.class, () -> {
@@ -93,6 +250,332 @@ public class BookingServiceTest {
         verify(bookingRepository, never()).save(any());
     }
 
+    @Test
+    void createBooking_RouteNotFound() {
+        // Arrange
+        Booking booking = new Booking();
+        booking.setVehicleName("Vehicle1");
+        booking.setRouteId(99);
+        booking.setJourneyDate(LocalDate.now().plusDays(1));
+
+        Vehicle vehicle = new Vehicle();
+        vehicle.setVehicleNo("AP36AL3691");
+        vehicle.setVehicleName("Vehicle1");
+
+        when(catalogLookupService.findVehicleByName("Vehicle1")).thenReturn(Optional.of(vehicle));
+        when(catalogLookupService.findRouteById(99)).thenReturn(Optional.empty());
+
+        // Act & Assert
+        ResourceNotFoundException exception = assertThrows(ResourceNotFoundException.class, () -> {
+            bookingService.createBooking(booking);
+        });
+
+        assertEquals("Route not found for id :: 99", exception.getMessage());
+        verify(bookingRepository, never()).save(any());
+    }
+
+    @Test
+    void createBooking_SoldOutTripIsNotSaved() {
+        // Arrange
+        Booking booking = new Booking();
+        booking.setVehicleName("Vehicle1");
+        booking.setRouteId(1);
+        booking.setNoOfPassengers(3);
+        booking.setJourneyDate(LocalDate.now().plusDays(1));
+
+        Vehicle vehicle = new Vehicle();
+        vehicle.setVehicleNo("AP36AL3691");
+        vehicle.setVehicleName("Vehicle1");
+        vehicle.setSeatingCapacity(40);
+
+        when(catalogLookupService.findVehicleByName("Vehicle1")).thenReturn(Optional.of(vehicle));
+        when(catalogLookupService.findRouteById(1)).thenReturn(Optional.of(new Route()));
+        doThrow(new SeatsUnavailableException("Only 2 seats left"))
+                .when(seatInventoryService).reserve("AP36AL3691", booking.getJourneyDate(), 40, 3);
+
+        // Act & Assert
+        assertThrows(SeatsUnavailableException.class, () -> bookingService.createBooking(booking));
+        verify(bookingRepository, never()).save(any());
+    }
+
+    @Test
+    void createBooking_ReleasesSeatsWhenSaveFails() {
+        // Arrange
+        Booking booking = new Booking();
+        booking.setVehicleName("Vehicle1");
+        booking.setRouteId(1);
+        booking.setNoOfPassengers(2);
+        booking.setJourneyDate(LocalDate.now().plusDays(1));
+
+        Vehicle vehicle = new Vehicle();
+        vehicle.setVehicleNo("AP36AL3691");
+        vehicle.setVehicleName("Vehicle1");
+        vehicle.setSeatingCapacity(40);
+
+        when(catalogLookupService.findVehicleByName("Vehicle1")).thenReturn(Optional.of(vehicle));
+        when(catalogLookupService.findRouteById(1)).thenReturn(Optional.of(new Route()));
+        when(bookingRepository.save(booking)).thenThrow(new IllegalStateException("database unavailable"));
+
+        // Act & Assert
+        assertThrows(IllegalStateException.class, () -> bookingService.createBooking(booking));
+        verify(seatInventoryService).reserve("AP36AL3691", booking.getJourneyDate(), 40, 2);
+        verify(seatInventoryService).release("AP36AL3691", booking.getJourneyDate(), 2);
+    }
+
+    @Test
+    void createBooking_DuplicateIdempotencyKeyRollsBackAndReleasesSeats() {
+        // Arrange
+        Booking booking = new Booking();
+        booking.setBookingId(42L);
+        booking.setVehicleName("Vehicle1");
+        booking.setRouteId(1);
+        booking.setNoOfPassengers(2);
+        booking.setJourneyDate(LocalDate.now().plusDays(1));
+
+        Vehicle vehicle = new Vehicle();
+        vehicle.setVehicleNo("AP36AL3691");
+        vehicle.setVehicleName("Vehicle1");
+        vehicle.setSeatingCapacity(40);
+
+        when(catalogLookupService.findVehicleByName("Vehicle1")).thenReturn(Optional.of(vehicle));
+        when(catalogLookupService.findRouteById(1)).thenReturn(Optional.of(new Route()));
+        when(bookingRepository.save(booking)).thenReturn(booking);
+        doThrow(new DuplicateKeyException("duplicate key"))
+                .when(idempotencyKeyWriter).record("key-1", "fingerprint", 42L);
+
+        // Act & Assert
+        assertThrows(DuplicateKeyException.class, () -> bookingService.createIdempotentBooking(booking, "key-1", "fingerprint"));
+        verify(seatInventoryService).release("AP36AL3691", booking.getJourneyDate(), 2);
+    }
+
+    @Test
+    void createBooking_RouteLookupTimesOut() {
+        // Arrange
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        ReflectionTestUtils.setField(bookingService, "catalogLookupExecutor", executor);
+        ReflectionTestUtils.setField(bookingService, "lookupTimeout", Duration.ofMillis(50));
+
+        Booking booking = new Booking();
+        booking.setVehicleName("Vehicle1");
+        booking.setRouteId(1);
+        booking.setJourneyDate(LocalDate.now().plusDays(1));
+
+        Vehicle vehicle = new Vehicle();
+        vehicle.setVehicleNo("AP36AL3691");
+        vehicle.setVehicleName("Vehicle1");
+
+        when(catalogLookupService.findVehicleByName("Vehicle1")).thenReturn(Optional.of(vehicle));
+        when(catalogLookupService.findRouteById(1)).thenAnswer(invocation -> {
+            Thread.sleep(500);
+            return Optional.of(new Route());
+        });
+
+        // Act & Assert
+        try {
+            IllegalStateException exception = assertThrows(IllegalStateException.class, () -> {
+                bookingService.createBooking(booking);
+            });
+            assertEquals("Route lookup timed out for id :: 1", exception.getMessage());
+            verify(bookingRepository, never()).save(any());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void createBooking_VehicleAndRouteLookupsRunConcurrently() {
+        // Arrange: each lookup waits until the other one has started
+        ThreadPoolTaskExecutor executor = catalogLookupExecutor(2, 10);
+        ReflectionTestUtils.setField(bookingService, "catalogLookupExecutor", executor);
+        CountDownLatch bothStarted = new CountDownLatch(2);
+
+        Booking booking = new Booking();
+        booking.setVehicleName("Vehicle1");
+        booking.setRouteId(1);
+        booking.setJourneyDate(LocalDate.now().plusDays(1));
+
+        Vehicle vehicle = new Vehicle();
+        vehicle.setVehicleNo("AP36AL3691");
+        vehicle.setVehicleName("Vehicle1");
+
+        when(catalogLookupService.findVehicleByName("Vehicle1")).thenAnswer(invocation -> {
+            bothStarted.countDown();
+            assertTrue(bothStarted.await(1, TimeUnit.SECONDS), "route lookup did not start alongside");
+            return Optional.of(vehicle);
+        });
+        when(catalogLookupService.findRouteById(1)).thenAnswer(invocation -> {
+            bothStarted.countDown();
+            assertTrue(bothStarted.await(1, TimeUnit.SECONDS), "vehicle lookup did not start alongside");
+            return Optional.of(new Route());
+        });
+        when(bookingRepository.save(booking)).thenReturn(booking);
+
+        // Act & Assert
+        try {
+            assertSame(booking, bookingService.createBooking(booking));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void createBooking_LookupQueuedBehindBusyPoolTimesOut() throws Exception {
+        // Arrange: the only lookup thread is busy, so both lookups wait in the queue
+        ThreadPoolTaskExecutor executor = catalogLookupExecutor(1, 10);
+        ReflectionTestUtils.setField(bookingService, "catalogLookupExecutor", executor);
+        ReflectionTestUtils.setField(bookingService, "lookupTimeout", Duration.ofMillis(100));
+        CountDownLatch release = new CountDownLatch(1);
+        executor.execute(() -> awaitQuietly(release));
+
+        Booking booking = new Booking();
+        booking.setVehicleName("Vehicle1");
+        booking.setRouteId(1);
+        booking.setJourneyDate(LocalDate.now().plusDays(1));
+
+        // Act & Assert
+        try {
+            IllegalStateException exception = assertThrows(IllegalStateException.class,
+                    () -> bookingService.createBooking(booking));
+            assertEquals("Vehicle lookup timed out for name :: Vehicle1", exception.getMessage());
+            verifyNoInteractions(catalogLookupService);
+        } finally {
+            release.countDown();
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void createBooking_FullLookupPoolRejectsInsteadOfRunningInline() {
+        // Arrange: the lookup thread is busy and the queue is full
+        ThreadPoolTaskExecutor executor = catalogLookupExecutor(1, 1);
+        ReflectionTestUtils.setField(bookingService, "catalogLookupExecutor", executor);
+        CountDownLatch release = new CountDownLatch(1);
+        executor.execute(() -> awaitQuietly(release));
+        executor.execute(() -> awaitQuietly(release));
+
+        Booking booking = new Booking();
+        booking.setVehicleName("Vehicle1");
+        booking.setRouteId(1);
+        booking.setJourneyDate(LocalDate.now().plusDays(1));
+
+        // Act & Assert
+        try {
+            assertThrows(RejectedExecutionException.class, () -> bookingService.createBooking(booking));
+            verifyNoInteractions(catalogLookupService, seatInventoryService);
+            verify(bookingRepository, never()).save(any());
+        } finally {
+            release.countDown();
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void createBookings_DeduplicatesLookupsAndReportsEachItem() {
+        // Arrange
+        Booking first = new Booking();
+        first.setVehicleName("Vehicle1");
+        first.setRouteId(1);
+        first.setJourneyDate(LocalDate.now().plusDays(1));
+        Booking second = new Booking();
+        second.setVehicleName("Vehicle1");
+        second.setRouteId(1);
+        second.setJourneyDate(LocalDate.now().plusDays(2));
+        Booking unknownRoute = new Booking();
+        unknownRoute.setVehicleName("Vehicle1");
+        unknownRoute.setRouteId(99);
+        unknownRoute.setJourneyDate(LocalDate.now().plusDays(1));
+
+        Vehicle vehicle = new Vehicle();
+        vehicle.setVehicleNo("AP36AL3691");
+        vehicle.setVehicleName("Vehicle1");
+        Route route = new Route();
+        route.setSource("Source");
+        route.setDestination("Destination");
+
+        when(catalogLookupService.findVehicleByName("Vehicle1")).thenReturn(Optional.of(vehicle));
+        when(catalogLookupService.findRouteById(1)).thenReturn(Optional.of(route));
+        when(catalogLookupService.findRouteById(99)).thenReturn(Optional.empty());
+        when(bookingRepository.saveAll(Arrays.asList(first, second))).thenAnswer(invocation -> {
+            first.setBookingId(101L);
+            second.setBookingId(102L);
+            return Arrays.asList(first, second);
+        });
+
+        // Act
+        List<BatchBookingResult> results = bookingService.createBookings(Arrays.asList(first, second, unknownRoute));
+
+        // Assert
+        assertEquals(3, results.size());
+        assertEquals(BatchBookingResult.CREATED, results.get(0).getStatus());
+        assertEquals(101L, results.get(0).getBookingId());
+        assertEquals(102L, results.get(1).getBookingId());
+        assertEquals(BatchBookingResult.FAILED, results.get(2).getStatus());
+        assertEquals("Route not found for id :: 99", results.get(2).getMessage());
+        verify(catalogLookupService, times(1)).findVehicleByName("Vehicle1");
+        verify(bookingRepository, times(1)).saveAll(any());
+        verify(bookingEventWriter, times(1)).recordCreated(Arrays.asList(first, second));
+    }
+
+    @Test
+    void createBooking_RejectsZeroPassengers() {
+        assertRejectsPassengerCount(0);
+    }
+
+    @Test
+    void createBooking_RejectsNegativePassengers() {
+        assertRejectsPassengerCount(-1);
+    }
+
+    @Test
+    void createBookings_ReportsNonPositivePassengersPerItem() {
+        // Arrange
+        Booking valid = new Booking();
+        valid.setVehicleName("Vehicle1");
+        valid.setRouteId(1);
+        valid.setJourneyDate(LocalDate.now().plusDays(1));
+        valid.setNoOfPassengers(2);
+        Booking none = new Booking();
+        none.setVehicleName("Vehicle1");
+        none.setRouteId(1);
+        none.setJourneyDate(LocalDate.now().plusDays(1));
+        none.setNoOfPassengers(0);
+        Booking negative = new Booking();
+        negative.setVehicleName("Vehicle1");
+        negative.setRouteId(1);
+        negative.setJourneyDate(LocalDate.now().plusDays(1));
+        negative.setNoOfPassengers(-1);
+
+        Vehicle vehicle = new Vehicle();
+        vehicle.setVehicleNo("AP36AL3691");
+        vehicle.setVehicleName("Vehicle1");
+        vehicle.setSeatingCapacity(40);
+        when(catalogLookupService.findVehicleByName("Vehicle1")).thenReturn(Optional.of(vehicle));
+        when(catalogLookupService.findRouteById(1)).thenReturn(Optional.of(new Route()));
+        when(bookingRepository.saveAll(List.of(valid))).thenReturn(List.of(valid));
+
+        // Act
+        List<BatchBookingResult> results = bookingService.createBookings(Arrays.asList(valid, none, negative));
+
+        // Assert
+        assertEquals(BatchBookingResult.CREATED, results.get(0).getStatus());
+        assertEquals(BatchBookingResult.FAILED, results.get(1).getStatus());
+        assertEquals("Number of passengers must be at least 1", results.get(1).getMessage());
+        assertEquals(BatchBookingResult.FAILED, results.get(2).getStatus());
+        verify(seatInventoryService, times(1)).reserve("AP36AL3691", valid.getJourneyDate(), 40, 2);
+        verify(seatInventoryService, never()).reserve(anyString(), any(), anyInt(), intThat(seats -> seats < 1));
+        verify(fareEngine, never()).computeFare(any(), any(), any(), intThat(seats -> seats < 1));
+    }
+
+    @Test
+    void createBookings_RejectsOversizedBatch() {
+        ReflectionTestUtils.setField(bookingService, "maxBatchSize", 1);
+
+        assertThrows(IllegalArgumentException.class, () -> {
+            bookingService.createBookings(Arrays.asList(new Booking(), new Booking()));
+        });
+        verify(bookingRepository, never()).saveAll(any());
+    }
+
     @Test
     void getBookingById_Success() {
         // Arrange
@@ -123,27 +606,76 @@ public class BookingServiceTest {
     }
 
     @Test
-    void cancelBooking_Success() {
+    void getBookingById_FallsBackToArchive() {
         // Arrange
-        Booking booking = new Booking();
-        booking.setBookingId(1L);
-        booking.setBookingStatus("Upcoming");
+        Booking archived = booking(3L);
+        archived.setBookingStatus(BookingStatus.COMPLETED);
+        when(bookingRepository.findById(3L)).thenReturn(Optional.empty());
+        when(bookingArchiveRepository.findById(3L)).thenReturn(Optional.of(archived));
 
-        when(bookingRepository.findById(1L)).thenReturn(Optional.of(booking));
-        when(bookingRepository.save(booking)).thenReturn(booking);
+        // Act
+        Booking result = bookingService.getBookingById(3L);
+
+        // Assert
+        assertSame(archived, result);
+    }
+
+    @Test
+    void searchBookings_CursorContinuesAfterLastRow() {
+        // Arrange
+        BookingSearchCriteria criteria = new BookingSearchCriteria(7, null, LocalDate.of(2024, 5, 1),
+                LocalDate.of(2024, 5, 31), BookingStatus.UPCOMING);
+        BookingDto first = new BookingDto();
+        first.setBookingId(10L);
+        first.setJourneyDate(LocalDate.of(2024, 5, 3));
+        BookingDto second = new BookingDto();
+        second.setBookingId(4L);
+        second.setJourneyDate(LocalDate.of(2024, 5, 4));
+        when(bookingSearchRepository.search(criteria, null, null, 2)).thenReturn(List.of(first, second));
+        when(bookingSearchRepository.search(criteria, LocalDate.of(2024, 5, 4), 4L, 2)).thenReturn(List.of(first));
+
+        // Act
+        BookingSearchPage firstPage = bookingService.searchBookings(criteria, null, 2);
+        BookingSearchPage lastPage = bookingService.searchBookings(criteria, firstPage.getNextCursor(), 2);
+
+        // Assert
+        assertEquals("2024-05-04_4", firstPage.getNextCursor());
+        assertEquals(1, lastPage.getBookings().size());
+        assertNull(lastPage.getNextCursor());
+    }
+
+    @Test
+    void searchBookings_InvalidCursor() {
+        // Act & Assert
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> bookingService.searchBookings(new BookingSearchCriteria(), "42", 10));
+        assertEquals("Invalid search cursor :: 42", exception.getMessage());
+        verifyNoInteractions(bookingSearchRepository);
+    }
+
+    @Test
+    void cancelBooking_Success() {
+        // Arrange
+        LocalDate journeyDate = LocalDate.now().plusDays(3);
+        when(bookingCancellationWriter.cancelIfUpcoming(1L))
+                .thenReturn(Optional.of(new CancelledBooking(1L, 42, "AP36AL3691", journeyDate, 2, 4L)));
 
         // Act
         bookingService.cancelBooking(1L);
 
         // Assert
-        assertEquals("Cancelled", booking.getBookingStatus());
-        verify(bookingRepository, times(1)).save(booking);
+        verify(seatInventoryService, times(1)).seatsReleased("AP36AL3691", journeyDate, 2);
+        verify(seatInventoryService, never()).release(any(), any(), anyInt());
+        verify(bookingVersionIndex, times(1)).put(1L, 4L);
+        verify(customerSummaryService, times(1)).evictAfterCommit(42);
+        verify(bookingRepository, never()).save(any());
     }
 
     @Test
     void cancelBooking_NotFound() {
         // Arrange
-        when(bookingRepository.findById(1L)).thenReturn(Optional.empty());
+        when(bookingCancellationWriter.cancelIfUpcoming(1L)).thenReturn(Optional.empty());
+        when(bookingCancellationWriter.findStatus(1L)).thenReturn(Optional.empty());
 
         // Act & Assert
         ResourceNotFoundException exception = assertThrows(ResourceNotFoundException.class, () -> {
@@ -151,13 +683,46 @@ public class BookingServiceTest {
         });
 
         assertEquals("Booking not found for this id :: 1", exception.getMessage());
-        verify(bookingRepository, never()).save(any());
+        verifyNoInteractions(seatInventoryService);
+    }
+
+    @Test
+    void cancelBooking_AlreadyCancelled() {
+        // Arrange
+        when(bookingCancellationWriter.cancelIfUpcoming(1L)).thenReturn(Optional.empty());
+        when(bookingCancellationWriter.findStatus(1L)).thenReturn(Optional.of(BookingStatus.CANCELLED));
+
+        // Act & Assert
+        BookingNotCancellableException exception = assertThrows(BookingNotCancellableException.class, () -> {
+            bookingService.cancelBooking(1L);
+        });
+
+        assertEquals("Booking is already cancelled :: 1", exception.getMessage());
+        verifyNoInteractions(seatInventoryService);
+    }
+
+    @Test
+    void cancelTrip_ReleasesAllSeatsAtOnce() {
+        // Arrange
+        LocalDate journeyDate = LocalDate.now().plusDays(3);
+        when(bookingCancellationWriter.cancelTrip("AP36AL3691", journeyDate)).thenReturn(Arrays.asList(
+                new CancelledBooking(1L, 42, "AP36AL3691", journeyDate, 2, 1L),
+                new CancelledBooking(2L, 43, "AP36AL3691", journeyDate, 3, 1L)));
+
+        // Act
+        TripCancellationResult result = bookingService.cancelTrip("AP36AL3691", journeyDate);
+
+        // Assert
+        assertEquals(2, result.getCancelledBookings());
+        assertEquals(5, result.getReleasedSeats());
+        verify(seatInventoryService, times(1)).seatsReleased("AP36AL3691", journeyDate, 5);
+        verify(seatInventoryService, never()).release(any(), any(), anyInt());
     }
 
     @Test
     void viewAllBookings_EmptyList() {
         // Arrange
-        when(bookingRepository.findAll()).thenReturn(Collections.emptyList());
+        when(bookingRepository.findAllBookingDtos()).thenReturn(Collections.emptyList());
 
         // Act
         List<BookingDto> result = bookingService.viewAllBookings();
@@ -166,7 +731,137 @@ public class BookingServiceTest {
         assertTrue(result.isEmpty());
     }
 
- }
+    @Test
+    void viewBookingsPage_FullPageReturnsCursor() {
+        // Arrange
+        Booking first = booking(11L);
+        Booking second = booking(12L);
+        when(bookingRepository.findByBookingIdGreaterThanOrderByBookingIdAsc(10L, PageRequest.of(0, 2)))
+                .thenReturn(Arrays.asList(first, second));
+
+        // Act
+        BookingPage page = bookingService.viewBookingsPage(10L, 2);
+
+        // Assert
+        assertEquals(2, page.getBookings().size());
+        assertEquals(11L, page.getBookings().get(0).getBookingId());
+        assertEquals(12L, page.getNextCursor());
+    }
+
+    @Test
+    void viewBookingsPage_LastPageHasNoCursor() {
+        // Arrange
+        when(bookingRepository.findByBookingIdGreaterThanOrderByBookingIdAsc(0L, PageRequest.of(0, 50)))
+                .thenReturn(Collections.singletonList(booking(1L)));
+
+        // Act
+        BookingPage page = bookingService.viewBookingsPage(null, 50);
+
+        // Assert
+        assertEquals(1, page.getBookings().size());
+        assertNull(page.getNextCursor());
+    }
+
+    @Test
+    void streamAllBookings_MapsAndDetachesEachRow() {
+        // Arrange
+        Booking first = booking(1L);
+        Booking second = booking(2L);
+        when(bookingRepository.streamAllOrderByBookingId()).thenReturn(Stream.of(first, second));
+        List<BookingDto> streamed = new ArrayList<>();
+
+        // Act
+        bookingService.streamAllBookings(streamed::add);
+
+        // Assert
+        assertEquals(2, streamed.size());
+        assertEquals(2L, streamed.get(1).getBookingId());
+        verify(entityManager).detach(first);
+        verify(entityManager).detach(second);
+    }
+
+    @Test
+    void getBookingSummariesByCustomerId_ClampsPageSize() {
+        // Arrange
+        when(bookingRepository.findByCustomerIdOrderByJourneyDateDescBookingIdDesc(eq(42), any()))
+                .thenReturn(new SliceImpl<>(Collections.emptyList()));
+
+        // Act
+        bookingService.getBookingSummariesByCustomerId(42, -1, 10_000);
+
+        // Assert
+        verify(bookingRepository).findByCustomerIdOrderByJourneyDateDescBookingIdDesc(42, PageRequest.of(0, 500));
+    }
+
+    @Test
+    void getBookingSummariesByCustomerId_ContinuesIntoArchive() {
+        // Arrange
+        BookingSummaryView recent = mock(BookingSummaryView.class);
+        BookingSummaryView firstArchived = mock(BookingSummaryView.class);
+        BookingSummaryView secondArchived = mock(BookingSummaryView.class);
+        when(bookingRepository.findByCustomerIdOrderByJourneyDateDescBookingIdDesc(42, PageRequest.of(0, 2)))
+                .thenReturn(new SliceImpl<>(List.of(recent), PageRequest.of(0, 2), false));
+        when(bookingArchiveRepository.findSummariesByCustomerId(42, 0, 2))
+                .thenReturn(List.of(firstArchived, secondArchived));
+        when(bookingRepository.findByCustomerIdOrderByJourneyDateDescBookingIdDesc(42, PageRequest.of(1, 2)))
+                .thenReturn(new SliceImpl<>(List.of(), PageRequest.of(1, 2), false));
+        when(bookingRepository.countByCustomerId(42)).thenReturn(1L);
+        when(bookingArchiveRepository.findSummariesByCustomerId(42, 1, 3)).thenReturn(List.of(secondArchived));
+
+        // Act
+        Slice<BookingSummaryView> firstPage = bookingService.getBookingSummariesByCustomerId(42, 0, 2);
+        Slice<BookingSummaryView> secondPage = bookingService.getBookingSummariesByCustomerId(42, 1, 2);
+
+        // Assert
+        assertEquals(List.of(recent, firstArchived), firstPage.getContent());
+        assertTrue(firstPage.hasNext());
+        assertEquals(List.of(secondArchived), secondPage.getContent());
+        assertFalse(secondPage.hasNext());
+    }
+
+    // Built by ExecutorConfig, so the rejection policy under test is the production one
+    private ThreadPoolTaskExecutor catalogLookupExecutor(int poolSize, int queueCapacity) {
+        ExecutorConfig config = new ExecutorConfig();
+        ReflectionTestUtils.setField(config, "lookupPoolSize", poolSize);
+        ReflectionTestUtils.setField(config, "lookupQueueCapacity", queueCapacity);
+        return config.catalogLookupExecutor();
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
 
-    
+    private void assertRejectsPassengerCount(int noOfPassengers) {
+        // Arrange
+        Booking booking = new Booking();
+        booking.setVehicleName("Vehicle1");
+        booking.setRouteId(1);
+        booking.setJourneyDate(LocalDate.now().plusDays(1));
+        booking.setNoOfPassengers(noOfPassengers);
 
+        Vehicle vehicle = new Vehicle();
+        vehicle.setVehicleNo("AP36AL3691");
+        vehicle.setVehicleName("Vehicle1");
+        when(catalogLookupService.findVehicleByName("Vehicle1")).thenReturn(Optional.of(vehicle));
+        when(catalogLookupService.findRouteById(1)).thenReturn(Optional.of(new Route()));
+
+        // Act & Assert
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> bookingService.createBooking(booking));
+        assertEquals("Number of passengers must be at least 1", exception.getMessage());
+        verifyNoInteractions(seatInventoryService, fareEngine);
+        verify(bookingRepository, never()).save(any());
+    }
+
+    private Booking booking(Long bookingId) {
+        Booking booking = new Booking();
+        booking.setBookingId(bookingId);
+        booking.setUsername("user" + bookingId);
+        booking.setNoOfPassengers(1);
+        return booking;
+    }
+}
@@ -0,0 +1,101 @@
+package com.BookingService;
+
+import com.BookingService.repository.BookingStatusTransitionWriter;
+import com.BookingService.service.BookingStatusTransitionService;
+import com.BookingService.service.BookingVersionIndex;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+public class BookingStatusTransitionServiceTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2024, 5, 10);
+
+    @Mock
+    private BookingStatusTransitionWriter writer;
+
+    @Mock
+    private BookingVersionIndex bookingVersionIndex;
+
+    @InjectMocks
+    private BookingStatusTransitionService transitionService;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        meterRegistry = new SimpleMeterRegistry();
+        ReflectionTestUtils.setField(transitionService, "meterRegistry", meterRegistry);
+        ReflectionTestUtils.setField(transitionService, "chunkSize", 2);
+    }
+
+    @Test
+    void testTransition_ChunksFromWatermarkAndAdvancesIt() {
+        // Arrange
+        LocalDate watermark = TODAY.minusDays(3);
+        when(writer.findWatermark(BookingStatusTransitionService.JOB_NAME)).thenReturn(Optional.of(watermark));
+        when(writer.completeChunk(watermark, TODAY, 2)).thenReturn(List.of(1L, 2L), List.of(3L));
+        when(writer.hasUpcoming(watermark, TODAY)).thenReturn(false);
+
+        // Act
+        long transitioned = transitionService.transitionBefore(TODAY);
+
+        // Assert
+        assertEquals(3, transitioned);
+        verify(writer, times(2)).completeChunk(watermark, TODAY, 2);
+        verify(writer).advanceWatermark(BookingStatusTransitionService.JOB_NAME, TODAY.minusDays(1));
+        verify(bookingVersionIndex).evict(1L);
+        verify(bookingVersionIndex).evict(3L);
+        assertEquals(3.0, meterRegistry.summary("booking.status.transition.rows", "outcome", "completed").totalAmount());
+        assertEquals(1, meterRegistry.timer("booking.status.transition.duration", "outcome", "completed").count());
+    }
+
+    @Test
+    void testTransition_UpToDateSkipsUpdates() {
+        // Arrange
+        when(writer.findWatermark(BookingStatusTransitionService.JOB_NAME))
+                .thenReturn(Optional.of(TODAY.minusDays(1)));
+
+        // Act
+        long transitioned = transitionService.transitionBefore(TODAY);
+
+        // Assert
+        assertEquals(0, transitioned);
+        verify(writer, never()).completeChunk(any(), any(), anyInt());
+        verify(writer, never()).advanceWatermark(any(), any());
+        assertEquals(1, meterRegistry.timer("booking.status.transition.duration", "outcome", "up_to_date").count());
+    }
+
+    @Test
+    void testTransition_KeepsWatermarkWhenRowsRemain() {
+        // Arrange
+        when(writer.findWatermark(BookingStatusTransitionService.JOB_NAME)).thenReturn(Optional.empty());
+        when(writer.completeChunk(null, TODAY, 2)).thenReturn(List.of(5L));
+        when(writer.hasUpcoming(null, TODAY)).thenReturn(true);
+
+        // Act
+        long transitioned = transitionService.transitionBefore(TODAY);
+
+        // Assert
+        assertEquals(1, transitioned);
+        verify(writer, never()).advanceWatermark(eq(BookingStatusTransitionService.JOB_NAME), any());
+        assertEquals(1, meterRegistry.timer("booking.status.transition.duration", "outcome", "partial").count());
+    }
+}
@@ -0,0 +1,154 @@
+package com.BookingService;
+
+import com.BookingService.config.CacheConfig;
+import com.BookingService.dto.Route;
+import com.BookingService.dto.Vehicle;
+import com.BookingService.feign.RouteServiceClient;
+import com.BookingService.feign.VehicleServiceClient;
+import com.BookingService.service.CatalogLookupService;
+
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.convert.ApplicationConversionService;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.core.convert.ConversionService;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Runs CatalogLookupService behind the real cache configuration to check what ends up cached.
+ */
+@SpringJUnitConfig
+public class CatalogLookupCachingTest {
+
+    @Configuration
+    @Import(CacheConfig.class)
+    static class Config {
+
+        // Converts the Duration properties of CacheConfig as Spring Boot would
+        @Bean
+        static ConversionService conversionService() {
+            return new ApplicationConversionService();
+        }
+
+        @Bean
+        VehicleServiceClient vehicleServiceClient() {
+            return mock(VehicleServiceClient.class);
+        }
+
+        @Bean
+        RouteServiceClient routeServiceClient() {
+            return mock(RouteServiceClient.class);
+        }
+
+        @Bean
+        CircuitBreakerRegistry circuitBreakerRegistry() {
+            return CircuitBreakerRegistry.ofDefaults();
+        }
+
+        @Bean
+        BulkheadRegistry bulkheadRegistry() {
+            return BulkheadRegistry.ofDefaults();
+        }
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+
+        @Bean
+        CatalogLookupService catalogLookupService() {
+            return new CatalogLookupService();
+        }
+    }
+
+    @Autowired
+    private CatalogLookupService catalogLookupService;
+
+    @Autowired
+    private VehicleServiceClient vehicleService;
+
+    @Autowired
+    private RouteServiceClient routeService;
+
+    @Autowired
+    private CircuitBreakerRegistry circuitBreakerRegistry;
+
+    @BeforeEach
+    void setUp() {
+        catalogLookupService.evictAll();
+        reset(vehicleService, routeService);
+        circuitBreakerRegistry.circuitBreaker(CatalogLookupService.VEHICLE_SERVICE).transitionToClosedState();
+        circuitBreakerRegistry.circuitBreaker(CatalogLookupService.ROUTE_SERVICE).transitionToClosedState();
+    }
+
+    @Test
+    void findVehicleByName_FreshResultIsCached() {
+        Vehicle vehicle = vehicle("Vehicle1", 40);
+        when(vehicleService.getVehicleByName("Vehicle1")).thenReturn(vehicle);
+
+        catalogLookupService.findVehicleByName("Vehicle1");
+        Optional<Vehicle> cached = catalogLookupService.findVehicleByName("Vehicle1");
+
+        assertSame(vehicle, cached.get());
+        verify(vehicleService, times(1)).getVehicleByName("Vehicle1");
+    }
+
+    @Test
+    void findVehicleByName_FallbackIsNotCached() {
+        // Arrange: known once, then the service fails and recovers with new data
+        Vehicle known = vehicle("Vehicle1", 40);
+        Vehicle recovered = vehicle("Vehicle1", 50);
+        when(vehicleService.getVehicleByName("Vehicle1")).thenReturn(known);
+        catalogLookupService.findVehicleByName("Vehicle1");
+        catalogLookupService.evictVehicle("Vehicle1");
+        circuitBreakerRegistry.circuitBreaker(CatalogLookupService.VEHICLE_SERVICE).transitionToForcedOpenState();
+
+        // Act
+        Optional<Vehicle> fallback = catalogLookupService.findVehicleByName("Vehicle1");
+        circuitBreakerRegistry.circuitBreaker(CatalogLookupService.VEHICLE_SERVICE).transitionToClosedState();
+        when(vehicleService.getVehicleByName("Vehicle1")).thenReturn(recovered);
+        Optional<Vehicle> afterRecovery = catalogLookupService.findVehicleByName("Vehicle1");
+
+        // Assert
+        assertSame(known, fallback.get());
+        assertSame(recovered, afterRecovery.get());
+        assertSame(recovered, catalogLookupService.findVehicleByName("Vehicle1").get());
+        verify(vehicleService, times(2)).getVehicleByName("Vehicle1");
+    }
+
+    @Test
+    void findRouteById_FallbackIsNotCached() {
+        Route known = new Route();
+        Route recovered = new Route();
+        when(routeService.getRouteById(7)).thenReturn(known);
+        catalogLookupService.findRouteById(7);
+        catalogLookupService.evictRoute(7);
+        when(routeService.getRouteById(7)).thenThrow(new IllegalStateException("timeout"));
+
+        assertSame(known, catalogLookupService.findRouteById(7).get());
+        reset(routeService);
+        when(routeService.getRouteById(7)).thenReturn(recovered);
+
+        assertSame(recovered, catalogLookupService.findRouteById(7).get());
+    }
+
+    private static Vehicle vehicle(String name, int seatingCapacity) {
+        Vehicle vehicle = new Vehicle();
+        vehicle.setVehicleName(name);
+        vehicle.setSeatingCapacity(seatingCapacity);
+        return vehicle;
+    }
+}
@@ -0,0 +1,192 @@
+package com.BookingService;
+
+import com.BookingService.dto.Route;
+import com.BookingService.dto.Vehicle;
+import com.BookingService.feign.RouteServiceClient;
+import com.BookingService.feign.VehicleServiceClient;
+import com.BookingService.service.CatalogLookupService;
+import com.BookingService.service.SingleFlight;
+
+import feign.FeignException;
+import feign.Request;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+public class CatalogLookupServiceTest {
+
+    @Mock
+    private VehicleServiceClient vehicleService;
+
+    @Mock
+    private RouteServiceClient routeService;
+
+    @InjectMocks
+    private CatalogLookupService catalogLookupService;
+
+    private CircuitBreakerRegistry circuitBreakerRegistry;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        circuitBreakerRegistry = CircuitBreakerRegistry.ofDefaults();
+        meterRegistry = new SimpleMeterRegistry();
+        ReflectionTestUtils.setField(catalogLookupService, "circuitBreakerRegistry", circuitBreakerRegistry);
+        ReflectionTestUtils.setField(catalogLookupService, "bulkheadRegistry", BulkheadRegistry.ofDefaults());
+        ReflectionTestUtils.setField(catalogLookupService, "meterRegistry", meterRegistry);
+        catalogLookupService.init();
+    }
+
+    @Test
+    void findVehicleByName_Found() {
+        Vehicle vehicle = new Vehicle();
+        vehicle.setVehicleName("Vehicle1");
+        when(vehicleService.getVehicleByName("Vehicle1")).thenReturn(vehicle);
+
+        Optional<Vehicle> result = catalogLookupService.findVehicleByName("Vehicle1");
+
+        assertTrue(result.isPresent());
+        assertEquals("Vehicle1", result.get().getVehicleName());
+    }
+
+    @Test
+    void findVehicleByName_RemoteNotFound() {
+        Request request = Request.create(Request.HttpMethod.GET, "vehicles/name/Unknown",
+                Collections.emptyMap(), null, StandardCharsets.UTF_8, null);
+        when(vehicleService.getVehicleByName("Unknown"))
+                .thenThrow(new FeignException.NotFound("Not Found", request, null));
+
+        assertFalse(catalogLookupService.findVehicleByName("Unknown").isPresent());
+    }
+
+    @Test
+    void findRouteById_NullResponse() {
+        when(routeService.getRouteById(7)).thenReturn(null);
+
+        Optional<Route> result = catalogLookupService.findRouteById(7);
+
+        assertFalse(result.isPresent());
+    }
+
+    @Test
+    void findVehicleByName_CircuitOpenServesLastKnown() {
+        Vehicle vehicle = new Vehicle();
+        vehicle.setVehicleName("Vehicle1");
+        when(vehicleService.getVehicleByName("Vehicle1")).thenReturn(vehicle);
+        catalogLookupService.findVehicleByName("Vehicle1");
+        circuitBreakerRegistry.circuitBreaker(CatalogLookupService.VEHICLE_SERVICE).transitionToForcedOpenState();
+
+        Optional<Vehicle> result = catalogLookupService.findVehicleByName("Vehicle1");
+
+        assertSame(vehicle, result.get());
+        verify(vehicleService, times(1)).getVehicleByName("Vehicle1");
+        assertEquals(1.0, meterRegistry.get("booking.catalog.fallback")
+                .tag("reason", "circuit_open").tag("served", "true").counter().count());
+    }
+
+    @Test
+    void findRouteById_FailureWithoutLastKnownIsRethrown() {
+        Request request = Request.create(Request.HttpMethod.GET, "route/ViewRouteById/7",
+                Collections.emptyMap(), null, StandardCharsets.UTF_8, null);
+        when(routeService.getRouteById(7))
+                .thenThrow(new FeignException.ServiceUnavailable("Unavailable", request, null));
+
+        assertThrows(FeignException.ServiceUnavailable.class, () -> catalogLookupService.findRouteById(7));
+        assertEquals(1.0, meterRegistry.get("booking.catalog.fallback")
+                .tag("reason", "error").tag("served", "false").counter().count());
+    }
+
+    @Test
+    void findAllRoutes_FailureServesLastKnownList() {
+        List<Route> routes = List.of(new Route());
+        when(routeService.getAllRoutes()).thenReturn(routes).thenThrow(new IllegalStateException("timeout"));
+        catalogLookupService.findAllRoutes();
+
+        assertSame(routes, catalogLookupService.findAllRoutes());
+    }
+
+    @Test
+    void findVehicleByName_ConcurrentMissesShareOneCall() throws Exception {
+        Vehicle vehicle = new Vehicle();
+        vehicle.setVehicleName("Vehicle1");
+        CountDownLatch called = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(vehicleService.getVehicleByName("Vehicle1")).thenAnswer(invocation -> {
+            called.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return vehicle;
+        });
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<Optional<Vehicle>> leader = executor.submit(() -> catalogLookupService.findVehicleByName("Vehicle1"));
+            assertTrue(called.await(5, TimeUnit.SECONDS));
+            Future<Optional<Vehicle>> follower = executor.submit(() -> catalogLookupService.findVehicleByName("Vehicle1"));
+            // Release the leader only once the second call has joined it
+            for (int i = 0; i < 1000 && meterRegistry.get("booking.catalog.singleflight")
+                    .tag("service", CatalogLookupService.VEHICLE_SERVICE).tag("role", "follower").counter().count() < 1; i++) {
+                Thread.sleep(5);
+            }
+            release.countDown();
+
+            assertSame(vehicle, leader.get(5, TimeUnit.SECONDS).get());
+            assertSame(vehicle, follower.get(5, TimeUnit.SECONDS).get());
+        } finally {
+            executor.shutdownNow();
+        }
+        verify(vehicleService, times(1)).getVehicleByName("Vehicle1");
+        assertEquals(1.0, meterRegistry.get("booking.catalog.singleflight")
+                .tag("service", CatalogLookupService.VEHICLE_SERVICE).tag("role", "leader").counter().count());
+    }
+
+    @Test
+    void singleFlight_FollowersShareTheFailure() throws Exception {
+        SingleFlight<Integer, Route> flights = new SingleFlight<>("routeService", "test", meterRegistry);
+        CompletableFuture<Route> pending = new CompletableFuture<>();
+        AtomicInteger calls = new AtomicInteger();
+
+        CompletableFuture<Route> first = flights.executeAsync(7, () -> {
+            calls.incrementAndGet();
+            return pending;
+        });
+        CompletableFuture<Route> second = flights.executeAsync(7, () -> {
+            calls.incrementAndGet();
+            return new CompletableFuture<>();
+        });
+        pending.completeExceptionally(new IllegalStateException("timeout"));
+
+        assertEquals(1, calls.get());
+        ExecutionException e = assertThrows(ExecutionException.class, second::get);
+        assertTrue(e.getCause() instanceof IllegalStateException);
+        assertTrue(first.isCompletedExceptionally());
+        // Nothing is remembered once the call has completed
+        flights.executeAsync(7, () -> {
+            calls.incrementAndGet();
+            return CompletableFuture.completedFuture(new Route());
+        });
+        assertEquals(2, calls.get());
+    }
+}
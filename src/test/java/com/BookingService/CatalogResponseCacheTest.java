@@ -0,0 +1,83 @@
+package com.BookingService;
+
+import com.BookingService.dto.CatalogSnapshot;
+import com.BookingService.dto.Route;
+import com.BookingService.dto.Vehicle;
+import com.BookingService.service.CatalogResponseCache;
+import com.BookingService.service.CatalogResponseCache.CatalogPayload;
+import com.BookingService.service.CatalogSnapshotService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+public class CatalogResponseCacheTest {
+
+    private static final Vehicle VEHICLE = new Vehicle(1L, "KA01AB1234", "Volvo-1", 40, "Sleeper", 2.5);
+    private static final Route ROUTE = new Route(1, "Bengaluru", "Chennai", 346.0f, 6.5f);
+
+    @Mock
+    private CatalogSnapshotService catalogSnapshotService;
+
+    @InjectMocks
+    private CatalogResponseCache catalogResponseCache;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        ReflectionTestUtils.setField(catalogResponseCache, "objectMapper", new ObjectMapper());
+    }
+
+    @Test
+    void testVehicles_SameContentGetsSameETagOnEveryInstance() {
+        // Arrange: another instance loaded the same catalog at a different version and time
+        CatalogResponseCache otherInstance = new CatalogResponseCache();
+        CatalogSnapshotService otherSnapshots = mock(CatalogSnapshotService.class);
+        ReflectionTestUtils.setField(otherInstance, "catalogSnapshotService", otherSnapshots);
+        ReflectionTestUtils.setField(otherInstance, "objectMapper", new ObjectMapper());
+        when(catalogSnapshotService.getSnapshot()).thenReturn(
+                new CatalogSnapshot(3, Instant.parse("2026-10-18T10:00:00Z"), List.of(VEHICLE), List.of(ROUTE)));
+        when(otherSnapshots.getSnapshot()).thenReturn(
+                new CatalogSnapshot(7, Instant.parse("2026-10-18T10:00:05Z"), List.of(VEHICLE), List.of(ROUTE)));
+
+        // Act
+        CatalogPayload payload = catalogResponseCache.vehicles().orElseThrow();
+        CatalogPayload otherPayload = otherInstance.vehicles().orElseThrow();
+
+        // Assert
+        assertEquals(payload.getETag(), otherPayload.getETag());
+        assertEquals(payload.getETag().replaceAll("\"$", "-gzip\""), payload.getGzipETag());
+        assertNotEquals(payload.getETag(), catalogResponseCache.routes().orElseThrow().getETag());
+    }
+
+    @Test
+    void testVehicles_LastModifiedOnlyMovesWhenContentChanges() {
+        // Arrange
+        Instant first = Instant.parse("2026-10-18T10:00:00Z");
+        Instant second = Instant.parse("2026-10-18T11:00:00Z");
+        Route otherRoute = new Route(2, "Chennai", "Madurai", 462.0f, 8.0f);
+        when(catalogSnapshotService.getSnapshot())
+                .thenReturn(new CatalogSnapshot(1, first, List.of(VEHICLE), List.of(ROUTE)))
+                .thenReturn(new CatalogSnapshot(2, second, List.of(VEHICLE), List.of(ROUTE, otherRoute)));
+        CatalogPayload vehiclesBefore = catalogResponseCache.vehicles().orElseThrow();
+
+        // Act: only the routes changed in the new snapshot
+        CatalogPayload vehiclesAfter = catalogResponseCache.vehicles().orElseThrow();
+        CatalogPayload routesAfter = catalogResponseCache.routes().orElseThrow();
+
+        // Assert
+        assertEquals(vehiclesBefore.getETag(), vehiclesAfter.getETag());
+        assertEquals(first, vehiclesAfter.getLastModified());
+        assertEquals(second, routesAfter.getLastModified());
+    }
+}
@@ -0,0 +1,99 @@
+package com.BookingService;
+
+import com.BookingService.dto.CatalogSnapshot;
+import com.BookingService.dto.Route;
+import com.BookingService.dto.Vehicle;
+import com.BookingService.service.CatalogLookupService;
+import com.BookingService.service.CatalogSnapshotService;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+public class CatalogSnapshotServiceTest {
+
+    @Mock
+    private CatalogLookupService catalogLookupService;
+
+    @InjectMocks
+    private CatalogSnapshotService catalogSnapshotService;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        meterRegistry = new SimpleMeterRegistry();
+        ReflectionTestUtils.setField(catalogSnapshotService, "meterRegistry", meterRegistry);
+    }
+
+    @Test
+    void refresh_LoadsIndexedSnapshot() {
+        // Arrange
+        Vehicle vehicle = new Vehicle(1L, "KA01AB1234", "Volvo", 40, "Sleeper", 2.5);
+        Route route = new Route(7, "Bengaluru", "Chennai", 346.0f, 6.5f);
+        when(catalogLookupService.findAllVehicles()).thenReturn(List.of(vehicle));
+        when(catalogLookupService.findAllRoutes()).thenReturn(List.of(route));
+
+        // Act
+        catalogSnapshotService.refresh();
+
+        // Assert
+        CatalogSnapshot snapshot = catalogSnapshotService.getSnapshot();
+        assertTrue(snapshot.isLoaded());
+        assertEquals(1, snapshot.getVersion());
+        assertSame(vehicle, catalogSnapshotService.findVehicle("Volvo").get());
+        assertSame(route, catalogSnapshotService.findRoute(7).get());
+        assertFalse(catalogSnapshotService.findVehicle("Unknown").isPresent());
+    }
+
+    @Test
+    void refresh_UnchangedCatalogKeepsVersion() {
+        // Arrange
+        when(catalogLookupService.findAllVehicles())
+                .thenReturn(List.of(new Vehicle(1L, "KA01AB1234", "Volvo", 40, "Sleeper", 2.5)))
+                .thenReturn(List.of(new Vehicle(1L, "KA01AB1234", "Volvo", 40, "Sleeper", 2.5)))
+                .thenReturn(List.of(new Vehicle(1L, "KA01AB1234", "Volvo", 44, "Sleeper", 2.5)));
+        when(catalogLookupService.findAllRoutes()).thenReturn(List.of());
+
+        // Act
+        catalogSnapshotService.refresh();
+        CatalogSnapshot first = catalogSnapshotService.getSnapshot();
+        catalogSnapshotService.refresh();
+        CatalogSnapshot second = catalogSnapshotService.getSnapshot();
+        catalogSnapshotService.refresh();
+
+        // Assert
+        assertSame(first, second);
+        assertEquals(2, catalogSnapshotService.getSnapshot().getVersion());
+        assertEquals(44, catalogSnapshotService.findVehicle("Volvo").get().getSeatingCapacity());
+    }
+
+    @Test
+    void refresh_FailureKeepsPreviousSnapshot() {
+        // Arrange
+        when(catalogLookupService.findAllVehicles())
+                .thenReturn(List.of(new Vehicle(1L, "KA01AB1234", "Volvo", 40, "Sleeper", 2.5)))
+                .thenThrow(new IllegalStateException("VEHICLESERVICE unavailable"));
+        when(catalogLookupService.findAllRoutes()).thenReturn(List.of());
+        catalogSnapshotService.refresh();
+        CatalogSnapshot loaded = catalogSnapshotService.getSnapshot();
+
+        // Act
+        catalogSnapshotService.refresh();
+
+        // Assert
+        assertSame(loaded, catalogSnapshotService.getSnapshot());
+        assertEquals(1.0, meterRegistry.get("booking.catalog.refresh").tag("outcome", "failed").counter().count());
+    }
+}
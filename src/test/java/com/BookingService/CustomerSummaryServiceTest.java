@@ -0,0 +1,86 @@
+package com.BookingService;
+
+import com.BookingService.dto.CustomerBookingSummary;
+import com.BookingService.entity.Booking;
+import com.BookingService.repository.CustomerSummaryWriter;
+import com.BookingService.service.CustomerSummaryService;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+public class CustomerSummaryServiceTest {
+
+    @Mock
+    private CustomerSummaryWriter customerSummaryWriter;
+
+    @InjectMocks
+    private CustomerSummaryService customerSummaryService;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        ReflectionTestUtils.setField(customerSummaryService, "meterRegistry", new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(customerSummaryService, "maximumSize", 100L);
+        ReflectionTestUtils.setField(customerSummaryService, "ttl", Duration.ofMinutes(1));
+        customerSummaryService.init();
+    }
+
+    @Test
+    void testGetSummary_ServedFromCacheAfterFirstRead() {
+        // Arrange
+        CustomerBookingSummary summary = new CustomerBookingSummary(7, 2, 1, 0, 300.0,
+                LocalDate.now().plusDays(2), 11L);
+        when(customerSummaryWriter.find(7)).thenReturn(Optional.of(summary));
+
+        // Act
+        customerSummaryService.getSummary(7);
+        CustomerBookingSummary result = customerSummaryService.getSummary(7);
+
+        // Assert
+        assertEquals(summary, result);
+        verify(customerSummaryWriter, times(1)).find(7);
+    }
+
+    @Test
+    void testGetSummary_CustomerWithoutBookings() {
+        // Arrange
+        when(customerSummaryWriter.find(8)).thenReturn(Optional.empty());
+
+        // Act
+        CustomerBookingSummary result = customerSummaryService.getSummary(8);
+
+        // Assert
+        assertEquals(CustomerBookingSummary.empty(8), result);
+    }
+
+    @Test
+    void testRecordCreated_EvictsCachedSummary() {
+        // Arrange
+        Booking booking = new Booking();
+        booking.setCustomerId(7);
+        when(customerSummaryWriter.find(7)).thenReturn(Optional.of(CustomerBookingSummary.empty(7)));
+        customerSummaryService.getSummary(7);
+
+        // Act
+        customerSummaryService.recordCreated(List.of(booking));
+        customerSummaryService.getSummary(7);
+
+        // Assert
+        verify(customerSummaryWriter).recordCreated(List.of(booking));
+        verify(customerSummaryWriter, times(2)).find(7);
+    }
+}
@@ -0,0 +1,120 @@
+package com.BookingService;
+
+import com.BookingService.dto.CatalogSnapshot;
+import com.BookingService.dto.FareQuote;
+import com.BookingService.dto.FareQuoteRequest;
+import com.BookingService.dto.Route;
+import com.BookingService.dto.Vehicle;
+import com.BookingService.fare.FareEngine;
+import com.BookingService.fare.FareRule;
+import com.BookingService.fare.SurgeFareRule;
+import com.BookingService.fare.WeekendFareRule;
+import com.BookingService.service.CatalogSnapshotService;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.DayOfWeek;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+public class FareEngineTest {
+
+    private final Vehicle vehicle = new Vehicle(1L, "KA01AB1234", "Volvo", 40, "Sleeper", 2.5);
+    private final Route route = new Route(7, "Bengaluru", "Chennai", 346.0f, 6.5f);
+
+    @Mock
+    private CatalogSnapshotService catalogSnapshotService;
+
+    @InjectMocks
+    private FareEngine fareEngine;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        WeekendFareRule weekend = new WeekendFareRule();
+        ReflectionTestUtils.setField(weekend, "weekendMultiplier", 1.2);
+        SurgeFareRule surge = new SurgeFareRule();
+        ReflectionTestUtils.setField(surge, "withinDays", 1);
+        ReflectionTestUtils.setField(surge, "surgeMultiplier", 1.5);
+        ReflectionTestUtils.setField(fareEngine, "fareRules", List.<FareRule>of(weekend, surge));
+        ReflectionTestUtils.setField(fareEngine, "horizonDays", 30);
+        ReflectionTestUtils.setField(fareEngine, "maxQuotes", 10);
+        fareEngine.init();
+        when(catalogSnapshotService.getSnapshot())
+                .thenReturn(new CatalogSnapshot(1, Instant.now(), List.of(vehicle), List.of(route)));
+    }
+
+    @Test
+    void testComputeFare_AppliesRuleTable() {
+        // Arrange
+        LocalDate weekday = LocalDate.now().plusDays(10).with(TemporalAdjusters.next(DayOfWeek.WEDNESDAY));
+        LocalDate saturday = LocalDate.now().plusDays(10).with(TemporalAdjusters.next(DayOfWeek.SATURDAY));
+
+        // Act
+        double weekdayFare = fareEngine.computeFare(vehicle, route, weekday, 2);
+        double saturdayFare = fareEngine.computeFare(vehicle, route, saturday, 2);
+        double farAheadFare = fareEngine.computeFare(vehicle, route, weekday.plusWeeks(52), 2);
+
+        // Assert
+        assertEquals(1730.0, weekdayFare);
+        assertEquals(2076.0, saturdayFare);
+        assertEquals(1730.0, farAheadFare);
+    }
+
+    @Test
+    void testComputeFare_SurgeCloseToDeparture() {
+        // Arrange
+        LocalDate tomorrow = LocalDate.now().plusDays(1);
+        double weekend = tomorrow.getDayOfWeek() == DayOfWeek.SATURDAY || tomorrow.getDayOfWeek() == DayOfWeek.SUNDAY
+                ? 1.2 : 1.0;
+
+        // Act
+        double fare = fareEngine.computeFare(vehicle, route, tomorrow, 1);
+
+        // Assert
+        assertEquals(Math.round(865.0 * 1.5 * weekend * 100) / 100.0, fare);
+    }
+
+    @Test
+    void testComputeFare_RouteWithoutDistance() {
+        // Arrange
+        Route unknownDistance = new Route(8, "Bengaluru", "Mysuru", null, 3.0f);
+
+        // Act & Assert
+        IllegalStateException exception = assertThrows(IllegalStateException.class,
+                () -> fareEngine.computeFare(vehicle, unknownDistance, LocalDate.now().plusDays(5), 1));
+        assertEquals("Route distance unknown for id :: 8", exception.getMessage());
+    }
+
+    @Test
+    void testQuote_ReportsUnknownItemsIndividually() {
+        // Arrange
+        LocalDate weekday = LocalDate.now().plusDays(10).with(TemporalAdjusters.next(DayOfWeek.TUESDAY));
+        List<FareQuoteRequest> requests = List.of(
+                new FareQuoteRequest("Volvo", 7, weekday, 3),
+                new FareQuoteRequest("Unknown", 7, weekday, 1),
+                new FareQuoteRequest("Volvo", 99, weekday, 1));
+
+        // Act
+        List<FareQuote> quotes = fareEngine.quote(requests);
+
+        // Assert
+        assertEquals(3, quotes.size());
+        assertEquals(FareQuote.QUOTED, quotes.get(0).getStatus());
+        assertEquals(2595.0, quotes.get(0).getFare());
+        assertEquals(FareQuote.UNAVAILABLE, quotes.get(1).getStatus());
+        assertEquals("Vehicle not found for name :: Unknown", quotes.get(1).getMessage());
+        assertEquals("Route not found for id :: 99", quotes.get(2).getMessage());
+        verify(catalogSnapshotService, times(1)).getSnapshot();
+    }
+}
@@ -0,0 +1,190 @@
+package com.BookingService;
+
+import com.BookingService.dto.Route;
+import com.BookingService.dto.Vehicle;
+import com.BookingService.entity.Booking;
+import com.BookingService.exception.IdempotencyKeyMismatchException;
+import com.BookingService.repository.IdempotencyKeyWriter;
+import com.BookingService.repository.IdempotencyKeyWriter.StoredKey;
+import com.BookingService.service.BookingService;
+import com.BookingService.service.IdempotencyService;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+public class IdempotencyServiceTest {
+
+    @Mock
+    private BookingService bookingService;
+
+    @Mock
+    private IdempotencyKeyWriter idempotencyKeyWriter;
+
+    @InjectMocks
+    private IdempotencyService idempotencyService;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        ReflectionTestUtils.setField(idempotencyService, "meterRegistry", new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(idempotencyService, "maximumSize", 100L);
+        ReflectionTestUtils.setField(idempotencyService, "ttl", Duration.ofMinutes(1));
+        ReflectionTestUtils.setField(idempotencyService, "waitTimeout", Duration.ofSeconds(5));
+        idempotencyService.init();
+        when(idempotencyKeyWriter.find(anyString())).thenReturn(Optional.empty());
+    }
+
+    @Test
+    void testCreateBooking_RetryReturnsFirstBooking() {
+        // Arrange
+        Booking created = booking(11L);
+        when(bookingService.createIdempotentBooking(any(), eq("key-1"), anyString())).thenReturn(created);
+
+        // Act
+        Booking first = idempotencyService.createBooking("key-1", request());
+        Booking retry = idempotencyService.createBooking("key-1", request());
+
+        // Assert
+        assertSame(created, first);
+        assertSame(created, retry);
+        verify(bookingService, times(1)).createIdempotentBooking(any(), eq("key-1"), anyString());
+    }
+
+    @Test
+    void testCreateBooking_ResolvedCatalogRetryReturnsFirstBooking() {
+        // Arrange: the non-blocking path hands over the vehicle and route it resolved
+        Booking created = booking(14L);
+        Vehicle vehicle = new Vehicle();
+        Route route = new Route();
+        when(bookingService.createIdempotentBooking(any(), same(vehicle), same(route), eq("key-6"), anyString()))
+                .thenReturn(created);
+
+        // Act
+        Booking first = idempotencyService.createBooking("key-6", request(), vehicle, route);
+        Booking retry = idempotencyService.createBooking("key-6", request(), vehicle, route);
+
+        // Assert
+        assertSame(created, first);
+        assertSame(created, retry);
+        verify(bookingService, times(1)).createIdempotentBooking(any(), same(vehicle), same(route), eq("key-6"), anyString());
+        verify(bookingService, never()).createIdempotentBooking(any(), anyString(), anyString());
+    }
+
+    @Test
+    void testCreateBooking_ConcurrentDuplicatesWaitForFirstRequest() throws Exception {
+        // Arrange
+        Booking created = booking(12L);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(bookingService.createIdempotentBooking(any(), eq("key-2"), anyString())).thenAnswer(invocation -> {
+            started.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return created;
+        });
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+
+        try {
+            // Act
+            Future<Booking> first = executor.submit(() -> idempotencyService.createBooking("key-2", request()));
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+            List<Future<Booking>> duplicates = new ArrayList<>();
+            for (int i = 0; i < 3; i++) {
+                duplicates.add(executor.submit(() -> idempotencyService.createBooking("key-2", request())));
+            }
+            release.countDown();
+
+            // Assert
+            assertSame(created, first.get(5, TimeUnit.SECONDS));
+            for (Future<Booking> duplicate : duplicates) {
+                assertSame(created, duplicate.get(5, TimeUnit.SECONDS));
+            }
+            verify(bookingService, times(1)).createIdempotentBooking(any(), eq("key-2"), anyString());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void testCreateBooking_KeyCommittedOnAnotherInstance() {
+        // Arrange
+        Booking stored = booking(13L);
+        when(bookingService.createIdempotentBooking(any(), eq("key-3"), anyString()))
+                .thenAnswer(invocation -> {
+                    String fingerprint = invocation.getArgument(2);
+                    when(idempotencyKeyWriter.find("key-3")).thenReturn(Optional.of(new StoredKey(fingerprint, 13L)));
+                    throw new DuplicateKeyException("duplicate key");
+                });
+        when(bookingService.getBookingById(13L)).thenReturn(stored);
+
+        // Act
+        Booking result = idempotencyService.createBooking("key-3", request());
+
+        // Assert
+        assertSame(stored, result);
+    }
+
+    @Test
+    void testCreateBooking_KeyReusedForDifferentRequest() {
+        // Arrange
+        when(bookingService.createIdempotentBooking(any(), eq("key-4"), anyString())).thenReturn(booking(14L));
+        idempotencyService.createBooking("key-4", request());
+        Booking different = request();
+        different.setNoOfPassengers(5);
+
+        // Act & Assert
+        assertThrows(IdempotencyKeyMismatchException.class, () -> idempotencyService.createBooking("key-4", different));
+    }
+
+    @Test
+    void testCreateBooking_FailedRequestCanBeRetried() {
+        // Arrange
+        when(bookingService.createIdempotentBooking(any(), eq("key-5"), anyString()))
+                .thenThrow(new IllegalStateException("database unavailable"))
+                .thenReturn(booking(15L));
+
+        // Act
+        assertThrows(IllegalStateException.class, () -> idempotencyService.createBooking("key-5", request()));
+        Booking retry = idempotencyService.createBooking("key-5", request());
+
+        // Assert
+        assertEquals(15L, retry.getBookingId());
+        verify(bookingService, times(2)).createIdempotentBooking(any(), eq("key-5"), anyString());
+    }
+
+    private static Booking request() {
+        Booking booking = new Booking();
+        booking.setCustomerId(7);
+        booking.setVehicleName("Vehicle1");
+        booking.setRouteId(1);
+        booking.setNoOfPassengers(2);
+        booking.setJourneyDate(LocalDate.now().plusDays(3));
+        return booking;
+    }
+
+    private static Booking booking(Long bookingId) {
+        Booking booking = request();
+        booking.setBookingId(bookingId);
+        return booking;
+    }
+}
@@ -0,0 +1,128 @@
+package com.BookingService;
+
+import com.BookingService.dto.Route;
+import com.BookingService.dto.Vehicle;
+import com.BookingService.entity.Booking;
+import com.BookingService.exception.ResourceNotFoundException;
+import com.BookingService.service.BookingService;
+import com.BookingService.service.IdempotencyService;
+import com.BookingService.service.NonBlockingBookingService;
+import com.BookingService.service.NonBlockingCatalogClient;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+public class NonBlockingBookingServiceTest {
+
+    @Mock
+    private NonBlockingCatalogClient catalogClient;
+
+    @Mock
+    private BookingService bookingService;
+
+    @Mock
+    private IdempotencyService idempotencyService;
+
+    @InjectMocks
+    private NonBlockingBookingService nonBlockingBookingService;
+
+    private final Vehicle vehicle = new Vehicle(1L, "KA01AB1234", "Volvo", 40, "Sleeper", 2.5);
+    private final Route route = new Route(7, "Bengaluru", "Chennai", 346.0f, 6.5f);
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        ReflectionTestUtils.setField(nonBlockingBookingService, "persistenceExecutor", (Executor) Runnable::run);
+        ReflectionTestUtils.setField(nonBlockingBookingService, "lookupTimeout", Duration.ofSeconds(2));
+    }
+
+    @Test
+    void testCreateBooking_PersistsWithResolvedCatalog() throws Exception {
+        // Arrange
+        Booking booking = booking();
+        when(catalogClient.findVehicleByName("Volvo")).thenReturn(Mono.just(vehicle));
+        when(catalogClient.findRouteById(7)).thenReturn(Mono.just(route));
+        when(bookingService.createBooking(booking, vehicle, route)).thenReturn(booking);
+
+        // Act
+        Booking created = nonBlockingBookingService.createBooking(booking).get();
+
+        // Assert
+        assertSame(booking, created);
+        verify(bookingService).createBooking(booking, vehicle, route);
+    }
+
+    @Test
+    void testCreateBooking_IdempotencyKeyGoesThroughIdempotencyService() throws Exception {
+        // Arrange
+        Booking booking = booking();
+        when(catalogClient.findVehicleByName("Volvo")).thenReturn(Mono.just(vehicle));
+        when(catalogClient.findRouteById(7)).thenReturn(Mono.just(route));
+        when(idempotencyService.createBooking("key-1", booking, vehicle, route)).thenReturn(booking);
+
+        // Act
+        Booking created = nonBlockingBookingService.createBooking(booking, "key-1").get();
+
+        // Assert
+        assertSame(booking, created);
+        verify(bookingService, never()).createBooking(any(), any(), any());
+    }
+
+    @Test
+    void testCreateBooking_VehicleNotFound() {
+        // Arrange
+        when(catalogClient.findVehicleByName("Volvo")).thenReturn(Mono.empty());
+        when(catalogClient.findRouteById(7)).thenReturn(Mono.just(route));
+
+        // Act
+        CompletableFuture<Booking> result = nonBlockingBookingService.createBooking(booking());
+
+        // Assert
+        ExecutionException e = assertThrows(ExecutionException.class, result::get);
+        assertTrue(e.getCause() instanceof ResourceNotFoundException);
+        verify(bookingService, never()).createBooking(any(), any(), any());
+    }
+
+    @Test
+    void testCreateBooking_PersistenceExecutorSaturated() {
+        // Arrange
+        ReflectionTestUtils.setField(nonBlockingBookingService, "persistenceExecutor", (Executor) task -> {
+            throw new TaskRejectedException("queue full");
+        });
+        when(catalogClient.findVehicleByName("Volvo")).thenReturn(Mono.just(vehicle));
+        when(catalogClient.findRouteById(7)).thenReturn(Mono.just(route));
+
+        // Act
+        CompletableFuture<Booking> result = nonBlockingBookingService.createBooking(booking());
+
+        // Assert
+        ExecutionException e = assertThrows(ExecutionException.class, result::get);
+        assertTrue(e.getCause() instanceof TaskRejectedException);
+    }
+
+    private Booking booking() {
+        Booking booking = new Booking();
+        booking.setVehicleName("Volvo");
+        booking.setRouteId(7);
+        booking.setJourneyDate(LocalDate.now().plusDays(3));
+        booking.setNoOfPassengers(1);
+        return booking;
+    }
+}
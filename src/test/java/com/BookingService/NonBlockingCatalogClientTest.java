@@ -0,0 +1,105 @@
+package com.BookingService;
+
+import com.BookingService.dto.Vehicle;
+import com.BookingService.service.CatalogLookupService;
+import com.BookingService.service.CatalogSnapshotService;
+import com.BookingService.service.NonBlockingCatalogClient;
+
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+public class NonBlockingCatalogClientTest {
+
+    private static final String VEHICLE_JSON = "{\"vehicleNo\":\"KA01AB1234\",\"vehicleName\":\"Volvo\","
+            + "\"seatingCapacity\":%d,\"vehicleType\":\"Sleeper\",\"farePerKm\":2.5}";
+
+    @Mock
+    private CatalogSnapshotService catalogSnapshotService;
+
+    private final AtomicReference<Mono<ClientResponse>> vehicleResponse = new AtomicReference<>();
+    private CacheManager cacheManager;
+    private NonBlockingCatalogClient catalogClient;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        when(catalogSnapshotService.findVehicle(anyString())).thenReturn(Optional.empty());
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        cacheManager = new ConcurrentMapCacheManager(CatalogLookupService.VEHICLES_CACHE, CatalogLookupService.ROUTES_CACHE);
+
+        CatalogLookupService catalogLookupService = new CatalogLookupService();
+        ReflectionTestUtils.setField(catalogLookupService, "meterRegistry", meterRegistry);
+        catalogLookupService.init();
+
+        catalogClient = new NonBlockingCatalogClient();
+        ReflectionTestUtils.setField(catalogClient, "loadBalancedWebClientBuilder",
+                WebClient.builder().exchangeFunction(request -> vehicleResponse.get()));
+        ReflectionTestUtils.setField(catalogClient, "catalogSnapshotService", catalogSnapshotService);
+        ReflectionTestUtils.setField(catalogClient, "catalogLookupService", catalogLookupService);
+        ReflectionTestUtils.setField(catalogClient, "circuitBreakerRegistry", CircuitBreakerRegistry.ofDefaults());
+        ReflectionTestUtils.setField(catalogClient, "bulkheadRegistry", BulkheadRegistry.ofDefaults());
+        ReflectionTestUtils.setField(catalogClient, "cacheManager", cacheManager);
+        ReflectionTestUtils.setField(catalogClient, "meterRegistry", meterRegistry);
+        catalogClient.init();
+    }
+
+    @Test
+    void testFindVehicleByName_FailureServesLastKnownWithoutCachingIt() {
+        // Arrange: fetched once, then evicted, and the vehicle service goes down
+        vehicleResponse.set(Mono.just(vehicle(40)));
+        Vehicle known = catalogClient.findVehicleByName("Volvo").block(Duration.ofSeconds(5));
+        cacheManager.getCache(CatalogLookupService.VEHICLES_CACHE).evict("Volvo");
+        vehicleResponse.set(Mono.error(new IllegalStateException("connection refused")));
+
+        // Act
+        Vehicle fallback = catalogClient.findVehicleByName("Volvo").block(Duration.ofSeconds(5));
+
+        // Assert
+        assertEquals(known, fallback);
+        assertNull(cacheManager.getCache(CatalogLookupService.VEHICLES_CACHE).get("Volvo"));
+        vehicleResponse.set(Mono.just(vehicle(50)));
+        assertEquals(50, catalogClient.findVehicleByName("Volvo").block(Duration.ofSeconds(5)).getSeatingCapacity());
+    }
+
+    @Test
+    void testFindVehicleByName_FailureWithoutLastKnownIsRethrown() {
+        // Arrange
+        vehicleResponse.set(Mono.error(new IllegalStateException("connection refused")));
+
+        // Act & Assert
+        IllegalStateException e = assertThrows(IllegalStateException.class,
+                () -> catalogClient.findVehicleByName("Volvo").block(Duration.ofSeconds(5)));
+        assertEquals("connection refused", e.getMessage());
+    }
+
+    private static ClientResponse vehicle(int seatingCapacity) {
+        return ClientResponse.create(HttpStatus.OK)
+                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .body(String.format(VEHICLE_JSON, seatingCapacity))
+                .build();
+    }
+}
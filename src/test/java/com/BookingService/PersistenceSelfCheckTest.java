@@ -0,0 +1,102 @@
+package com.BookingService;
+
+import com.BookingService.config.PersistenceSelfCheck;
+import com.zaxxer.hikari.HikariDataSource;
+
+import org.hibernate.boot.spi.SessionFactoryOptions;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.id.IdentityGenerator;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
+import org.hibernate.metamodel.spi.MetamodelImplementor;
+import org.hibernate.persister.entity.EntityPersister;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+import javax.persistence.EntityManagerFactory;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+public class PersistenceSelfCheckTest {
+
+    @Mock
+    private EntityManagerFactory entityManagerFactory;
+
+    @Mock
+    private SessionFactoryImplementor sessionFactory;
+
+    @Mock
+    private SessionFactoryOptions options;
+
+    @Mock
+    private MetamodelImplementor metamodel;
+
+    @Mock
+    private EntityPersister bookingPersister;
+
+    @Mock
+    private HikariDataSource dataSource;
+
+    @InjectMocks
+    private PersistenceSelfCheck persistenceSelfCheck;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        when(entityManagerFactory.unwrap(SessionFactoryImplementor.class)).thenReturn(sessionFactory);
+        when(sessionFactory.getSessionFactoryOptions()).thenReturn(options);
+        when(sessionFactory.getMetamodel()).thenReturn(metamodel);
+        when(metamodel.entityPersisters()).thenReturn(Map.of("com.BookingService.entity.Booking", bookingPersister));
+        when(options.getJdbcBatchSize()).thenReturn(50);
+        when(options.isOrderInsertsEnabled()).thenReturn(true);
+        when(dataSource.getJdbcUrl()).thenReturn("jdbc:postgresql://localhost:5432/BookService?reWriteBatchedInserts=true");
+    }
+
+    @Test
+    void testCheck_BatchingEnabled() {
+        // Arrange
+        when(bookingPersister.getIdentifierGenerator()).thenReturn(new SequenceStyleGenerator());
+
+        // Act
+        List<String> problems = persistenceSelfCheck.check();
+
+        // Assert
+        assertTrue(problems.isEmpty());
+    }
+
+    @Test
+    void testCheck_IdentityIdsDisableBatching() {
+        // Arrange
+        when(bookingPersister.getIdentifierGenerator()).thenReturn(new IdentityGenerator());
+
+        // Act
+        List<String> problems = persistenceSelfCheck.check();
+
+        // Assert
+        assertEquals(1, problems.size());
+        assertTrue(problems.get(0).startsWith("com.BookingService.entity.Booking ids are generated by the database"));
+    }
+
+    @Test
+    void testCheck_MissingBatchSizeAndDriverRewrite() {
+        // Arrange
+        when(bookingPersister.getIdentifierGenerator()).thenReturn(new SequenceStyleGenerator());
+        when(options.getJdbcBatchSize()).thenReturn(0);
+        when(dataSource.getJdbcUrl()).thenReturn("jdbc:postgresql://localhost:5432/BookService");
+        when(dataSource.getDataSourceProperties()).thenReturn(new Properties());
+
+        // Act
+        List<String> problems = persistenceSelfCheck.check();
+
+        // Assert
+        assertEquals(List.of("hibernate.jdbc.batch_size is 0",
+                "reWriteBatchedInserts is not set, so the driver sends batched inserts one by one"), problems);
+    }
+}
@@ -0,0 +1,82 @@
+package com.BookingService;
+
+import com.BookingService.config.ReplicaLagMonitor;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+public class ReplicaLagMonitorTest {
+
+    @Mock
+    private JdbcTemplate replica;
+
+    private ReplicaLagMonitor monitor;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        monitor = new ReplicaLagMonitor(replica, Duration.ofSeconds(5), Duration.ofMillis(100), new SimpleMeterRegistry());
+    }
+
+    @AfterEach
+    void tearDown() {
+        monitor.close();
+    }
+
+    @Test
+    void testCheck_CaughtUpReplicaIsUsable() {
+        // Arrange
+        when(replica.queryForObject(anyString(), eq(Double.class))).thenReturn(0.0);
+
+        // Act
+        monitor.check();
+
+        // Assert
+        assertTrue(monitor.isUsable());
+    }
+
+    @Test
+    void testIsUsable_StaleResultIsNotUsable() throws Exception {
+        // Arrange: a check said "lag 0", then no check ran for more than three intervals
+        when(replica.queryForObject(anyString(), eq(Double.class))).thenReturn(0.0);
+        monitor.check();
+
+        // Act
+        Thread.sleep(400);
+
+        // Assert
+        assertFalse(monitor.isUsable());
+        monitor.check();
+        assertTrue(monitor.isUsable());
+    }
+
+    @Test
+    void testStart_ChecksOnItsOwnThreadAndSurvivesFailures() {
+        // Arrange
+        when(replica.queryForObject(anyString(), eq(Double.class)))
+                .thenThrow(new DataAccessResourceFailureException("replica down"))
+                .thenThrow(new IllegalStateException("unexpected"))
+                .thenReturn(0.0);
+
+        // Act
+        monitor.start();
+
+        // Assert: a fourth check only starts once the third has recorded its result
+        verify(replica, timeout(2000).atLeast(4)).queryForObject(anyString(), eq(Double.class));
+        assertTrue(monitor.isUsable());
+    }
+}
@@ -0,0 +1,127 @@
+package com.BookingService;
+
+import com.BookingService.config.ReplicaLagMonitor;
+import com.BookingService.config.ReplicaRoutingDataSource;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Connection;
+import java.sql.SQLTransientConnectionException;
+
+import javax.sql.DataSource;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+public class ReplicaRoutingDataSourceTest {
+
+    @Mock
+    private DataSource primary;
+
+    @Mock
+    private DataSource replica;
+
+    @Mock
+    private ReplicaLagMonitor replicaLagMonitor;
+
+    @Mock
+    private Connection primaryConnection;
+
+    @Mock
+    private Connection replicaConnection;
+
+    private SimpleMeterRegistry meterRegistry;
+    private ReplicaRoutingDataSource routingDataSource;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        MockitoAnnotations.openMocks(this);
+        meterRegistry = new SimpleMeterRegistry();
+        routingDataSource = new ReplicaRoutingDataSource(primary, replica, replicaLagMonitor, meterRegistry);
+        when(primary.getConnection()).thenReturn(primaryConnection);
+        when(replica.getConnection()).thenReturn(replicaConnection);
+        when(replicaLagMonitor.isUsable()).thenReturn(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+    }
+
+    @Test
+    void testGetConnection_WritesUsePrimary() throws Exception {
+        // Act
+        Connection connection = routingDataSource.getConnection();
+
+        // Assert
+        assertSame(primaryConnection, connection);
+        verify(replica, never()).getConnection();
+    }
+
+    @Test
+    void testGetConnection_ReadOnlyTransactionUsesReplica() throws Exception {
+        // Arrange
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        // Act
+        Connection connection = routingDataSource.getConnection();
+
+        // Assert
+        assertSame(replicaConnection, connection);
+        assertEquals(1.0, meterRegistry.counter("booking.datasource.route", "route", "replica", "reason", "read_only").count());
+    }
+
+    @Test
+    void testGetConnection_LaggingReplicaIsSkipped() throws Exception {
+        // Arrange
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        when(replicaLagMonitor.isUsable()).thenReturn(false);
+
+        // Act
+        Connection connection = routingDataSource.getConnection();
+
+        // Assert
+        assertSame(primaryConnection, connection);
+        verify(replica, never()).getConnection();
+    }
+
+    @Test
+    void testGetConnection_FallsBackToPrimaryWhenReplicaIsDown() throws Exception {
+        // Arrange
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        when(replica.getConnection()).thenThrow(new SQLTransientConnectionException("Connection is not available"));
+
+        // Act
+        Connection connection = routingDataSource.getConnection();
+
+        // Assert
+        assertSame(primaryConnection, connection);
+        verify(replicaLagMonitor).markUnavailable();
+        assertEquals(1.0, meterRegistry.counter("booking.datasource.route", "route", "primary", "reason", "replica_unavailable").count());
+    }
+
+    @Test
+    void testGetConnectionWithCredentials_RoutesLikeDefaultCredentials() throws Exception {
+        // Arrange
+        when(primary.getConnection("reporting", "secret")).thenReturn(primaryConnection);
+        when(replica.getConnection("reporting", "secret")).thenReturn(replicaConnection);
+
+        // Act
+        Connection write = routingDataSource.getConnection("reporting", "secret");
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        Connection read = routingDataSource.getConnection("reporting", "secret");
+
+        // Assert
+        assertSame(primaryConnection, write);
+        assertSame(replicaConnection, read);
+        verify(primary, never()).getConnection();
+        verify(replica, never()).getConnection();
+    }
+}
@@ -0,0 +1,186 @@
+package com.BookingService;
+
+import com.BookingService.entity.BookingStatus;
+import com.BookingService.entity.SeatInventory;
+import com.BookingService.entity.SeatInventoryId;
+import com.BookingService.exception.SeatsUnavailableException;
+import com.BookingService.repository.SeatInventoryRepository;
+import com.BookingService.service.SeatInventoryService;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+public class SeatInventoryServiceTest {
+
+    private static final LocalDate JOURNEY_DATE = LocalDate.now().plusDays(7);
+
+    @Mock
+    private SeatInventoryRepository seatInventoryRepository;
+
+    @InjectMocks
+    private SeatInventoryService seatInventoryService;
+
+    // Stands in for the seat_inventory table
+    private final Map<SeatInventoryId, SeatInventory> rows = new ConcurrentHashMap<>();
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        ReflectionTestUtils.setField(seatInventoryService, "maxRetries", 5);
+        when(seatInventoryRepository.findById(any())).thenAnswer(invocation -> {
+            SeatInventory row = rows.get(invocation.getArgument(0));
+            return Optional.ofNullable(row == null ? null
+                    : new SeatInventory(row.getVehicleNo(), row.getJourneyDate(), row.getCapacity(),
+                            row.getReservedSeats(), row.getVersion()));
+        });
+        // Versioned like the real row: a save based on a stale read fails
+        when(seatInventoryRepository.save(any())).thenAnswer(invocation -> {
+            SeatInventory row = invocation.getArgument(0);
+            SeatInventoryId id = new SeatInventoryId(row.getVehicleNo(), row.getJourneyDate());
+            synchronized (rows) {
+                SeatInventory stored = rows.get(id);
+                if (stored == null ? row.getVersion() != null : !stored.getVersion().equals(row.getVersion())) {
+                    throw new OptimisticLockingFailureException("Seat inventory " + id + " was updated concurrently");
+                }
+                SeatInventory saved = new SeatInventory(row.getVehicleNo(), row.getJourneyDate(), row.getCapacity(),
+                        row.getReservedSeats(), row.getVersion() == null ? 0L : row.getVersion() + 1);
+                rows.put(id, saved);
+                return saved;
+            }
+        });
+    }
+
+    @Test
+    void reserve_ConcurrentRequestsNeverOversell() throws Exception {
+        // Every request on one row: allow enough optimistic retries that none gives up
+        ReflectionTestUtils.setField(seatInventoryService, "maxRetries", 1000);
+        int capacity = 50;
+        int requests = 400;
+        ExecutorService executor = Executors.newFixedThreadPool(32);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger confirmed = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+
+        for (int i = 0; i < requests; i++) {
+            executor.execute(() -> {
+                try {
+                    start.await();
+                    seatInventoryService.reserve("AP36AL3691", JOURNEY_DATE, capacity, 1);
+                    confirmed.incrementAndGet();
+                } catch (SeatsUnavailableException e) {
+                    rejected.incrementAndGet();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+        }
+        start.countDown();
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(30, TimeUnit.SECONDS));
+
+        assertEquals(capacity, confirmed.get());
+        assertEquals(requests - capacity, rejected.get());
+        assertEquals(0, seatInventoryService.getRemainingSeats("AP36AL3691", JOURNEY_DATE, capacity));
+    }
+
+    @Test
+    void reserve_RejectsWhenDurableCounterIsFull() {
+        // Another instance has already sold the remaining seats
+        rows.put(new SeatInventoryId("AP36AL3691", JOURNEY_DATE),
+                new SeatInventory("AP36AL3691", JOURNEY_DATE, 10, 9, 3L));
+
+        assertThrows(SeatsUnavailableException.class,
+                () -> seatInventoryService.reserve("AP36AL3691", JOURNEY_DATE, 10, 2));
+        verify(seatInventoryRepository, never()).save(any());
+    }
+
+    @Test
+    void release_ReturnsSeatsToInventory() {
+        seatInventoryService.reserve("AP36AL3691", JOURNEY_DATE, 4, 4);
+        assertThrows(SeatsUnavailableException.class,
+                () -> seatInventoryService.reserve("AP36AL3691", JOURNEY_DATE, 4, 1));
+
+        seatInventoryService.release("AP36AL3691", JOURNEY_DATE, 2);
+
+        assertEquals(2, seatInventoryService.getRemainingSeats("AP36AL3691", JOURNEY_DATE, 4));
+        assertEquals(2, rows.get(new SeatInventoryId("AP36AL3691", JOURNEY_DATE)).getReservedSeats());
+    }
+
+    @Test
+    void reserve_SeesSeatsReleasedByAnotherInstance() {
+        seatInventoryService.reserve("AP36AL3691", JOURNEY_DATE, 4, 4);
+        // Another instance cancels three of the bookings; only the table row changes
+        rows.put(new SeatInventoryId("AP36AL3691", JOURNEY_DATE),
+                new SeatInventory("AP36AL3691", JOURNEY_DATE, 4, 1, 5L));
+
+        seatInventoryService.reserve("AP36AL3691", JOURNEY_DATE, 4, 2);
+
+        assertEquals(3, rows.get(new SeatInventoryId("AP36AL3691", JOURNEY_DATE)).getReservedSeats());
+        assertEquals(1, seatInventoryService.getRemainingSeats("AP36AL3691", JOURNEY_DATE, 4));
+    }
+
+    @Test
+    void reserve_ReloadsCounterWhenAnotherInstanceSoldTheSeats() {
+        assertEquals(10, seatInventoryService.getRemainingSeats("AP36AL3691", JOURNEY_DATE, 10));
+        // Another instance sells nine seats behind this instance's counter
+        rows.put(new SeatInventoryId("AP36AL3691", JOURNEY_DATE),
+                new SeatInventory("AP36AL3691", JOURNEY_DATE, 10, 9, 3L));
+
+        assertThrows(SeatsUnavailableException.class,
+                () -> seatInventoryService.reserve("AP36AL3691", JOURNEY_DATE, 10, 2));
+
+        assertEquals(1, seatInventoryService.getRemainingSeats("AP36AL3691", JOURNEY_DATE, 10));
+        seatInventoryService.reserve("AP36AL3691", JOURNEY_DATE, 10, 1);
+        assertEquals(10, rows.get(new SeatInventoryId("AP36AL3691", JOURNEY_DATE)).getReservedSeats());
+    }
+
+    @Test
+    void reserveAndRelease_RejectNonPositiveSeatCounts() {
+        seatInventoryService.reserve("AP36AL3691", JOURNEY_DATE, 4, 2);
+
+        assertThrows(IllegalArgumentException.class,
+                () -> seatInventoryService.reserve("AP36AL3691", JOURNEY_DATE, 4, 0));
+        assertThrows(IllegalArgumentException.class,
+                () -> seatInventoryService.reserve("AP36AL3691", JOURNEY_DATE, 4, -1));
+        assertThrows(IllegalArgumentException.class,
+                () -> seatInventoryService.release("AP36AL3691", JOURNEY_DATE, 0));
+        assertThrows(IllegalArgumentException.class,
+                () -> seatInventoryService.release("AP36AL3691", JOURNEY_DATE, -1));
+
+        assertEquals(2, seatInventoryService.getRemainingSeats("AP36AL3691", JOURNEY_DATE, 4));
+        assertEquals(2, rows.get(new SeatInventoryId("AP36AL3691", JOURNEY_DATE)).getReservedSeats());
+    }
+
+    @Test
+    void reserve_NewRowStartsFromExistingUpcomingBookings() {
+        // Six seats were booked before the trip had an inventory row
+        when(seatInventoryRepository.sumBookedSeats("AP36AL3691", JOURNEY_DATE, BookingStatus.UPCOMING))
+                .thenReturn(6L);
+
+        assertEquals(4, seatInventoryService.getRemainingSeats("AP36AL3691", JOURNEY_DATE, 10));
+        seatInventoryService.reserve("AP36AL3691", JOURNEY_DATE, 10, 3);
+
+        assertEquals(9, rows.get(new SeatInventoryId("AP36AL3691", JOURNEY_DATE)).getReservedSeats());
+        assertThrows(SeatsUnavailableException.class,
+                () -> seatInventoryService.reserve("AP36AL3691", JOURNEY_DATE, 10, 2));
+    }
+}